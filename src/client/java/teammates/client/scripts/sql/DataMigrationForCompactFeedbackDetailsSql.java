@@ -0,0 +1,119 @@
+package teammates.client.scripts.sql;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.query.NativeQuery;
+
+import teammates.client.connector.DatastoreClient;
+import teammates.client.util.ClientProperties;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.BaseEntity.FeedbackQuestionDetailsConverter;
+import teammates.storage.sqlentity.BaseEntity.FeedbackResponseDetailsConverter;
+
+/**
+ * Re-encodes the details of all feedback questions and responses into compact JSON.
+ *
+ * <p>Details written before the converters switched to compact JSON are stored pretty-printed.
+ * Only the ID and the raw details of each row are read, and rows which are already compact are skipped.
+ * Each row is updated only if its details are still the ones that were read,
+ * so that a concurrent edit is never overwritten with stale details.
+ * As the converters accept both encodings when reading, this script can be run in the background
+ * while the application is serving requests. Rows are scanned in batches ordered by ID.
+ */
+public final class DataMigrationForCompactFeedbackDetailsSql extends DatastoreClient {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final FeedbackQuestionDetailsConverter questionDetailsConverter = new FeedbackQuestionDetailsConverter();
+    private final FeedbackResponseDetailsConverter responseDetailsConverter = new FeedbackResponseDetailsConverter();
+
+    private DataMigrationForCompactFeedbackDetailsSql() {
+        String connectionUrl = ClientProperties.SCRIPT_API_URL;
+        String username = ClientProperties.SCRIPT_API_NAME;
+        String password = ClientProperties.SCRIPT_API_PASSWORD;
+
+        HibernateUtil.buildSessionFactory(connectionUrl, username, password);
+    }
+
+    public static void main(String[] args) {
+        new DataMigrationForCompactFeedbackDetailsSql().doOperationRemotely();
+    }
+
+    /**
+     * If true, the script only counts the rows to be re-encoded.
+     */
+    private boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected void doOperation() {
+        reencodeDetails("feedback_questions", "question_details", details -> questionDetailsConverter
+                .convertToDatabaseColumn(questionDetailsConverter.convertToEntityAttribute(details)));
+        reencodeDetails("feedback_responses", "answer", details -> responseDetailsConverter
+                .convertToDatabaseColumn(responseDetailsConverter.convertToEntityAttribute(details)));
+    }
+
+    private void reencodeDetails(String tableName, String detailsColumn, UnaryOperator<String> reencoder) {
+        long numberOfRowsScanned = 0;
+        long numberOfRowsToReencode = 0;
+        long numberOfRowsReencoded = 0;
+        UUID lastId = null;
+        while (true) {
+            HibernateUtil.beginTransaction();
+            List<Object[]> rows = getBatch(tableName, detailsColumn, lastId);
+            for (Object[] row : rows) {
+                UUID id = (UUID) row[0];
+                String originalDetails = (String) row[1];
+                String compactDetails = reencoder.apply(originalDetails);
+                if (compactDetails.equals(originalDetails)) {
+                    continue;
+                }
+                numberOfRowsToReencode++;
+                if (!isPreview()) {
+                    numberOfRowsReencoded += updateDetails(tableName, detailsColumn, id, originalDetails, compactDetails);
+                }
+            }
+            HibernateUtil.commitTransaction();
+
+            if (rows.isEmpty()) {
+                break;
+            }
+            numberOfRowsScanned += rows.size();
+            lastId = (UUID) rows.get(rows.size() - 1)[0];
+            System.out.println(String.format("%s: %d rows scanned, %d to be re-encoded, %d re-encoded",
+                    tableName, numberOfRowsScanned, numberOfRowsToReencode, numberOfRowsReencoded));
+        }
+    }
+
+    private List<Object[]> getBatch(String tableName, String detailsColumn, UUID lastId) {
+        String sql = "SELECT id, " + detailsColumn + " FROM " + tableName
+                + (lastId == null ? "" : " WHERE id > :lastId")
+                + " ORDER BY id";
+
+        NativeQuery<Object[]> query = HibernateUtil.createNativeQuery(sql, Object[].class).setMaxResults(BATCH_SIZE);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Replaces the details of the row with {@code compactDetails}, only if its details are still {@code originalDetails}.
+     *
+     * @return the number of rows updated, which is 0 if the details were changed after they were read
+     */
+    private int updateDetails(String tableName, String detailsColumn, UUID id,
+            String originalDetails, String compactDetails) {
+        String sql = "UPDATE " + tableName + " SET " + detailsColumn + " = :compactDetails"
+                + " WHERE id = :id AND " + detailsColumn + " = :originalDetails";
+
+        return HibernateUtil.createNativeMutationQuery(sql)
+                .setParameter("compactDetails", compactDetails)
+                .setParameter("id", id)
+                .setParameter("originalDetails", originalDetails)
+                .executeUpdate();
+    }
+}
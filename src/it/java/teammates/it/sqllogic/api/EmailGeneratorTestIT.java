@@ -1,12 +1,15 @@
 package teammates.it.sqllogic.api;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.util.Config;
@@ -15,6 +18,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TimeHelper;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.sqllogic.api.Logic;
 import teammates.sqllogic.api.SqlEmailGenerator;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Student;
@@ -147,4 +151,47 @@ public class EmailGeneratorTestIT extends BaseTestCaseWithSqlDatabaseAccess {
         // check email body for no left placeholders
         assertFalse(emailContent.contains("${"));
     }
+
+    @Test
+    public void testGenerateFeedbackSessionEmails_placeholdersInSessionInstructions_notPopulated() {
+        FeedbackSession fs = dataBundle.feedbackSessions.get("session1InCourse3");
+        FeedbackSession session = Logic.inst().getFeedbackSession(fs.getName(), fs.getCourseId());
+        session.setInstructions("Please address ${userName} and ${submitUrl}.");
+
+        FeedbackSessionEmailBatch emailBatch =
+                emailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_OPENED);
+        List<EmailWrapper> emails = emailGenerator.generateFeedbackSessionEmails(session, emailBatch);
+
+        assertFalse(emails.isEmpty());
+        for (EmailWrapper email : emails) {
+            assertTrue(email.getContent().contains("Please address ${userName} and ${submitUrl}."));
+        }
+    }
+
+    @Test
+    public void testGenerateFeedbackSessionEmails_splitEmailBatch_sameAsWholeBatch() {
+        FeedbackSession fs = dataBundle.feedbackSessions.get("session1InCourse3");
+        FeedbackSession session = Logic.inst().getFeedbackSession(fs.getName(), fs.getCourseId());
+
+        for (EmailType emailType : List.of(EmailType.FEEDBACK_OPENED, EmailType.FEEDBACK_CLOSING_SOON,
+                EmailType.FEEDBACK_PUBLISHED, EmailType.FEEDBACK_UNPUBLISHED)) {
+            ______TS(emailType.name());
+
+            FeedbackSessionEmailBatch emailBatch = emailGenerator.generateFeedbackSessionEmailBatch(session, emailType);
+            List<EmailWrapper> expectedEmails = emailGenerator.generateFeedbackSessionEmails(session, emailBatch);
+            assertEquals(emailBatch.size(), expectedEmails.size());
+
+            List<EmailWrapper> actualEmails = new ArrayList<>();
+            for (FeedbackSessionEmailBatch batch : emailBatch.split(2)) {
+                actualEmails.addAll(emailGenerator.generateFeedbackSessionEmails(session, batch));
+            }
+            assertEquals(expectedEmails.size(), actualEmails.size());
+            for (int i = 0; i < expectedEmails.size(); i++) {
+                assertEquals(expectedEmails.get(i).getRecipient(), actualEmails.get(i).getRecipient());
+                assertEquals(expectedEmails.get(i).getIsCopy(), actualEmails.get(i).getIsCopy());
+                assertEquals(expectedEmails.get(i).getSubject(), actualEmails.get(i).getSubject());
+                assertEquals(expectedEmails.get(i).getContent(), actualEmails.get(i).getContent());
+            }
+        }
+    }
 }
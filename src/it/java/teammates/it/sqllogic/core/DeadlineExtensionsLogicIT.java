@@ -1,6 +1,8 @@
 package teammates.it.sqllogic.core;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -11,6 +13,7 @@ import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.DeadlineExtensionsLogic;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
 
 /**
@@ -57,4 +60,21 @@ public class DeadlineExtensionsLogicIT extends BaseTestCaseWithSqlDatabaseAccess
 
         assertNull(extendedDeadlineForStudent);
     }
+
+    @Test
+    public void testGetExtendedDeadlinesForSession() {
+        FeedbackSession feedbackSession = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Student student = typicalDataBundle.students.get("student1InCourse1");
+        Instructor instructor = typicalDataBundle.instructors.get("instructor1OfCourse1");
+
+        Map<UUID, Instant> extendedDeadlines = deadlineExtensionsLogic.getExtendedDeadlinesForSession(feedbackSession);
+
+        assertEquals(Map.of(student.getId(), Instant.parse("2027-04-30T23:00:00Z"),
+                instructor.getId(), Instant.parse("2027-04-30T23:00:00Z")), extendedDeadlines);
+
+        ______TS("session without deadline extensions");
+
+        FeedbackSession sessionWithoutExtensions = typicalDataBundle.feedbackSessions.get("session2InTypicalCourse");
+        assertTrue(deadlineExtensionsLogic.getExtendedDeadlinesForSession(sessionWithoutExtensions).isEmpty());
+    }
 }
@@ -1,20 +1,35 @@
 package teammates.it.sqllogic.core;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.sqllogic.core.FeedbackSessionsLogic;
+import teammates.sqllogic.core.UsersLogic;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
 
 /**
  * SUT: {@link FeedbackResponsesLogic}.
@@ -22,6 +37,9 @@ import teammates.storage.sqlentity.Section;
 public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final UsersLogic usersLogic = UsersLogic.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -131,4 +149,120 @@ public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess
         }
         assertEquals(fr.getGiver(), newGiver);
     }
+
+    @Test
+    public void testGetSessionResultsForUser_moreQuestionsInSession_queryCountDoesNotIncrease() throws Exception {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourse().getId();
+        Student student = typicalDataBundle.students.get("student1InCourse1");
+        Instructor instructor = typicalDataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("baseline: session with questions of every visibility kind");
+        addTextQuestionsToSession(session.getId(), 10, 2);
+
+        long studentQueryCount = countQueriesForSessionResults(session.getId(), courseId, student.getEmail(), false);
+        long instructorQueryCount =
+                countQueriesForSessionResults(session.getId(), courseId, instructor.getEmail(), true);
+
+        ______TS("more questions in session: query count stays the same");
+        addTextQuestionsToSession(session.getId(), 12, 20);
+
+        assertEquals(studentQueryCount,
+                countQueriesForSessionResults(session.getId(), courseId, student.getEmail(), false));
+        assertEquals(instructorQueryCount,
+                countQueriesForSessionResults(session.getId(), courseId, instructor.getEmail(), true));
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingEmail_manyResponses_updatedWithoutLoadingResponses()
+            throws Exception {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourse().getId();
+        Student student = usersLogic.getStudentForEmail(courseId,
+                typicalDataBundle.students.get("student1InCourse1").getEmail());
+        String newEmail = "new-email@teammates.tmt";
+
+        addTextQuestionsToSession(session.getId(), 12, 30);
+        List<FeedbackQuestion> questions =
+                fqLogic.getFeedbackQuestionsForSession(fsLogic.getFeedbackSession(session.getId()));
+        for (FeedbackQuestion question : questions) {
+            if (question.getQuestionNumber() >= 12) {
+                frLogic.createFeedbackResponse(FeedbackResponse.makeResponse(question,
+                        student.getEmail(), student.getSection(), student.getEmail(), student.getSection(),
+                        new FeedbackTextResponseDetails("Answer " + question.getQuestionNumber())));
+            }
+        }
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        List<FeedbackResponse> responses = frLogic.getFeedbackResponsesFromGiverForCourse(courseId, student.getEmail());
+        assertTrue(responses.size() > 30);
+
+        ______TS("givers and recipients are updated with one statement each");
+        long numberOfStatements = countPreparedStatements(() -> {
+            try {
+                frLogic.updateFeedbackResponsesForChangingEmail(courseId, student.getEmail(), newEmail);
+            } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertEquals(2, numberOfStatements);
+
+        ______TS("responses loaded before the update are read again with the new email");
+        FeedbackResponse response = frLogic.getFeedbackResponse(responses.get(0).getId());
+        assertEquals(newEmail, response.getGiver());
+        assertEquals(newEmail, response.getRecipient());
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(courseId, student.getEmail()).isEmpty());
+        assertEquals(responses.size(), frLogic.getFeedbackResponsesFromGiverForCourse(courseId, newEmail).size());
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingSection_responsesAndCommentsUpdated() throws Exception {
+        FeedbackResponse fr = frLogic.getFeedbackResponse(
+                typicalDataBundle.feedbackResponses.get("response1ForQ1").getId());
+        Course course = fr.getFeedbackQuestion().getCourse();
+        Section newSection = typicalDataBundle.sections.get("section2InCourse1");
+        assertNotEquals(newSection.getId(), fr.getGiverSection().getId());
+        assertFalse(frcLogic.getFeedbackResponseCommentsForResponse(fr.getId()).isEmpty());
+
+        frLogic.updateFeedbackResponsesForChangingSection(course, fr.getGiver(), newSection);
+
+        FeedbackResponse updatedResponse = frLogic.getFeedbackResponse(fr.getId());
+        assertEquals(newSection.getId(), updatedResponse.getGiverSection().getId());
+        for (FeedbackResponseComment comment : frcLogic.getFeedbackResponseCommentsForResponse(fr.getId())) {
+            assertEquals(newSection.getId(), comment.getGiverSection().getId());
+        }
+    }
+
+    private long countQueriesForSessionResults(
+            UUID sessionId, String courseId, String userEmail, boolean isInstructor) {
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+        FeedbackSession session = fsLogic.getFeedbackSession(sessionId);
+        return countPreparedStatements(() -> frLogic.getSessionResultsForUser(
+                session, courseId, userEmail, isInstructor, null, false));
+    }
+
+    /**
+     * Adds text questions to the session, alternating between questions whose responses are
+     * visible to all students and questions whose responses are only visible to the recipient's team.
+     */
+    private void addTextQuestionsToSession(UUID sessionId, int startingQuestionNumber, int numberOfQuestions)
+            throws Exception {
+        FeedbackSession session = fsLogic.getFeedbackSession(sessionId);
+        for (int i = 0; i < numberOfQuestions; i++) {
+            List<FeedbackParticipantType> showTos = new ArrayList<>();
+            showTos.add(FeedbackParticipantType.RECEIVER);
+            showTos.add(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+            showTos.add(FeedbackParticipantType.INSTRUCTORS);
+            if (i % 2 == 0) {
+                showTos.add(FeedbackParticipantType.STUDENTS);
+            }
+            FeedbackQuestion question = FeedbackQuestion.makeQuestion(session, startingQuestionNumber + i,
+                    "Additional question " + i, FeedbackParticipantType.STUDENTS,
+                    FeedbackParticipantType.OWN_TEAM_MEMBERS, -100, showTos, showTos, showTos,
+                    new FeedbackTextQuestionDetails("Additional question text " + i));
+            fqLogic.createFeedbackQuestion(question);
+        }
+    }
 }
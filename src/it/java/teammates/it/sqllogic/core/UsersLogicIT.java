@@ -1,5 +1,8 @@
 package teammates.it.sqllogic.core;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -9,8 +12,11 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.InstructorPermissions;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.AccountsLogic;
+import teammates.sqllogic.core.CourseRosterCache;
 import teammates.sqllogic.core.CoursesLogic;
 import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Account;
@@ -125,6 +131,70 @@ public class UsersLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(anotherAccount, accountsLogic.getAccountForGoogleId(googleId));
     }
 
+    @Test
+    public void testCreateStudent_cachedRolesInvalidatedWhenTransactionCompleted()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Account newAccount = new Account("UsersLogicIT.roleCacheUser", "Role Cache User", "rolecache@teammates.tmt");
+        accountsLogic.createAccount(newAccount);
+        Student student = getTypicalStudent();
+        student.setCourse(course);
+        student.setAccount(newAccount);
+        String googleId = newAccount.getGoogleId();
+
+        UserRoleCache userRoleCache = UserRoleCache.inst();
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<UserRoleCache.UserRoles> loader = () -> {
+            loadCount.incrementAndGet();
+            return new UserRoleCache.UserRoles(usersLogic.isInstructorInAnyCourse(googleId),
+                    usersLogic.isStudentInAnyCourse(googleId));
+        };
+
+        assertFalse(userRoleCache.getOrLoad(googleId, loader).isStudent());
+        assertEquals(1, loadCount.get());
+
+        ______TS("invalidation is deferred while the transaction is active");
+        usersLogic.createStudent(student);
+
+        assertFalse(userRoleCache.getOrLoad(googleId, loader).isStudent());
+        assertEquals(1, loadCount.get());
+
+        ______TS("roles are loaded again after the transaction is completed");
+        HibernateUtil.rollbackTransaction();
+        HibernateUtil.beginTransaction();
+
+        userRoleCache.getOrLoad(googleId, loader);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testCreateStudent_courseRosterReloadedWithinAndAfterTransaction()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Student student = getTypicalStudent();
+        student.setCourse(course);
+        String courseId = course.getId();
+
+        CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+        long missCount = courseRosterCache.getMissCount();
+
+        assertNull(usersLogic.getCourseRoster(courseId).getStudentForEmail(student.getEmail()));
+        usersLogic.getCourseRoster(courseId);
+        assertEquals(missCount + 1, courseRosterCache.getMissCount());
+
+        ______TS("cache is bypassed in the transaction which wrote the roster");
+        usersLogic.createStudent(student);
+
+        assertNotNull(usersLogic.getCourseRoster(courseId).getStudentForEmail(student.getEmail()));
+        assertNotNull(usersLogic.getCourseRoster(courseId).getStudentForEmail(student.getEmail()));
+        assertEquals(missCount + 3, courseRosterCache.getMissCount());
+
+        ______TS("roster is loaded again after the transaction is completed");
+        HibernateUtil.rollbackTransaction();
+        HibernateUtil.beginTransaction();
+
+        assertNull(usersLogic.getCourseRoster(courseId).getStudentForEmail(student.getEmail()));
+        assertEquals(missCount + 4, courseRosterCache.getMissCount());
+    }
+
     @Test
     public void testUpdateToEnsureValidityOfInstructorsForTheCourse() {
         Instructor instructor = getTypicalInstructor();
@@ -8,6 +8,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.AccountRequestStatus;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.AccountRequestsDb;
 import teammates.storage.sqlentity.AccountRequest;
@@ -90,6 +91,37 @@ public class AccountRequestsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(expectedAccountRequest, actualAccountRequest);
     }
 
+    @Test
+    public void testGetAccountRequests_mixedIds_getsExistingOnes() throws InvalidParametersException {
+        AccountRequest first =
+                new AccountRequest("first@gmail.com", "name", "institute", AccountRequestStatus.PENDING, "comments");
+        AccountRequest second =
+                new AccountRequest("second@gmail.com", "name", "institute", AccountRequestStatus.PENDING, "comments");
+        accountRequestDb.createAccountRequest(first);
+        accountRequestDb.createAccountRequest(second);
+
+        List<AccountRequest> actualAccountRequests =
+                accountRequestDb.getAccountRequests(List.of(first.getId(), UUID.randomUUID(), second.getId()));
+
+        assertEquals(2, actualAccountRequests.size());
+        assertTrue(actualAccountRequests.contains(first));
+        assertTrue(actualAccountRequests.contains(second));
+
+        ______TS("all requested account requests are fetched with one statement");
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+        long numStatements = countPreparedStatements(() -> {
+            List<AccountRequest> accountRequests =
+                    accountRequestDb.getAccountRequests(List.of(first.getId(), second.getId()));
+            assertEquals(2, accountRequests.size());
+        });
+        assertEquals(1L, numStatements);
+
+        ______TS("no id given, no statement issued");
+        numStatements = countPreparedStatements(() -> assertTrue(accountRequestDb.getAccountRequests(List.of()).isEmpty()));
+        assertEquals(0L, numStatements);
+    }
+
     @Test
     public void testUpdateAccountRequest() throws Exception {
         ______TS("Update account request, does not exists, exception thrown");
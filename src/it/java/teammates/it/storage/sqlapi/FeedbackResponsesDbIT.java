@@ -2,7 +2,9 @@ package teammates.it.storage.sqlapi;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -67,6 +69,33 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedQuestions.containsAll(actualQuestions));
     }
 
+    @Test
+    public void testUpsertFeedbackResponses() throws Exception {
+        ______TS("success: responses created and updated together");
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn4InSession1InCourse1");
+        Section s = testDataBundle.sections.get("section1InCourse1");
+        FeedbackResponse newFr1 = new FeedbackTextResponse(fq, "student1@teammates.tmt", s,
+                "student1@teammates.tmt", s, new FeedbackTextResponseDetails("new answer 1"));
+        FeedbackResponse newFr2 = new FeedbackTextResponse(fq, "student1@teammates.tmt", s,
+                "student2@teammates.tmt", s, new FeedbackTextResponseDetails("new answer 2"));
+
+        FeedbackResponse existingFr = frDb.getFeedbackResponse(
+                testDataBundle.feedbackResponses.get("response1ForQ1").getId());
+        FeedbackResponse updatedFr = FeedbackResponse.updateResponse(existingFr, existingFr.getFeedbackQuestion(),
+                existingFr.getGiver(), existingFr.getGiverSection(), existingFr.getRecipient(),
+                existingFr.getRecipientSection(), new FeedbackTextResponseDetails("updated answer"));
+
+        frDb.upsertFeedbackResponses(List.of(newFr1, newFr2), List.of(updatedFr));
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        List<FeedbackResponse> createdResponses =
+                frDb.getFeedbackResponsesFromGiverForQuestion(fq.getId(), "student1@teammates.tmt");
+        assertEquals(2, createdResponses.size());
+        assertEquals("updated answer",
+                frDb.getFeedbackResponse(existingFr.getId()).getFeedbackResponseDetailsCopy().getAnswerString());
+    }
+
     @Test
     public void testDeleteFeedbackResponsesForQuestionCascade() {
         ______TS("success: typical case");
@@ -140,6 +169,44 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(actual);
     }
 
+    @Test
+    public void testGetGiversForSession() {
+        ______TS("success: typical case");
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        Set<String> expectedGivers = frDb.getFeedbackResponsesForSession(fs, course.getId()).stream()
+                .map(FeedbackResponse::getGiver)
+                .collect(Collectors.toSet());
+
+        assertFalse(expectedGivers.isEmpty());
+        assertEquals(expectedGivers, frDb.getGiversForSession(fs.getId()));
+
+        ______TS("session with no responses");
+        FeedbackSession fsWithNoResponses = testDataBundle.feedbackSessions.get("ongoingSession1InCourse3");
+
+        assertTrue(frDb.getGiversForSession(fsWithNoResponses.getId()).isEmpty());
+    }
+
+    @Test
+    public void testGetNumOfGiversForSession() {
+        ______TS("success: typical case");
+        Course course = testDataBundle.courses.get("course1");
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+
+        long expectedNumOfGivers = frDb.getFeedbackResponsesForSession(fs, course.getId()).stream()
+                .map(FeedbackResponse::getGiver)
+                .distinct()
+                .count();
+
+        assertEquals(expectedNumOfGivers, frDb.getNumOfGiversForSession(fs.getId()));
+
+        ______TS("session with no responses");
+        FeedbackSession fsWithNoResponses = testDataBundle.feedbackSessions.get("ongoingSession1InCourse3");
+
+        assertEquals(0L, frDb.getNumOfGiversForSession(fsWithNoResponses.getId()));
+    }
+
     private FeedbackResponse prepareSqlInjectionTest() {
         FeedbackResponse fr = testDataBundle.feedbackResponses.get("response1ForQ1");
         assertNotNull(frDb.getFeedbackResponse(fr.getId()));
@@ -0,0 +1,173 @@
+package teammates.it.storage.sqlapi;
+
+import java.sql.SQLException;
+
+import org.testng.annotations.Test;
+
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+
+/**
+ * Verifies that the hot queries issued by the classes in {@code teammates.storage.sqlapi}
+ * are served by indexes instead of sequential scans.
+ *
+ * <p>The SQL below mirrors the shape of the criteria queries. When a criteria query changes its filters,
+ * the corresponding SQL here should be updated, together with the indexes declared in the entities
+ * and in the Liquibase changelog.
+ */
+public class QueryPlansIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private static final String SOME_UUID = "'00000000-0000-0000-0000-000000000000'";
+
+    @Test
+    public void testUsersQueries() throws SQLException {
+        ______TS("users in course");
+        verifyUsesIndex("SELECT * FROM users u JOIN students s ON s.id = u.id WHERE u.course_id = 'course'",
+                "idx_users_course_id");
+
+        ______TS("user by registration key");
+        verifyUsesIndex("SELECT * FROM users u WHERE u.reg_key = 'key'", "idx_users_reg_key");
+
+        ______TS("users of account");
+        verifyUsesIndex("SELECT * FROM users u WHERE u.account_id = " + SOME_UUID, "idx_users_account_id");
+        verifyNoSequentialScan("SELECT u.* FROM users u JOIN accounts a ON u.account_id = a.id "
+                + "WHERE a.google_id = 'googleId'");
+
+        ______TS("students in team");
+        verifyUsesIndex("SELECT * FROM users u WHERE u.team_id = " + SOME_UUID, "idx_users_team_id");
+    }
+
+    @Test
+    public void testAccountsQueries() throws SQLException {
+        ______TS("accounts by email");
+        verifyUsesIndex("SELECT * FROM accounts a WHERE a.email = 'email@example.com'", "idx_accounts_email");
+
+        ______TS("pending account requests");
+        verifyUsesIndex("SELECT * FROM account_requests ar WHERE ar.status = 'PENDING' ORDER BY ar.created_at DESC",
+                "idx_account_requests_status_created_at");
+
+        ______TS("account requests created in time range");
+        verifyUsesIndex("SELECT * FROM account_requests ar WHERE ar.created_at >= now() - interval '1 day' "
+                + "AND ar.created_at <= now()", "idx_account_requests_created_at");
+    }
+
+    @Test
+    public void testFeedbackSessionsQueries() throws SQLException {
+        ______TS("sessions opening soon");
+        verifyUsesIndex("SELECT * FROM feedback_sessions fs WHERE fs.start_time > now() - interval '2 days' "
+                + "AND fs.is_opening_soon_email_sent = false", "idx_feedback_sessions_start_time");
+
+        ______TS("sessions closing soon");
+        verifyUsesIndex("SELECT * FROM feedback_sessions fs WHERE fs.end_time > now() - interval '2 days' "
+                + "AND fs.is_closing_soon_email_sent = false", "idx_feedback_sessions_end_time");
+
+        ______TS("sessions with results published");
+        verifyUsesIndex("SELECT * FROM feedback_sessions fs WHERE fs.results_visible_from_time > now() - interval '2 days' "
+                + "AND fs.is_published_email_sent = false", "idx_feedback_sessions_results_visible_from_time");
+
+        ______TS("questions in session");
+        verifyUsesIndex("SELECT * FROM feedback_questions fq WHERE fq.session_id = " + SOME_UUID
+                + " AND fq.question_number = 1", "idx_feedback_questions_session_id_question_number");
+    }
+
+    @Test
+    public void testFeedbackResponsesQueries() throws SQLException {
+        ______TS("responses to question");
+        verifyUsesIndex("SELECT * FROM feedback_responses fr WHERE fr.question_id = " + SOME_UUID,
+                "idx_feedback_responses_question_id");
+
+        ______TS("responses to question from giver");
+        verifyUsesIndex("SELECT * FROM feedback_responses fr WHERE fr.question_id = " + SOME_UUID
+                + " AND fr.giver = 'giver@example.com'", "idx_feedback_responses_giver_question_id");
+
+        ______TS("responses to question for recipient");
+        verifyUsesIndex("SELECT * FROM feedback_responses fr WHERE fr.question_id = " + SOME_UUID
+                + " AND fr.recipient = 'recipient@example.com'", "idx_feedback_responses_recipient_question_id");
+
+        ______TS("responses in course from giver");
+        verifyNoSequentialScan("SELECT fr.* FROM feedback_responses fr "
+                + "JOIN feedback_questions fq ON fr.question_id = fq.id "
+                + "JOIN feedback_sessions fs ON fq.session_id = fs.id "
+                + "WHERE fs.course_id = 'course' AND fr.giver = 'giver@example.com'");
+
+        ______TS("responses in section");
+        verifyUsesIndex("SELECT * FROM feedback_responses fr WHERE fr.giver_section_id = " + SOME_UUID,
+                "idx_feedback_responses_giver_section_id");
+        verifyUsesIndex("SELECT * FROM feedback_responses fr WHERE fr.recipient_section_id = " + SOME_UUID,
+                "idx_feedback_responses_recipient_section_id");
+
+        ______TS("comments on response");
+        verifyUsesIndex("SELECT * FROM feedback_response_comments frc WHERE frc.response_id = " + SOME_UUID,
+                "idx_feedback_response_comments_response_id");
+
+        ______TS("comments in course from giver");
+        verifyNoSequentialScan("SELECT frc.* FROM feedback_response_comments frc "
+                + "JOIN feedback_responses fr ON frc.response_id = fr.id "
+                + "JOIN feedback_questions fq ON fr.question_id = fq.id "
+                + "JOIN feedback_sessions fs ON fq.session_id = fs.id "
+                + "WHERE fs.course_id = 'course' AND frc.giver = 'giver@example.com'");
+    }
+
+    @Test
+    public void testFeedbackSessionLogsQueries() throws SQLException {
+        ______TS("logs of session in time range");
+        verifyUsesIndex("SELECT * FROM feedback_session_logs fsl WHERE fsl.session_id = " + SOME_UUID
+                + " AND fsl.timestamp >= now() - interval '1 day' AND fsl.timestamp < now() ORDER BY fsl.timestamp",
+                "idx_feedback_session_logs_session_id_timestamp");
+
+        ______TS("logs of student in time range");
+        verifyUsesIndex("SELECT * FROM feedback_session_logs fsl WHERE fsl.student_id = " + SOME_UUID
+                + " AND fsl.timestamp >= now() - interval '1 day' AND fsl.timestamp < now() ORDER BY fsl.timestamp",
+                "idx_feedback_session_logs_student_id_timestamp");
+
+        ______TS("logs of course in time range");
+        verifyNoSequentialScan("SELECT fsl.* FROM feedback_session_logs fsl "
+                + "JOIN feedback_sessions fs ON fsl.session_id = fs.id "
+                + "WHERE fs.course_id = 'course' AND fsl.timestamp >= now() - interval '1 day' "
+                + "AND fsl.timestamp < now() ORDER BY fsl.timestamp");
+    }
+
+    @Test
+    public void testDeadlineExtensionsQueries() throws SQLException {
+        ______TS("deadline extension of user in session");
+        verifyUsesIndex("SELECT * FROM deadline_extensions de WHERE de.session_id = " + SOME_UUID
+                + " AND de.user_id = " + SOME_UUID, "idx_deadline_extensions_session_id_user_id");
+
+        ______TS("deadline extensions of user");
+        verifyUsesIndex("SELECT * FROM deadline_extensions de WHERE de.user_id = " + SOME_UUID,
+                "idx_deadline_extensions_user_id");
+
+        ______TS("deadline extensions closing soon");
+        verifyUsesIndex("SELECT * FROM deadline_extensions de WHERE de.end_time >= now() "
+                + "AND de.end_time <= now() + interval '1 day' AND de.is_closing_soon_email_sent = false",
+                "idx_deadline_extensions_end_time");
+    }
+
+    @Test
+    public void testNotificationsAndUsageStatisticsQueries() throws SQLException {
+        ______TS("active notifications");
+        verifyUsesIndex("SELECT * FROM notifications n WHERE n.start_time <= now() AND n.end_time >= now() "
+                + "ORDER BY n.start_time", "idx_notifications_end_time");
+
+        ______TS("read notifications of account");
+        verifyUsesIndex("SELECT * FROM read_notifications rn WHERE rn.account_id = " + SOME_UUID,
+                "idx_read_notifications_account_id");
+
+        ______TS("usage statistics in time range");
+        verifyUsesIndex("SELECT * FROM usage_statistics us WHERE us.start_time >= now() - interval '1 day' "
+                + "AND us.start_time < now()", "idx_usage_statistics_start_time");
+    }
+
+    private void verifyNoSequentialScan(String sql) throws SQLException {
+        String plan = getQueryPlan(sql);
+        assertFalse("Sequential scan in plan of [" + sql + "]:" + System.lineSeparator() + plan,
+                plan.contains("Seq Scan"));
+    }
+
+    private void verifyUsesIndex(String sql, String indexName) throws SQLException {
+        verifyNoSequentialScan(sql);
+        String plan = getQueryPlan(sql);
+        assertTrue("Index " + indexName + " not used in plan of [" + sql + "]:" + System.lineSeparator() + plan,
+                plan.contains(indexName));
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.it.storage.sqlapi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
@@ -106,6 +107,25 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(actualInstructor);
     }
 
+    @Test
+    public void testGetNumUsersForCourse() throws Exception {
+        ______TS("success: counts users in course");
+        assertEquals(1L, usersDb.getNumInstructorsForCourse(course.getId()));
+        assertEquals(1L, usersDb.getNumStudentsForCourse(course.getId()));
+
+        Student anotherStudent = new Student(course, "another-student", "another-student@email.tmt", "comments");
+        anotherStudent.setTeam(student.getTeam());
+        usersDb.createStudent(anotherStudent);
+        HibernateUtil.flushSession();
+
+        assertEquals(1L, usersDb.getNumInstructorsForCourse(course.getId()));
+        assertEquals(2L, usersDb.getNumStudentsForCourse(course.getId()));
+
+        ______TS("success: course with no users");
+        assertEquals(0L, usersDb.getNumInstructorsForCourse("non-existent-course"));
+        assertEquals(0L, usersDb.getNumStudentsForCourse("non-existent-course"));
+    }
+
     @Test
     public void testGetStudent() {
         ______TS("success: gets a student that already exists");
@@ -142,6 +162,73 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertNull(actualStudent);
     }
 
+    @Test
+    public void testGetUsersForCourseEmails() throws Exception {
+        Course otherCourse = new Course("other-course-id", "course-name", Const.DEFAULT_TIME_ZONE, "institute");
+        coursesDb.createCourse(otherCourse);
+        Section otherSection = new Section(otherCourse, "test-section");
+        otherCourse.addSection(otherSection);
+        Team otherTeam = new Team(otherSection, "test-team");
+        otherSection.addTeam(otherTeam);
+        coursesDb.updateCourse(otherCourse);
+
+        Student otherCourseStudent = new Student(otherCourse, "other-student", student.getEmail(), "comments");
+        otherCourseStudent.setTeam(otherTeam);
+        usersDb.createStudent(otherCourseStudent);
+        HibernateUtil.flushSession();
+
+        ______TS("success: gets students across courses in a single call");
+        List<Student> actualStudents = usersDb.getStudentsForCourseEmails(Map.of(
+                course.getId(), List.of(student.getEmail(), "does-not-exist@teammates.tmt"),
+                otherCourse.getId(), List.of(student.getEmail())));
+        assertEquals(2, actualStudents.size());
+        assertTrue(actualStudents.contains(student));
+        assertTrue(actualStudents.contains(otherCourseStudent));
+
+        ______TS("success: only gets students whose email is requested for their course");
+        actualStudents = usersDb.getStudentsForCourseEmails(Map.of(
+                otherCourse.getId(), List.of(student.getEmail())));
+        assertEquals(List.of(otherCourseStudent), actualStudents);
+
+        ______TS("success: gets instructors by course and email");
+        List<Instructor> actualInstructors = usersDb.getInstructorsForCourseEmails(Map.of(
+                course.getId(), List.of(instructor.getEmail()),
+                otherCourse.getId(), List.of(instructor.getEmail())));
+        assertEquals(List.of(instructor), actualInstructors);
+
+        ______TS("success: students across courses are hydrated with one statement");
+        HibernateUtil.clearSession();
+        long numStatements = countPreparedStatements(() -> {
+            List<Student> students = usersDb.getStudentsForCourseEmails(Map.of(
+                    course.getId(), List.of(student.getEmail()),
+                    otherCourse.getId(), List.of(student.getEmail())));
+            assertEquals(2, students.size());
+            for (Student s : students) {
+                assertNotNull(s.getCourse().getName());
+                assertNotNull(s.getTeamName());
+                assertNotNull(s.getSectionName());
+                s.getGoogleId();
+            }
+        });
+        assertEquals(1L, numStatements);
+
+        ______TS("success: instructors across courses are hydrated with one statement");
+        HibernateUtil.clearSession();
+        numStatements = countPreparedStatements(() -> {
+            List<Instructor> instructors = usersDb.getInstructorsForCourseEmails(Map.of(
+                    course.getId(), List.of(instructor.getEmail()),
+                    otherCourse.getId(), List.of(instructor.getEmail())));
+            assertEquals(1, instructors.size());
+            assertNotNull(instructors.get(0).getCourse().getName());
+            instructors.get(0).getGoogleId();
+        });
+        assertEquals(1L, numStatements);
+
+        ______TS("success: no course given returns empty list");
+        assertTrue(usersDb.getStudentsForCourseEmails(Map.of()).isEmpty());
+        assertTrue(usersDb.getInstructorsForCourseEmails(Map.of()).isEmpty());
+    }
+
     @Test
     public void testGetAllUsersByGoogleId() throws InvalidParametersException, EntityAlreadyExistsException {
         ______TS("success: gets all instructors and students by googleId");
@@ -264,6 +351,69 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedStudents.containsAll(actualStudents));
     }
 
+    @Test
+    public void testGetUsersForCourse_largeRoster_fetchesInSingleQuery() throws Exception {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Section rosterSection = new Section(course, "roster-section-" + i);
+            course.addSection(rosterSection);
+            for (int j = 0; j < 10; j++) {
+                Team rosterTeam = new Team(rosterSection, "roster-team-" + i + "-" + j);
+                rosterSection.addTeam(rosterTeam);
+                teams.add(rosterTeam);
+            }
+        }
+        coursesDb.updateCourse(course);
+
+        for (int i = 0; i < 1000; i++) {
+            Student rosterStudent = new Student(course, "student-" + i, "student-" + i + "@email.tmt", "");
+            rosterStudent.setTeam(teams.get(i % teams.size()));
+            usersDb.createStudent(rosterStudent);
+            if (i % 2 == 0) {
+                Account account = new Account("student-account-" + i, "student-" + i, "student-" + i + "@email.tmt");
+                accountsDb.createAccount(account);
+                rosterStudent.setAccount(account);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Instructor rosterInstructor = getTypicalInstructor();
+            rosterInstructor.setCourse(course);
+            rosterInstructor.setEmail("instructor-" + i + "@email.tmt");
+            usersDb.createInstructor(rosterInstructor);
+            Account account = new Account("instructor-account-" + i, "instructor-" + i, "instructor-" + i + "@email.tmt");
+            accountsDb.createAccount(account);
+            rosterInstructor.setAccount(account);
+        }
+
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        ______TS("success: students are fetched with their team, section and account in one statement");
+        long numStatements = countPreparedStatements(() -> {
+            List<Student> students = usersDb.getStudentsForCourse(course.getId());
+            assertEquals(1001, students.size());
+            for (Student s : students) {
+                assertNotNull(s.getTeamName());
+                assertNotNull(s.getSectionName());
+                s.getGoogleId();
+            }
+        });
+        assertEquals(1L, numStatements);
+
+        HibernateUtil.clearSession();
+
+        ______TS("success: instructors are fetched with their account in one statement");
+        numStatements = countPreparedStatements(() -> {
+            List<Instructor> instructors = usersDb.getInstructorsForCourse(course.getId());
+            assertEquals(21, instructors.size());
+            for (Instructor i : instructors) {
+                assertNotNull(i.getGoogleId());
+            }
+        });
+        assertEquals(1L, numStatements);
+    }
+
     @Test
     public void testGetStudentsByGoogleId()
             throws EntityAlreadyExistsException, InvalidParametersException {
@@ -1,7 +1,13 @@
 package teammates.it.test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.UUID;
 
+import org.hibernate.stat.Statistics;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
@@ -25,6 +31,7 @@ import teammates.common.exception.SearchServiceException;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.JsonUtils;
 import teammates.sqllogic.api.Logic;
+import teammates.sqllogic.core.CourseRosterCache;
 import teammates.sqllogic.core.LogicStarter;
 import teammates.storage.api.OfyHelper;
 import teammates.storage.sqlentity.Account;
@@ -124,6 +131,8 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
 
     @BeforeMethod
     protected void setUp() throws Exception {
+        // rosters cached by previous tests may contain data that has since been rolled back
+        CourseRosterCache.inst().invalidateAll();
         HibernateUtil.beginTransaction();
     }
 
@@ -152,6 +161,42 @@ public class BaseTestCaseWithSqlDatabaseAccess extends BaseTestCase {
         logic.putDocuments(dataBundle);
     }
 
+    /**
+     * Returns the number of SQL statements prepared while running {@code task}.
+     */
+    protected long countPreparedStatements(Runnable task) {
+        Statistics statistics = HibernateUtil.getStatistics();
+        boolean wasStatisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            task.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(wasStatisticsEnabled);
+        }
+    }
+
+    /**
+     * Returns the plan chosen by the database for {@code sql}, as reported by {@code EXPLAIN}.
+     *
+     * <p>Sequential scans are disabled while planning, so that a sequential scan only shows up in the plan
+     * when no index can serve the query. Otherwise, the small tables in tests would always be scanned sequentially.
+     */
+    protected String getQueryPlan(String sql) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(PGSQL.getJdbcUrl(), PGSQL.getUsername(), PGSQL.getPassword());
+                Statement statement = conn.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append(System.lineSeparator());
+                }
+            }
+            return plan.toString();
+        }
+    }
+
     /**
      * Verifies that two entities are equal.
      */
@@ -135,6 +135,28 @@ public class EnrollStudentsActionIT extends BaseActionIT<EnrollStudentsAction> {
                 }
             }
         }
+
+        ______TS("Typical Success Case For Enrolling Many Students Into a New Section");
+
+        Section newSection4 = new Section(course, "Section 4");
+        Student firstNewStudent = new Student(course, "New Student 1", "new1@email.com", "",
+                new Team(newSection4, "Team 4"));
+        Student secondNewStudent = new Student(course, "New Student 2", "new2@email.com", "",
+                new Team(newSection4, "Team 4"));
+
+        request = prepareRequest(Arrays.asList(firstNewStudent, secondNewStudent));
+        enrollStudentsAction = getAction(request, params);
+        res = getJsonResult(enrollStudentsAction);
+        data = (EnrollStudentsData) res.getOutput();
+        assertEquals(2, data.getStudentsData().getStudents().size());
+        assertEquals(8, logic.getStudentsForCourse(courseId).size());
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
+
+        Section createdSection = logic.getSection(courseId, "Section 4");
+        assertNotNull(createdSection);
+        assertEquals(createdSection, logic.getStudentForEmail(courseId, "new1@email.com").getSection());
+        assertEquals(logic.getStudentForEmail(courseId, "new1@email.com").getTeam(),
+                logic.getStudentForEmail(courseId, "new2@email.com").getTeam());
     }
 
     @Test
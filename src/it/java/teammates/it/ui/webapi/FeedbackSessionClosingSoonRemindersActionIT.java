@@ -8,13 +8,17 @@ import java.util.List;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.HibernateUtil;
+import teammates.sqllogic.api.SqlEmailGenerator;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailRequest;
 import teammates.ui.webapi.FeedbackSessionClosingSoonRemindersAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -124,10 +128,16 @@ public class FeedbackSessionClosingSoonRemindersActionIT extends BaseActionIT<Fe
         assertTrue(session.isClosingSoonEmailSent());
         assertTrue(session.getDeadlineExtensions().stream().allMatch(de -> !de.isClosingSoonEmailSent()));
 
-        // 7 email tasks queued:
+        // 1 email task queued for a batch of 7 emails:
         // 1 co-owner, 5 students and 3 instructors,
         // but 1 student and 1 instructor have deadline extensions (should not receive email)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 7);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        SendEmailRequest requestBody = (SendEmailRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        FeedbackSessionEmailBatch emailBatch = requestBody.getEmailBatch();
+        assertEquals(EmailType.FEEDBACK_CLOSING_SOON, emailBatch.getEmailType());
+        assertEquals(7, emailBatch.size());
+        assertEquals(7, SqlEmailGenerator.inst().generateFeedbackSessionEmails(session, emailBatch).size());
     }
 
     private void textExecute_typicalSuccess2() {
@@ -153,11 +163,11 @@ public class FeedbackSessionClosingSoonRemindersActionIT extends BaseActionIT<Fe
         assertTrue(session.isClosingSoonEmailSent());
         assertTrue(de.isClosingSoonEmailSent());
 
-        // 8 email tasks queued:
-        // - 7 emails: 1 co-owner, 5 students and 3 instructors,
-        //             but 1 student and 1 instructor have deadline extensions (should not receive email)
-        // - 1 email:  1 student deadline extension
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        // 2 email tasks queued:
+        // - 1 batch of 7 emails: 1 co-owner, 5 students and 3 instructors,
+        //                        but 1 student and 1 instructor have deadline extensions (should not receive email)
+        // - 1 email:             1 student deadline extension
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
     }
 
     private void textExecute_typicalSuccess3() {
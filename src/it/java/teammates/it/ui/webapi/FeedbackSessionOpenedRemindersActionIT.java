@@ -8,11 +8,12 @@ import java.util.List;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
-import teammates.common.util.TaskWrapper;
+import teammates.sqllogic.api.SqlEmailGenerator;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
@@ -107,17 +108,20 @@ public class FeedbackSessionOpenedRemindersActionIT extends BaseActionIT<Feedbac
         assertEquals("Successful", response1.getMessage());
         assertTrue(session.isOpenedEmailSent());
 
-        // # of email to send =
+        // All emails are sent by 1 task, with # of email to send =
         //    # emails sent to instructorsToNotify (ie co-owner), 1 +
         //    # emails sent to students, 5 +
         //    # emails sent to instructors, 3 (including instructorsToNotify)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 9);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
 
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        SendEmailRequest requestBody = (SendEmailRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        FeedbackSessionEmailBatch emailBatch = requestBody.getEmailBatch();
+        assertEquals(EmailType.FEEDBACK_OPENED, emailBatch.getEmailType());
+        assertEquals(9, emailBatch.size());
 
+        List<EmailWrapper> emails = SqlEmailGenerator.inst().generateFeedbackSessionEmails(session, emailBatch);
+        assertEquals(9, emails.size());
+        for (EmailWrapper email : emails) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_OPENED.getSubject(),
                     session.getCourse().getName(), session.getName());
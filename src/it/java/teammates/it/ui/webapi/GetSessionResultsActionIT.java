@@ -60,6 +60,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                 Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getName(),
                 Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourse().getId(),
                 Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_INCLUDE_STATISTICS, "true",
         };
 
         GetSessionResultsAction a = getAction(submissionParams);
@@ -71,7 +72,8 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                 logic.getSessionResultsForCourse(accessibleFeedbackSession,
                         accessibleFeedbackSession.getCourse().getId(),
                         instructor.getEmail(),
-                        null, null, FeedbackResultFetchType.BOTH));
+                        null, null, FeedbackResultFetchType.BOTH),
+                true);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
@@ -102,7 +104,8 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                         logic.getSessionResultsForCourse(accessibleFeedbackSession,
                                 accessibleFeedbackSession.getCourse().getId(),
                                 instructor.getEmail(),
-                                null, section.getName(), fetchType));
+                                null, section.getName(), fetchType),
+                        false);
 
                 assertTrue(isSessionResultsDataEqual(expectedResults, output));
             }
@@ -117,6 +120,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                 Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourse().getId(),
                 Const.ParamsNames.INTENT, Intent.STUDENT_RESULT.name(),
                 Const.ParamsNames.PREVIEWAS, student.getEmail(),
+                Const.ParamsNames.FEEDBACK_RESULTS_INCLUDE_STATISTICS, "true",
         };
 
         a = getAction(submissionParams);
@@ -128,7 +132,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                         accessibleFeedbackSession.getCourse().getId(),
                         student.getEmail(),
                         false, null, true),
-                student);
+                student, true);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
@@ -151,7 +155,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                         accessibleFeedbackSession.getCourse().getId(),
                         student.getEmail(),
                         false, null, false),
-                student);
+                student, false);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
@@ -177,7 +181,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
                         accessibleFeedbackSession.getCourse().getId(),
                         student.getEmail(),
                         false, question.getId(), false),
-                student);
+                student, false);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
     }
@@ -260,7 +264,7 @@ public class GetSessionResultsActionIT extends BaseActionIT<GetSessionResultsAct
     private boolean isQuestionOutputEqual(SessionResultsData.QuestionOutput self,
             SessionResultsData.QuestionOutput other) {
         if (!JsonUtils.toJson(self.getFeedbackQuestion()).equals(JsonUtils.toJson(other.getFeedbackQuestion()))
-                || !self.getQuestionStatistics().equals(other.getQuestionStatistics())
+                || !JsonUtils.toJson(self.getQuestionStatistics()).equals(JsonUtils.toJson(other.getQuestionStatistics()))
                 || self.getHasResponseButNotVisibleForPreview() != other.getHasResponseButNotVisibleForPreview()
                 || self.getHasCommentNotVisibleForPreview() != other.getHasCommentNotVisibleForPreview()) {
             return false;
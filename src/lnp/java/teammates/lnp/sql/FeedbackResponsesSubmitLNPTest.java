@@ -0,0 +1,258 @@
+package teammates.lnp.sql;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jmeter.protocol.http.control.HeaderManager;
+import org.apache.jorphan.collections.HashTree;
+import org.apache.jorphan.collections.ListedHashTree;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.HttpRequestFailedException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.lnp.util.JMeterElements;
+import teammates.lnp.util.LNPSpecification;
+import teammates.lnp.util.LNPSqlTestData;
+import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.ui.request.FeedbackResponsesRequest;
+
+/**
+ * L&P Test Case for students submitting responses to many recipients at once.
+ *
+ * <p>Each student submits a response to every student of the course, spread across multiple sections,
+ * in one request. The first submission creates the responses while the following ones update them.
+ */
+public class FeedbackResponsesSubmitLNPTest extends BaseLNPTestCase {
+    private static final int NUM_STUDENTS = 100;
+    private static final int NUM_STUDENTS_PER_TEAM = 5;
+    private static final int NUM_TEAMS_PER_SECTION = 4;
+    private static final int NUM_SUBMISSIONS_PER_STUDENT = 3;
+    private static final int RAMP_UP_PERIOD = NUM_STUDENTS / 10;
+
+    private static final String COURSE_ID = "TestData.CS101";
+    private static final String COURSE_NAME = "LnPCourse";
+    private static final String COURSE_TIME_ZONE = "UTC";
+    private static final String COURSE_INSTITUTE = "LnpInstitute";
+
+    private static final String STUDENT_NAME = "LnPStudent";
+    private static final String STUDENT_EMAIL = "personalEmail";
+
+    private static final String INSTRUCTOR_EMAIL = "tmms.test@gmail.tmt";
+
+    private static final String FEEDBACK_SESSION_NAME = "Test Feedback Session";
+    private static final String FEEDBACK_QUESTION_NAME = "Test Question";
+
+    private static final double ERROR_RATE_LIMIT = 0.01;
+    private static final double MEAN_RESP_TIME_LIMIT = 5;
+
+    @Override
+    protected LNPSqlTestData getTestData() {
+        Course course = new Course(COURSE_ID, COURSE_NAME, COURSE_TIME_ZONE, COURSE_INSTITUTE);
+        Map<String, Section> sections = new LinkedHashMap<>();
+        Map<String, Team> teams = new LinkedHashMap<>();
+        Map<String, Account> accounts = new LinkedHashMap<>();
+        Map<String, Student> students = new LinkedHashMap<>();
+
+        for (int i = 0; i < NUM_STUDENTS; i++) {
+            int teamIndex = i / NUM_STUDENTS_PER_TEAM;
+            int sectionIndex = teamIndex / NUM_TEAMS_PER_SECTION;
+
+            Section section = sections.computeIfAbsent("Section " + sectionIndex,
+                    sectionName -> new Section(course, sectionName));
+            Team team = teams.computeIfAbsent("Team " + teamIndex, teamName -> new Team(section, teamName));
+
+            Account account = new Account(STUDENT_NAME + i + ".tmms", STUDENT_NAME + i, getStudentEmail(i));
+            Student student = new Student(course, STUDENT_NAME + i, getStudentEmail(i), "", team);
+            student.setAccount(account);
+
+            accounts.put(STUDENT_NAME + i, account);
+            students.put(STUDENT_NAME + i, student);
+        }
+
+        Instant now = Instant.now();
+        FeedbackSession session = new FeedbackSession(FEEDBACK_SESSION_NAME, course, INSTRUCTOR_EMAIL, "",
+                now.plusMillis(100), now.plus(Duration.ofDays(1)), now, now.plus(Duration.ofDays(2)),
+                null, false, false, false);
+
+        return new LNPSqlTestData() {
+            @Override
+            protected Map<String, Course> generateCourses() {
+                Map<String, Course> courses = new HashMap<>();
+
+                courses.put(COURSE_NAME, course);
+
+                return courses;
+            }
+
+            @Override
+            protected Map<String, Account> generateAccounts() {
+                return accounts;
+            }
+
+            @Override
+            protected Map<String, Section> generateSections() {
+                return sections;
+            }
+
+            @Override
+            protected Map<String, Team> generateTeams() {
+                return teams;
+            }
+
+            @Override
+            protected Map<String, Student> generateStudents() {
+                return students;
+            }
+
+            @Override
+            protected Map<String, FeedbackSession> generateFeedbackSessions() {
+                Map<String, FeedbackSession> feedbackSessions = new LinkedHashMap<>();
+
+                feedbackSessions.put(FEEDBACK_SESSION_NAME, session);
+
+                return feedbackSessions;
+            }
+
+            @Override
+            protected Map<String, FeedbackQuestion> generateFeedbackQuestions() {
+                Map<String, FeedbackQuestion> feedbackQuestions = new LinkedHashMap<>();
+
+                List<FeedbackParticipantType> visibleTo = List.of(FeedbackParticipantType.INSTRUCTORS);
+                FeedbackQuestion question = FeedbackQuestion.makeQuestion(session, 1, FEEDBACK_QUESTION_NAME,
+                        FeedbackParticipantType.STUDENTS, FeedbackParticipantType.STUDENTS,
+                        Const.MAX_POSSIBLE_RECIPIENTS, visibleTo, visibleTo, visibleTo,
+                        new FeedbackTextQuestionDetails(FEEDBACK_QUESTION_NAME));
+                feedbackQuestions.put(FEEDBACK_QUESTION_NAME, question);
+
+                return feedbackQuestions;
+            }
+
+            @Override
+            public List<String> generateCsvHeaders() {
+                List<String> headers = new ArrayList<>();
+
+                headers.add("loginId");
+                headers.add("questionId");
+
+                return headers;
+            }
+
+            @Override
+            public List<List<String>> generateCsvData() {
+                SqlDataBundle dataBundle = loadSqlDataBundle(getJsonDataPath());
+                List<List<String>> csvData = new ArrayList<>();
+                String questionId = dataBundle.feedbackQuestions.get(FEEDBACK_QUESTION_NAME).getId().toString();
+
+                dataBundle.students.forEach((key, student) -> {
+                    List<String> csvRow = new ArrayList<>();
+
+                    csvRow.add(student.getGoogleId());
+                    csvRow.add(questionId);
+
+                    csvData.add(csvRow);
+                });
+
+                return csvData;
+            }
+        };
+    }
+
+    private static String getStudentEmail(int index) {
+        return STUDENT_EMAIL + index + "@gmail.tmt";
+    }
+
+    private Map<String, String> getRequestHeaders() {
+        Map<String, String> headers = new HashMap<>();
+
+        headers.put(Const.HeaderNames.CSRF_TOKEN, "${csrfToken}");
+        headers.put("Content-Type", "application/json");
+
+        return headers;
+    }
+
+    private String getTestEndpoint() {
+        return Const.ResourceURIs.RESPONSES + "?questionid=${questionId}&intent=STUDENT_SUBMISSION";
+    }
+
+    private String getRequestBody() {
+        List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
+        for (int i = 0; i < NUM_STUDENTS; i++) {
+            FeedbackTextResponseDetails responseDetails = new FeedbackTextResponseDetails();
+            responseDetails.setAnswer("<p>test</p>");
+            responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(getStudentEmail(i), responseDetails));
+        }
+
+        FeedbackResponsesRequest responsesRequest = new FeedbackResponsesRequest();
+        responsesRequest.setResponses(responses);
+        return JsonUtils.toJson(responsesRequest);
+    }
+
+    @Override
+    protected ListedHashTree getLnpTestPlan() {
+        ListedHashTree testPlan = new ListedHashTree(JMeterElements.testPlan());
+        HashTree threadGroup = testPlan.add(
+                JMeterElements.threadGroup(NUM_STUDENTS, RAMP_UP_PERIOD, NUM_SUBMISSIONS_PER_STUDENT));
+
+        threadGroup.add(JMeterElements.csvDataSet(getPathToTestDataFile(getCsvConfigPath())));
+        threadGroup.add(JMeterElements.cookieManager());
+        threadGroup.add(JMeterElements.defaultSampler());
+
+        threadGroup.add(JMeterElements.onceOnlyController())
+                .add(JMeterElements.loginSampler())
+                .add(JMeterElements.csrfExtractor("csrfToken"));
+
+        // Add HTTP sampler for test endpoint
+        HeaderManager headerManager = JMeterElements.headerManager(getRequestHeaders());
+        threadGroup.add(JMeterElements.httpSampler(getTestEndpoint(), PUT, getRequestBody()))
+                .add(headerManager);
+
+        return testPlan;
+    }
+
+    @Override
+    protected void setupSpecification() {
+        this.specification = LNPSpecification.builder()
+                .withErrorRateLimit(ERROR_RATE_LIMIT)
+                .withMeanRespTimeLimit(MEAN_RESP_TIME_LIMIT)
+                .build();
+    }
+
+    @BeforeClass
+    public void classSetup() throws IOException, HttpRequestFailedException {
+        generateTimeStamp();
+        createTestData();
+        setupSpecification();
+    }
+
+    @Test
+    public void runLnpTest() throws IOException {
+        runJmeter(false);
+        displayLnpResults();
+    }
+
+    @AfterClass
+    public void classTearDown() throws IOException {
+        deleteTestData();
+        deleteDataFiles();
+        cleanupResults();
+    }
+}
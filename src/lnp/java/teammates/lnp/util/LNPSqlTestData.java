@@ -12,7 +12,9 @@ import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 
 /**
  * L&P test data generator.
@@ -33,6 +35,14 @@ public abstract class LNPSqlTestData {
         return new HashMap<>();
     }
 
+    protected Map<String, Section> generateSections() {
+        return new HashMap<>();
+    }
+
+    protected Map<String, Team> generateTeams() {
+        return new HashMap<>();
+    }
+
     protected Map<String, Student> generateStudents() {
         return new HashMap<>();
     }
@@ -64,6 +74,8 @@ public abstract class LNPSqlTestData {
         dataBundle.accounts = generateAccounts();
         dataBundle.courses = generateCourses();
         dataBundle.instructors = generateInstructors();
+        dataBundle.sections = generateSections();
+        dataBundle.teams = generateTeams();
         dataBundle.students = generateStudents();
         dataBundle.feedbackSessions = generateFeedbackSessions();
         dataBundle.feedbackQuestions = generateFeedbackQuestions();
@@ -0,0 +1,96 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import teammates.common.util.EmailType;
+
+/**
+ * Refers to the feedback session emails of one type to a group of recipients of the session's course.
+ *
+ * <p>The emails are identified by the IDs of their recipients instead of their content,
+ * so that they are only rendered when they are sent.
+ */
+public class FeedbackSessionEmailBatch {
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final EmailType emailType;
+    private final List<UUID> userIds;
+    private final List<UUID> copyRecipientIds;
+
+    public FeedbackSessionEmailBatch(String courseId, String feedbackSessionName, EmailType emailType,
+            List<UUID> userIds, List<UUID> copyRecipientIds) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.emailType = emailType;
+        this.userIds = userIds;
+        this.copyRecipientIds = copyRecipientIds;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public EmailType getEmailType() {
+        return emailType;
+    }
+
+    /**
+     * Gets the IDs of the students and instructors to whom the emails are addressed.
+     */
+    public List<UUID> getUserIds() {
+        return userIds;
+    }
+
+    /**
+     * Gets the IDs of the instructors who are sent a copy of the emails.
+     */
+    public List<UUID> getCopyRecipientIds() {
+        return copyRecipientIds;
+    }
+
+    /**
+     * Gets the number of emails in the batch.
+     */
+    public int size() {
+        return userIds.size() + copyRecipientIds.size();
+    }
+
+    /**
+     * Splits the batch into consecutive batches of at most {@code maxSize} emails each,
+     * keeping the order of the emails.
+     */
+    public List<FeedbackSessionEmailBatch> split(int maxSize) {
+        assert maxSize > 0;
+
+        List<FeedbackSessionEmailBatch> batches = new ArrayList<>();
+        for (int from = 0; from < size(); from += maxSize) {
+            batches.add(subBatch(from, Math.min(from + maxSize, size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Gets the batch of the emails after the first {@code numberOfEmails} emails of this batch,
+     * keeping the order of the emails.
+     */
+    public FeedbackSessionEmailBatch skip(int numberOfEmails) {
+        assert numberOfEmails >= 0;
+
+        return subBatch(Math.min(numberOfEmails, size()), size());
+    }
+
+    private FeedbackSessionEmailBatch subBatch(int from, int to) {
+        List<UUID> batchUserIds = userIds.subList(Math.min(from, userIds.size()), Math.min(to, userIds.size()));
+        List<UUID> batchCopyRecipientIds = copyRecipientIds.subList(
+                Math.max(from - userIds.size(), 0), Math.max(to - userIds.size(), 0));
+        return new FeedbackSessionEmailBatch(courseId, feedbackSessionName, emailType,
+                new ArrayList<>(batchUserIds), new ArrayList<>(batchCopyRecipientIds));
+    }
+
+}
@@ -150,6 +150,50 @@ public class InstructorPermissionSet {
         }
     }
 
+    /**
+     * Returns the bit representing the privilege specified by privilegeName in {@link #toBits()},
+     * or 0 if the privilege name is invalid.
+     */
+    static int getBit(String privilegeName) {
+        switch (privilegeName) {
+        case Const.InstructorPermissions.CAN_MODIFY_COURSE:
+            return 1;
+        case Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR:
+            return 1 << 1;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION:
+            return 1 << 2;
+        case Const.InstructorPermissions.CAN_MODIFY_STUDENT:
+            return 1 << 3;
+        case Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS:
+            return 1 << 4;
+        case Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS:
+            return 1 << 5;
+        case Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS:
+            return 1 << 6;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS:
+            return 1 << 7;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the allowed privileges as a bitset, with the bits given by {@link #getBit(String)}.
+     */
+    int toBits() {
+        int bits = 0;
+        bits |= canModifyCourse ? getBit(Const.InstructorPermissions.CAN_MODIFY_COURSE) : 0;
+        bits |= canModifyInstructor ? getBit(Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR) : 0;
+        bits |= canModifySession ? getBit(Const.InstructorPermissions.CAN_MODIFY_SESSION) : 0;
+        bits |= canModifyStudent ? getBit(Const.InstructorPermissions.CAN_MODIFY_STUDENT) : 0;
+        bits |= canViewStudentInSections ? getBit(Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS) : 0;
+        bits |= canViewSessionInSections ? getBit(Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS) : 0;
+        bits |= canSubmitSessionInSections ? getBit(Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS) : 0;
+        bits |= canModifySessionCommentsInSections
+                ? getBit(Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS) : 0;
+        return bits;
+    }
+
     /**
      * Returns the legacy map representation of this permission set structure.
      */
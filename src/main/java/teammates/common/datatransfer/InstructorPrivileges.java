@@ -1,7 +1,9 @@
 package teammates.common.datatransfer;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -94,6 +96,7 @@ public final class InstructorPrivileges {
     private final InstructorPermissionSet courseLevel;
     private final Map<String, InstructorPermissionSet> sectionLevel;
     private final Map<String, Map<String, InstructorPermissionSet>> sessionLevel;
+    private transient CompiledPrivileges compiledPrivileges;
 
     public InstructorPrivileges() {
         this.courseLevel = new InstructorPermissionSet();
@@ -141,6 +144,14 @@ public final class InstructorPrivileges {
         }
     }
 
+    private InstructorPrivileges(InstructorPrivileges original) {
+        this.courseLevel = original.getCourseLevelPrivileges();
+        this.sectionLevel = original.getSectionLevelPrivileges();
+        this.sessionLevel = original.getSessionLevelPrivileges();
+        // compiled privileges are never modified, so they can be shared with the copy
+        this.compiledPrivileges = original.compiledPrivileges;
+    }
+
     /**
      * Converts the current privilege object to its legacy format.
      */
@@ -217,6 +228,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(InstructorPermissionSet defaultPrivileges) {
+        compiledPrivileges = null;
         courseLevel.setCanModifyCourse(defaultPrivileges.isCanModifyCourse());
         courseLevel.setCanModifyInstructor(defaultPrivileges.isCanModifyInstructor());
         courseLevel.setCanModifySession(defaultPrivileges.isCanModifySession());
@@ -263,6 +275,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
+        compiledPrivileges = null;
         this.courseLevel.put(privilegeName, isAllowed);
     }
 
@@ -271,6 +284,7 @@ public final class InstructorPrivileges {
             return;
         }
         addSectionWithDefaultPrivileges(sectionName);
+        compiledPrivileges = null;
         this.sectionLevel.get(sectionName).put(privilegeName, isAllowed);
     }
 
@@ -280,6 +294,7 @@ public final class InstructorPrivileges {
             return;
         }
         verifyExistenceOfsectionName(sectionName);
+        compiledPrivileges = null;
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new InstructorPermissionSet())
                                           .put(privilegeName, isAllowed);
     }
@@ -292,6 +307,7 @@ public final class InstructorPrivileges {
     }
 
     void addSectionWithDefaultPrivileges(String sectionName) {
+        compiledPrivileges = null;
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
     }
 
@@ -299,28 +315,36 @@ public final class InstructorPrivileges {
      * Returns true if it is allowed for the privilege specified by privilegeName.
      */
     public boolean isAllowedForPrivilege(String privilegeName) {
-        return isAllowedInCourseLevel(privilegeName);
+        assert isPrivilegeNameValid(privilegeName);
+
+        return getCompiledPrivileges().isAllowed(InstructorPermissionSet.getBit(privilegeName));
     }
 
     /**
      * Returns true if it is allowed for the privilege specified by privilegeName in sectionName.
      */
     public boolean isAllowedForPrivilege(String sectionName, String privilegeName) {
-        return isAllowedInSectionLevel(sectionName, privilegeName);
+        assert isPrivilegeNameValid(privilegeName);
+
+        return getCompiledPrivileges().isAllowed(sectionName, InstructorPermissionSet.getBit(privilegeName));
     }
 
     /**
      * Returns true if it is allowed for the privilege specified by privilegeName for sessionName in sectionName.
      */
     public boolean isAllowedForPrivilege(String sectionName, String sessionName, String privilegeName) {
-        return isAllowedInSessionLevel(sectionName, sessionName, privilegeName);
+        assert isPrivilegeNameValid(privilegeName);
+
+        return getCompiledPrivileges().isAllowed(sectionName, sessionName, InstructorPermissionSet.getBit(privilegeName));
     }
 
     /**
      * Returns true if privilege for session is present for any section.
      */
     public boolean isAllowedForPrivilegeAnySection(String sessionName, String privilegeName) {
-        return isAllowedInSessionLevelAnySection(sessionName, privilegeName);
+        assert isPrivilegeNameValid(privilegeName);
+
+        return getCompiledPrivileges().isAllowedInAnySection(sessionName, InstructorPermissionSet.getBit(privilegeName));
     }
 
     /**
@@ -351,48 +375,16 @@ public final class InstructorPrivileges {
         return courseLevel.equals(PRIVILEGES_TUTOR);
     }
 
-    private boolean isAllowedInCourseLevel(String privilegeName) {
-
-        assert isPrivilegeNameValid(privilegeName);
-
-        return this.courseLevel.get(privilegeName);
-    }
-
-    private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
-
-        assert isPrivilegeNameValid(privilegeName);
-
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).get(privilegeName);
-    }
-
-    private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        assert isPrivilegeNameValid(privilegeName);
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).get(privilegeName);
-    }
-
-    private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
-
-        assert isPrivilegeNameValid(privilegeName);
-
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+    /**
+     * Returns the compiled form of the privileges, compiling it if the privileges have changed since it was compiled.
+     */
+    private CompiledPrivileges getCompiledPrivileges() {
+        CompiledPrivileges compiled = compiledPrivileges;
+        if (compiled == null) {
+            compiled = CompiledPrivileges.compile(courseLevel, sectionLevel, sessionLevel);
+            compiledPrivileges = compiled;
         }
-        return false;
+        return compiled;
     }
 
     /**
@@ -402,6 +394,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        compiledPrivileges = null;
         if (this.courseLevel.isCanModifySessionCommentsInSections()) {
             this.courseLevel.setCanViewSessionInSections(true);
         }
@@ -446,13 +439,21 @@ public final class InstructorPrivileges {
         return copy;
     }
 
+    /**
+     * Creates a deep copy of the privileges.
+     */
+    public InstructorPrivileges getCopy() {
+        return new InstructorPrivileges(this);
+    }
+
     /**
      * Returns the list of sections the instructor has the specified privilege name.
      */
     public Map<String, InstructorPermissionSet> getSectionsWithPrivilege(String privilegeName) {
         Map<String, InstructorPermissionSet> copy = new LinkedHashMap<>();
+        int privilegeBit = InstructorPermissionSet.getBit(privilegeName);
         sectionLevel.forEach((key, value) -> {
-            if (isAllowedInSectionLevel(key, privilegeName)) {
+            if (getCompiledPrivileges().isAllowed(key, privilegeBit)) {
                 copy.put(key, value.getCopy());
             }
         });
@@ -486,4 +487,113 @@ public final class InstructorPrivileges {
         return result;
     }
 
+    /**
+     * Immutable form of the privileges, in which each permission set is compiled into a bitset.
+     *
+     * <p>Section and session overrides are resolved against the levels above them when compiling,
+     * so that a check takes at most one lookup per level. Privileges without any override, which are
+     * the most common, share interned instances which are checked without lookups.
+     */
+    private static final class CompiledPrivileges {
+
+        private static final CompiledPrivileges[] COURSE_LEVEL_ONLY =
+                new CompiledPrivileges[InstructorPermissionSet.getBit(
+                        Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS) << 1];
+
+        static {
+            for (int courseBits = 0; courseBits < COURSE_LEVEL_ONLY.length; courseBits++) {
+                COURSE_LEVEL_ONLY[courseBits] = new CompiledPrivileges(
+                        courseBits, Collections.emptyMap(), 0, Collections.emptyMap());
+            }
+        }
+
+        private final int courseBits;
+        private final Map<String, CompiledSection> sections;
+        private final int anySectionBits;
+        private final Map<String, Integer> anySectionBitsBySession;
+
+        private CompiledPrivileges(int courseBits, Map<String, CompiledSection> sections,
+                int anySectionBits, Map<String, Integer> anySectionBitsBySession) {
+            this.courseBits = courseBits;
+            this.sections = sections;
+            this.anySectionBits = anySectionBits;
+            this.anySectionBitsBySession = anySectionBitsBySession;
+        }
+
+        static CompiledPrivileges compile(InstructorPermissionSet courseLevel,
+                Map<String, InstructorPermissionSet> sectionLevel,
+                Map<String, Map<String, InstructorPermissionSet>> sessionLevel) {
+            int courseBits = courseLevel.toBits();
+            if (sectionLevel.isEmpty() && sessionLevel.isEmpty()) {
+                return COURSE_LEVEL_ONLY[courseBits];
+            }
+
+            // only sections with overrides are considered when checking for any section
+            Set<String> sectionNames = new HashSet<>(sectionLevel.keySet());
+            sectionNames.addAll(sessionLevel.keySet());
+
+            Map<String, CompiledSection> sections = new HashMap<>();
+            Set<String> overriddenSessions = new HashSet<>();
+            int anySectionBits = 0;
+            for (String sectionName : sectionNames) {
+                InstructorPermissionSet sectionPermissions = sectionLevel.get(sectionName);
+                int sectionBits = sectionPermissions == null ? courseBits : sectionPermissions.toBits();
+
+                Map<String, Integer> sessionBits = new HashMap<>();
+                sessionLevel.getOrDefault(sectionName, Collections.emptyMap())
+                        .forEach((sessionName, permissions) -> sessionBits.put(sessionName, permissions.toBits()));
+                overriddenSessions.addAll(sessionBits.keySet());
+
+                sections.put(sectionName, new CompiledSection(sectionBits, sessionBits));
+                anySectionBits |= sectionBits;
+            }
+
+            Map<String, Integer> anySectionBitsBySession = new HashMap<>();
+            for (String sessionName : overriddenSessions) {
+                int bits = 0;
+                for (CompiledSection section : sections.values()) {
+                    bits |= section.getBits(sessionName);
+                }
+                anySectionBitsBySession.put(sessionName, bits);
+            }
+
+            return new CompiledPrivileges(courseBits, sections, anySectionBits, anySectionBitsBySession);
+        }
+
+        boolean isAllowed(int privilegeBit) {
+            return (courseBits & privilegeBit) != 0;
+        }
+
+        boolean isAllowed(String sectionName, int privilegeBit) {
+            CompiledSection section = sections.get(sectionName);
+            return ((section == null ? courseBits : section.bits) & privilegeBit) != 0;
+        }
+
+        boolean isAllowed(String sectionName, String sessionName, int privilegeBit) {
+            CompiledSection section = sections.get(sectionName);
+            return ((section == null ? courseBits : section.getBits(sessionName)) & privilegeBit) != 0;
+        }
+
+        boolean isAllowedInAnySection(String sessionName, int privilegeBit) {
+            return (anySectionBitsBySession.getOrDefault(sessionName, anySectionBits) & privilegeBit) != 0;
+        }
+    }
+
+    /**
+     * Compiled privileges of a section, with the session overrides in the section.
+     */
+    private static final class CompiledSection {
+
+        private final int bits;
+        private final Map<String, Integer> sessionBits;
+
+        CompiledSection(int bits, Map<String, Integer> sessionBits) {
+            this.bits = bits;
+            this.sessionBits = sessionBits;
+        }
+
+        int getBits(String sessionName) {
+            return sessionBits.isEmpty() ? bits : sessionBits.getOrDefault(sessionName, bits);
+        }
+    }
 }
@@ -1,43 +1,166 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import teammates.common.util.Const;
+import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The roster cannot be modified after it is built, and students are indexed by email, team and section.
+ * Students and instructors are kept in the order they are given.
+ *
+ * <p>A roster may be shared by many requests, e.g. when it is served from a cache, so the students and
+ * instructors in it must not be modified either. Callers which need to modify one of them must copy it first.
  */
 public class SqlCourseRoster {
 
-    private final Map<String, Student> studentListByEmail = new HashMap<>();
-    private final Map<String, Instructor> instructorListByEmail = new HashMap<>();
+    private final Map<String, Student> studentListByEmail = new LinkedHashMap<>();
+    private final Map<String, Instructor> instructorListByEmail = new LinkedHashMap<>();
+    private final List<Student> students;
+    private final List<Instructor> instructors;
     private final Map<String, List<Student>> teamToMembersTable;
+    private final Map<String, List<Student>> sectionToMembersTable;
+    private final Map<List<Object>, Map<String, FeedbackQuestionRecipient>> recipientsIndex;
 
     public SqlCourseRoster(List<Student> students, List<Instructor> instructors) {
+        this(students, instructors, new ConcurrentHashMap<>());
+    }
+
+    private SqlCourseRoster(List<Student> students, List<Instructor> instructors,
+            Map<List<Object>, Map<String, FeedbackQuestionRecipient>> recipientsIndex) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
-        teamToMembersTable = buildTeamToMembersTable(getStudents());
+        this.students = Collections.unmodifiableList(new ArrayList<>(studentListByEmail.values()));
+        this.instructors = Collections.unmodifiableList(new ArrayList<>(instructorListByEmail.values()));
+        teamToMembersTable = toUnmodifiableTable(buildTeamToMembersTable(getStudents()));
+        sectionToMembersTable = toUnmodifiableTable(buildSectionToMembersTable(getStudents()));
+        this.recipientsIndex = recipientsIndex;
     }
 
     public List<Student> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
     public List<Instructor> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
     }
 
     public Map<String, List<Student>> getTeamToMembersTable() {
         return teamToMembersTable;
     }
 
+    public Map<String, List<Student>> getSectionToMembersTable() {
+        return sectionToMembersTable;
+    }
+
+    /**
+     * Gets the students in the given section, or an empty list if there is no such section in the course.
+     */
+    public List<Student> getStudentsInSection(String sectionName) {
+        return sectionToMembersTable.getOrDefault(sectionName, Collections.emptyList());
+    }
+
+    /**
+     * Gets the feedback question recipients indexed under {@code indexKey},
+     * building them with {@code recipientsBuilder} and indexing them if they are not indexed yet.
+     *
+     * <p>As the roster cannot be modified, indexed recipients stay valid for as long as the roster is used;
+     * a roster loaded after the course changes starts with an empty index.
+     */
+    public Map<String, FeedbackQuestionRecipient> getOrComputeRecipients(
+            List<Object> indexKey, Supplier<Map<String, FeedbackQuestionRecipient>> recipientsBuilder) {
+        return recipientsIndex.computeIfAbsent(indexKey,
+                key -> Collections.unmodifiableMap(recipientsBuilder.get()));
+    }
+
+    /**
+     * Creates a copy of the roster, whose students and instructors are copies which do not belong to any session.
+     *
+     * <p>The course, sections, teams and accounts of the students and instructors are copied once each,
+     * so that the copies share them in the same way as the originals do. Only the fields of the copied entities
+     * are copied; their collections, e.g. the teams of a section, are left empty.
+     * The copy shares the indexed recipients of this roster, as the recipients are the same for both.
+     */
+    public SqlCourseRoster getCopy() {
+        Map<String, Course> courses = new HashMap<>();
+        Map<UUID, Section> sections = new HashMap<>();
+        Map<UUID, Team> teams = new HashMap<>();
+        Map<UUID, Account> accounts = new HashMap<>();
+
+        List<Student> students = new ArrayList<>();
+        for (Student student : studentListByEmail.values()) {
+            Course course = courses.computeIfAbsent(student.getCourseId(), id -> copyOf(student.getCourse()));
+            Team team = null;
+            if (student.getTeam() != null) {
+                Section section = student.getSection() == null ? null
+                        : sections.computeIfAbsent(student.getSection().getId(), id -> copyOf(student.getSection(), course));
+                team = teams.computeIfAbsent(student.getTeam().getId(), id -> copyOf(student.getTeam(), section));
+            }
+            Account account = student.getAccount() == null ? null
+                    : accounts.computeIfAbsent(student.getAccount().getId(), id -> copyOf(student.getAccount()));
+            students.add(student.getCopy(course, team, account));
+        }
+
+        List<Instructor> instructors = new ArrayList<>();
+        for (Instructor instructor : instructorListByEmail.values()) {
+            Course course = courses.computeIfAbsent(instructor.getCourseId(), id -> copyOf(instructor.getCourse()));
+            Account account = instructor.getAccount() == null ? null
+                    : accounts.computeIfAbsent(instructor.getAccount().getId(), id -> copyOf(instructor.getAccount()));
+            instructors.add(instructor.getCopy(course, account));
+        }
+
+        return new SqlCourseRoster(students, instructors, recipientsIndex);
+    }
+
+    private static Course copyOf(Course course) {
+        Course copy = new Course(course.getId(), course.getName(), course.getTimeZone(), course.getInstitute());
+        copy.setCreatedAt(course.getCreatedAt());
+        copy.setUpdatedAt(course.getUpdatedAt());
+        copy.setDeletedAt(course.getDeletedAt());
+        return copy;
+    }
+
+    private static Section copyOf(Section section, Course course) {
+        Section copy = new Section(course, section.getName());
+        copy.setId(section.getId());
+        copy.setCreatedAt(section.getCreatedAt());
+        copy.setUpdatedAt(section.getUpdatedAt());
+        return copy;
+    }
+
+    private static Team copyOf(Team team, Section section) {
+        Team copy = new Team(section, team.getName());
+        copy.setId(team.getId());
+        copy.setCreatedAt(team.getCreatedAt());
+        copy.setUpdatedAt(team.getUpdatedAt());
+        return copy;
+    }
+
+    private static Account copyOf(Account account) {
+        Account copy = new Account(account.getGoogleId(), account.getName(), account.getEmail());
+        copy.setId(account.getId());
+        copy.setCreatedAt(account.getCreatedAt());
+        copy.setUpdatedAt(account.getUpdatedAt());
+        return copy;
+    }
+
     /**
      * Checks whether a student is in course.
      */
@@ -119,6 +242,21 @@ public class SqlCourseRoster {
         return teamToMembersTable;
     }
 
+    private static Map<String, List<Student>> buildSectionToMembersTable(List<Student> students) {
+        Map<String, List<Student>> sectionToMembersTable = new HashMap<>();
+        for (Student student : students) {
+            sectionToMembersTable.computeIfAbsent(student.getSectionName(), key -> new ArrayList<>())
+                    .add(student);
+        }
+        return sectionToMembersTable;
+    }
+
+    private static Map<String, List<Student>> toUnmodifiableTable(Map<String, List<Student>> table) {
+        Map<String, List<Student>> unmodifiableTable = new HashMap<>();
+        table.forEach((key, members) -> unmodifiableTable.put(key, Collections.unmodifiableList(members)));
+        return Collections.unmodifiableMap(unmodifiableTable);
+    }
+
     /**
      * Gets info of a participant associated with an identifier in the course.
      *
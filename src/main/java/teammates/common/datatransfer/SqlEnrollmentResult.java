@@ -0,0 +1,60 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.storage.sqlentity.Student;
+
+/**
+ * Contains the outcome of enrolling a list of students into a course.
+ */
+public class SqlEnrollmentResult {
+
+    private final List<Student> enrolledStudents = new ArrayList<>();
+    private final List<Student> changedStudents = new ArrayList<>();
+    private final Map<String, String> failedEnrollments = new LinkedHashMap<>();
+
+    /**
+     * Records a student who is successfully enrolled.
+     *
+     * @param isChanged whether the student is created or updated by the enrollment,
+     *                  as opposed to being enrolled already with the same details
+     */
+    public void addEnrolledStudent(Student student, boolean isChanged) {
+        enrolledStudents.add(student);
+        if (isChanged) {
+            changedStudents.add(student);
+        }
+    }
+
+    /**
+     * Records a student who cannot be enrolled, together with the reason.
+     */
+    public void addFailedEnrollment(String email, String errorMessage) {
+        failedEnrollments.put(email, errorMessage);
+    }
+
+    /**
+     * Gets the students who are successfully enrolled, in the order of enrollment.
+     */
+    public List<Student> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Gets the students who are created or updated by the enrollment.
+     */
+    public List<Student> getChangedStudents() {
+        return changedStudents;
+    }
+
+    /**
+     * Gets the error messages of the students who cannot be enrolled, keyed by email.
+     */
+    public Map<String, String> getFailedEnrollments() {
+        return failedEnrollments;
+    }
+
+}
@@ -19,7 +19,6 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
@@ -74,7 +73,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     }
 
     @Override
-    public String getQuestionResultStatisticsJson(
+    public ContributionStatistics getQuestionResultStatistics(
             FeedbackQuestion question, String studentEmail, SqlSessionResultsBundle bundle) {
         List<FeedbackResponse> responses = bundle.getQuestionResponseMap().get(question);
 
@@ -163,11 +162,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             }
         }
 
-        return JsonUtils.toJson(output);
+        return output;
     }
 
     @Override
-    public String getQuestionResultStatisticsJson(
+    public ContributionStatistics getQuestionResultStatistics(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
         List<FeedbackResponseAttributes> responses = bundle.getQuestionResponseMap().get(question.getId());
 
@@ -256,7 +255,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             }
         }
 
-        return JsonUtils.toJson(output);
+        return output;
     }
 
     private Map<String, int[]> getStudentResults(
@@ -579,7 +578,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     /**
      * Represents a list of participants to their question statistics for one contribution question.
      */
-    public static class ContributionStatistics {
+    public static class ContributionStatistics implements FeedbackQuestionResultStatistics {
         private final Map<String, ContributionStatisticsEntry> results = new HashMap<>();
 
         public Map<String, ContributionStatisticsEntry> getResults() {
@@ -2,6 +2,8 @@ package teammates.common.datatransfer.questions;
 
 import java.util.List;
 
+import jakarta.annotation.Nullable;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
@@ -30,29 +32,31 @@ public abstract class FeedbackQuestionDetails {
     }
 
     /**
-     * Get question result statistics as JSON string.
+     * Gets question result statistics, or null if there are none to be calculated in the back-end.
      */
+    @Nullable
     @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
-    public String getQuestionResultStatisticsJson(
+    public FeedbackQuestionResultStatistics getQuestionResultStatistics(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
         // Statistics are calculated in the front-end as it is dependent on the responses being filtered.
         // The only exception is contribution question, where there is only one statistics for the entire question.
         // It is also necessary to calculate contribution question statistics here
         // to be displayed in student result page as students are not supposed to be able to see the exact responses.
-        return "";
+        return null;
     }
 
     /**
-    * Get question result statistics as JSON string.
-    */
+     * Gets question result statistics, or null if there are none to be calculated in the back-end.
+     */
+    @Nullable
     @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
-    public String getQuestionResultStatisticsJson(
+    public FeedbackQuestionResultStatistics getQuestionResultStatistics(
             FeedbackQuestion question, String studentEmail, SqlSessionResultsBundle bundle) {
         // Statistics are calculated in the front-end as it is dependent on the responses being filtered.
         // The only exception is contribution question, where there is only one statistics for the entire question.
         // It is also necessary to calculate contribution question statistics here
         // to be displayed in student result page as students are not supposed to be able to see the exact responses.
-        return "";
+        return null;
     }
 
     /**
@@ -0,0 +1,9 @@
+package teammates.common.datatransfer.questions;
+
+/**
+ * Represents the result statistics of a feedback question which are calculated in the back-end.
+ *
+ * <p>Each question type which calculates such statistics has its own implementation.
+ */
+public interface FeedbackQuestionResultStatistics {
+}
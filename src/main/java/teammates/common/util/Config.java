@@ -40,6 +40,24 @@ public final class Config {
     /** The value of the "app.postgres.password" in build.properties file. */
     public static final String POSTGRES_PASSWORD;
 
+    /** The value of the "app.postgres.pool.minidle" in build.properties file. */
+    public static final int POSTGRES_POOL_MIN_IDLE;
+
+    /** The value of the "app.postgres.pool.maxsize" in build.properties file. */
+    public static final int POSTGRES_POOL_MAX_SIZE;
+
+    /** The value of the "app.postgres.batchsize" in build.properties file. */
+    public static final int POSTGRES_BATCH_SIZE;
+
+    /** The value of the "app.postgres.fetchsize" in build.properties file. */
+    public static final int POSTGRES_FETCH_SIZE;
+
+    /** The value of the "app.postgres.statementcachesize" in build.properties file. */
+    public static final int POSTGRES_STATEMENT_CACHE_SIZE;
+
+    /** The value of the "app.postgres.showsql" in build.properties file. */
+    public static final boolean POSTGRES_SHOW_SQL;
+
     /** The value of the "app.production.gcs.bucketname" in build.properties file. */
     public static final String PRODUCTION_GCS_BUCKETNAME;
 
@@ -166,6 +184,13 @@ public final class Config {
         POSTGRES_DATABASENAME = getProperty(properties, devProperties, "app.postgres.databasename");
         POSTGRES_USERNAME = getProperty(properties, devProperties, "app.postgres.username");
         POSTGRES_PASSWORD = getProperty(properties, devProperties, "app.postgres.password");
+        POSTGRES_POOL_MIN_IDLE = Integer.parseInt(getProperty(properties, devProperties, "app.postgres.pool.minidle", "10"));
+        POSTGRES_POOL_MAX_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.postgres.pool.maxsize", "30"));
+        POSTGRES_BATCH_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.postgres.batchsize", "50"));
+        POSTGRES_FETCH_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.postgres.fetchsize", "0"));
+        POSTGRES_STATEMENT_CACHE_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.postgres.statementcachesize", "256"));
+        POSTGRES_SHOW_SQL = Boolean.parseBoolean(getProperty(properties, devProperties, "app.postgres.showsql", "false"));
         BACKUP_GCS_BUCKETNAME = getProperty(properties, devProperties, "app.backup.gcs.bucketname");
         ENCRYPTION_KEY = getProperty(properties, devProperties, "app.encryption.key");
         AUTH_TYPE = getProperty(properties, devProperties, "app.auth.type");
@@ -149,6 +149,8 @@ public final class Const {
 
         public static final String FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER = "frsessionbygiverreceiver";
 
+        public static final String FEEDBACK_RESULTS_INCLUDE_STATISTICS = "frincludestatistics";
+
         public static final String PREVIEWAS = "previewas";
 
         public static final String STUDENT_SQL_ID = "studentid";
@@ -460,6 +462,7 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+        public static final String STUDENTS_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentsSearchIndexing";
     }
 
 }
@@ -1,19 +1,28 @@
 package teammates.common.util;
 
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.transaction.Synchronization;
 
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.SpecHints;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.Statistics;
 
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
@@ -119,19 +128,26 @@ public final class HibernateUtil {
                 .setProperty("hibernate.connection.password", password)
                 .setProperty("hibernate.connection.url", dbUrl)
                 .setProperty("hibernate.hbm2ddl.auto", "validate")
-                .setProperty("show_sql", "true")
+                .setProperty("hibernate.show_sql", String.valueOf(Config.POSTGRES_SHOW_SQL))
                 .setProperty("hibernate.current_session_context_class", "thread")
-                .setProperty("hibernate.hikari.minimumIdle", "10")
-                .setProperty("hibernate.hikari.maximumPoolSize", "30")
+                .setProperty("hibernate.hikari.minimumIdle", String.valueOf(Config.POSTGRES_POOL_MIN_IDLE))
+                .setProperty("hibernate.hikari.maximumPoolSize", String.valueOf(Config.POSTGRES_POOL_MAX_SIZE))
                 .setProperty("hibernate.hikari.idleTimeout", "300000")
                 .setProperty("hibernate.hikari.connectionTimeout", "30000")
-                // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
-                // .setProperty("hibernate.jdbc.batch_size", "50")
-                // .setProperty("hibernate.order_updates", "true")
-                // .setProperty("hibernate.batch_versioned_data", "true")
-                // .setProperty("hibernate.jdbc.fetch_size", "50")
+                // Passed on to the JDBC driver, which caches server-side prepared statements per connection.
+                .setProperty("hibernate.hikari.dataSource.preparedStatementCacheQueries",
+                        String.valueOf(Config.POSTGRES_STATEMENT_CACHE_SIZE))
+                // Send inserts and updates in JDBC batches, e.g. for bulk submission of responses.
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(Config.POSTGRES_BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .setProperty("hibernate.batch_versioned_data", "true")
                 .addPackage("teammates.storage.sqlentity");
 
+        if (Config.POSTGRES_FETCH_SIZE > 0) {
+            config.setProperty("hibernate.jdbc.fetch_size", String.valueOf(Config.POSTGRES_FETCH_SIZE));
+        }
+
         if (Config.IS_DEV_SERVER) {
             config.setProperty("hibernate.hbm2ddl.auto", "update");
         }
@@ -177,6 +193,17 @@ public final class HibernateUtil {
         return getCurrentSession().createQuery(cr);
     }
 
+    /**
+     * Returns a generic typed TypedQuery object which fetches the associations in the named entity graph
+     * {@code fetchGraphName} together with the results. Associations not in the graph are loaded lazily.
+     * @see Session#getEntityGraph(String)
+     */
+    public static <T> TypedQuery<T> createQuery(CriteriaQuery<T> cr, String fetchGraphName) {
+        Session session = getCurrentSession();
+        return session.createQuery(cr)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, session.getEntityGraph(fetchGraphName));
+    }
+
     /**
      * Returns a MutationQuery object.
      * @see Session#createMutationQuery(CriteriaDelete)
@@ -185,6 +212,39 @@ public final class HibernateUtil {
         return getCurrentSession().createMutationQuery(cd);
     }
 
+    /**
+     * Returns a MutationQuery object.
+     * @see Session#createMutationQuery(CriteriaUpdate)
+     */
+    public static <T> MutationQuery createMutationQuery(CriteriaUpdate<T> cu) {
+        return getCurrentSession().createMutationQuery(cu);
+    }
+
+    /**
+     * Returns a NativeQuery object.
+     * @see Session#createNativeQuery(String, Class)
+     */
+    public static <T> NativeQuery<T> createNativeQuery(String sqlString, Class<T> resultClass) {
+        return getCurrentSession().createNativeQuery(sqlString, resultClass);
+    }
+
+    /**
+     * Returns a MutationQuery object.
+     * @see Session#createNativeMutationQuery(String)
+     */
+    public static MutationQuery createNativeMutationQuery(String sqlString) {
+        return getCurrentSession().createNativeMutationQuery(sqlString);
+    }
+
+    /**
+     * Returns the statistics of the SessionFactory.
+     * Statistics collection is disabled by default and has to be enabled explicitly.
+     * @see SessionFactory#getStatistics()
+     */
+    public static Statistics getStatistics() {
+        return getSessionFactory().getStatistics();
+    }
+
     public static void setSessionFactory(SessionFactory sessionFactory) {
         HibernateUtil.sessionFactory = sessionFactory;
     }
@@ -203,10 +263,8 @@ public final class HibernateUtil {
      * @see Transaction#rollback()
      */
     public static void rollbackTransaction() {
-        Session session = getCurrentSession();
-        if (session.getTransaction().getStatus() == TransactionStatus.ACTIVE
-                || session.getTransaction().getStatus() == TransactionStatus.MARKED_ROLLBACK) {
-            session.getTransaction().rollback();
+        if (isTransactionActive()) {
+            getCurrentSession().getTransaction().rollback();
         }
     }
 
@@ -219,6 +277,37 @@ public final class HibernateUtil {
         transaction.commit();
     }
 
+    /**
+     * Runs {@code action} once the current resource transaction is completed, whether it is committed or rolled back.
+     * The action is run right away if there is no active transaction, e.g. when no database is used.
+     *
+     * @return true if the action is deferred until the current transaction is completed
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static boolean runAfterTransaction(Runnable action) {
+        if (sessionFactory == null || !isTransactionActive()) {
+            action.run();
+            return false;
+        }
+        getCurrentSession().getTransaction().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+        return true;
+    }
+
+    private static boolean isTransactionActive() {
+        TransactionStatus status = getCurrentSession().getTransaction().getStatus();
+        return status == TransactionStatus.ACTIVE || status == TransactionStatus.MARKED_ROLLBACK;
+    }
+
     /**
      * Force this session to flush. Must be called at the end of a unit of work, before the transaction is committed.
      * @see Session#flush()
@@ -284,6 +373,30 @@ public final class HibernateUtil {
         getCurrentSession().createMutationQuery(cd).executeUpdate();
     }
 
+    /**
+     * Executes the given bulk update or delete directly against the database and returns the number of rows affected.
+     *
+     * <p>Pending changes are flushed beforehand. As the statement bypasses the session, entities of
+     * {@code affectedTypes} are evicted from the session afterwards, so that they are read again when next accessed.
+     */
+    public static int executeBulkMutation(MutationQuery query, Class<?>... affectedTypes) {
+        Session session = getCurrentSession();
+        session.flush();
+        int numberOfRowsAffected = query.executeUpdate();
+
+        PersistenceContext persistenceContext = session.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            Object entity = entry.getKey();
+            for (Class<?> affectedType : affectedTypes) {
+                if (affectedType.isInstance(entity) && session.contains(entity)) {
+                    session.evict(entity);
+                    break;
+                }
+            }
+        }
+        return numberOfRowsAffected;
+    }
+
     /**
      * Return a reference to the persistent instance with the given class and
      * identifier,making the assumption that the instance is still persistent in the
@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -20,6 +22,9 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -55,16 +60,19 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  */
 public final class JsonUtils {
 
+    // Gson instances are thread-safe and cache the type adapters they resolve, so they are built only once
+    private static final Gson COMPACT_GSON = getGsonBuilder().create();
+    private static final Gson PRETTY_GSON = getGsonBuilder().setPrettyPrinting().create();
+
     private JsonUtils() {
         // utility class
     }
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * This creates a Gson builder that can handle the Date format we use in the Json file.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
-        GsonBuilder builder = new GsonBuilder()
+    private static GsonBuilder getGsonBuilder() {
+        return new GsonBuilder()
                 .setExclusionStrategies(new HibernateExclusionStrategy())
                 .registerTypeAdapter(User.class, new UserAdapter())
                 .registerTypeAdapter(Instant.class, new InstantAdapter())
@@ -76,10 +84,13 @@ public final class JsonUtils {
                 .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
                 .registerTypeAdapter(LogDetails.class, new LogDetailsAdapter())
                 .disableHtmlEscaping();
-        if (prettyPrint) {
-            builder.setPrettyPrinting();
-        }
-        return builder.create();
+    }
+
+    /**
+     * Returns the shared Gson object, which reformats the Json string in pretty-print format if required.
+     */
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_GSON : COMPACT_GSON;
     }
 
     /**
@@ -144,6 +155,28 @@ public final class JsonUtils {
         return getGsonInstance(false).fromJson(json, classOfT);
     }
 
+    /**
+     * Reads the value of the top-level string member {@code memberName} of the specified JSON object,
+     * without deserializing the rest of the object into a tree.
+     *
+     * @return the value of the member, or null if the member does not exist or is not a string
+     * @throws JsonSyntaxException if the JSON string is not a well-formed JSON object
+     */
+    public static String getTopLevelStringMember(String json, String memberName) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (memberName.equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+            return null;
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
     /**
      * Parses the specified JSON string into a {@link JsonElement} object.
      *
@@ -200,16 +233,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -217,16 +246,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -234,16 +259,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
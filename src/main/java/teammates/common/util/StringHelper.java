@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Collections;
@@ -26,6 +27,8 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final ThreadLocal<CryptoInstances> CRYPTO_INSTANCES = new ThreadLocal<>();
+
     private StringHelper() {
         // utility class
     }
@@ -86,13 +89,10 @@ public final class StringHelper {
      */
     public static String generateSignature(String data) {
         try {
-            SecretKeySpec signingKey =
-                    new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA1");
-            Mac mac = Mac.getInstance("HmacSHA1");
-            mac.init(signingKey);
-            byte[] value = mac.doFinal(data.getBytes(Const.ENCODING));
+            byte[] value = getCryptoInstances().mac.doFinal(data.getBytes(Const.ENCODING));
             return byteArrayToHexString(value);
         } catch (Exception e) {
+            CRYPTO_INSTANCES.remove();
             assert false;
             return null;
         }
@@ -121,12 +121,10 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes(Const.ENCODING));
+            byte[] encrypted = getCryptoInstances().encryptCipher.doFinal(value.getBytes(Const.ENCODING));
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
+            CRYPTO_INSTANCES.remove();
             assert false;
             return null;
         }
@@ -142,20 +140,37 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = getCryptoInstances().decryptCipher.doFinal(hexStringToByteArray(message));
             return new String(decrypted, Const.ENCODING);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // a failed operation may leave the cipher in an unspecified state
+            CRYPTO_INSTANCES.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
+            CRYPTO_INSTANCES.remove();
             assert false;
             return null;
         }
     }
 
+    /**
+     * Gets the {@link Cipher} and {@link Mac} instances of the current thread,
+     * initializing them with the configured encryption key if needed.
+     *
+     * <p>The instances are reused across calls, as looking up the providers and setting up the key
+     * dominates the cost of encrypting or signing short strings such as registration keys.
+     * They are not thread-safe, hence each thread has its own instances.
+     */
+    private static CryptoInstances getCryptoInstances() throws GeneralSecurityException {
+        CryptoInstances instances = CRYPTO_INSTANCES.get();
+        if (instances == null || !Config.ENCRYPTION_KEY.equals(instances.encryptionKey)) {
+            instances = new CryptoInstances(Config.ENCRYPTION_KEY);
+            CRYPTO_INSTANCES.set(instances);
+        }
+        return instances;
+    }
+
     /**
      * Converts and concatenates a list of objects to a single string, separated by line breaks.
      * The conversion is done by using the {@link Object#toString()} method.
@@ -265,4 +280,31 @@ public final class StringHelper {
         return str == null ? "" : str;
     }
 
+    /**
+     * Holds the initialized {@link Cipher} and {@link Mac} instances for an encryption key.
+     *
+     * <p>{@code doFinal} resets the instances to their initialized state, so they can be used again
+     * without being re-initialized.
+     */
+    private static class CryptoInstances {
+        private final String encryptionKey;
+        private final Cipher encryptCipher;
+        private final Cipher decryptCipher;
+        private final Mac mac;
+
+        CryptoInstances(String encryptionKey) throws GeneralSecurityException {
+            this.encryptionKey = encryptionKey;
+            byte[] key = hexStringToByteArray(encryptionKey);
+
+            SecretKeySpec sks = new SecretKeySpec(key, "AES");
+            this.encryptCipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            this.encryptCipher.init(Cipher.ENCRYPT_MODE, sks, this.encryptCipher.getParameters());
+            this.decryptCipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            this.decryptCipher.init(Cipher.DECRYPT_MODE, sks);
+
+            this.mac = Mac.getInstance("HmacSHA1");
+            this.mac.init(new SecretKeySpec(key, "HmacSHA1"));
+        }
+    }
+
 }
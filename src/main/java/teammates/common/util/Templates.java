@@ -1,5 +1,11 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Contains utility methods for creating strings from given templates.
  */
@@ -7,6 +13,8 @@ public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
+    private static final Map<String, CompiledTemplate> COMPILED_EMAIL_TEMPLATES = new ConcurrentHashMap<>();
+
     private Templates() {
         // utility class
     }
@@ -14,6 +22,10 @@ public final class Templates {
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     *
+     * <p>If all the variables are {@code ${name}} placeholders, the template is populated in a single pass
+     * over its {@link CompiledTemplate}; the email templates are compiled once, when they are loaded.
+     * Otherwise, the variables are replaced one after another.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -21,81 +33,257 @@ public final class Templates {
      */
     public static String populateTemplate(String template, String... keyValuePairs) {
         assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
-        String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
+            Objects.requireNonNull(keyValuePairs[i + 1]);
+            if (!CompiledTemplate.isPlaceholder(keyValuePairs[i])) {
+                return replaceSequentially(template, keyValuePairs, 0);
+            }
+        }
+        return getCompiledTemplate(template).populate(keyValuePairs);
+    }
+
+    /**
+     * Gets the {@link CompiledTemplate} of the given {@code template}, which is compiled only if it is
+     * not one of the email templates.
+     */
+    public static CompiledTemplate getCompiledTemplate(String template) {
+        CompiledTemplate compiledTemplate = COMPILED_EMAIL_TEMPLATES.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = CompiledTemplate.compile(template);
+        }
+        return compiledTemplate;
+    }
+
+    /**
+     * Replaces the variables in {@code keyValuePairs}, starting from the pair at index {@code from},
+     * one after another, so that a value may contain variables replaced by the pairs after it.
+     */
+    private static String replaceSequentially(String template, String[] keyValuePairs, int from) {
+        String populatedTemplate = template;
+        for (int i = from; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
         }
         return populatedTemplate;
     }
 
+    private static String readEmailTemplate(String fileName) {
+        String template = FileHelper.readResourceFile(fileName);
+        COMPILED_EMAIL_TEMPLATES.put(template, CompiledTemplate.compile(template));
+        return template;
+    }
+
+    /**
+     * A template parsed into literal text and {@code ${name}} placeholders, which can be populated
+     * in a single pass without creating an intermediate string per placeholder.
+     */
+    public static final class CompiledTemplate {
+
+        private static final String PLACEHOLDER_PREFIX = "${";
+        private static final char PLACEHOLDER_SUFFIX = '}';
+
+        /**
+         * The literal text before each placeholder, followed by the literal text after the last placeholder.
+         */
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int literalsLength;
+
+        private CompiledTemplate(List<String> literals, List<String> placeholders) {
+            this.literals = literals.toArray(new String[0]);
+            this.placeholders = placeholders.toArray(new String[0]);
+            this.literalsLength = literals.stream().mapToInt(String::length).sum();
+        }
+
+        /**
+         * Parses the given {@code template} into its literal text and {@code ${name}} placeholders,
+         * where the name consists of letters and digits only.
+         */
+        public static CompiledTemplate compile(String template) {
+            List<String> literals = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            int literalStart = 0;
+            int placeholderStart = template.indexOf(PLACEHOLDER_PREFIX);
+            while (placeholderStart >= 0) {
+                int placeholderEnd = getPlaceholderEnd(template, placeholderStart);
+                if (placeholderEnd < 0) {
+                    placeholderStart = template.indexOf(PLACEHOLDER_PREFIX, placeholderStart + 1);
+                    continue;
+                }
+                literals.add(template.substring(literalStart, placeholderStart));
+                placeholders.add(template.substring(placeholderStart, placeholderEnd));
+                literalStart = placeholderEnd;
+                placeholderStart = template.indexOf(PLACEHOLDER_PREFIX, placeholderEnd);
+            }
+            literals.add(template.substring(literalStart));
+            return new CompiledTemplate(literals, placeholders);
+        }
+
+        /**
+         * Returns the index after the placeholder starting at {@code placeholderStart} of {@code template},
+         * or -1 if there is no valid placeholder there.
+         */
+        private static int getPlaceholderEnd(String template, int placeholderStart) {
+            int nameStart = placeholderStart + PLACEHOLDER_PREFIX.length();
+            int nameEnd = nameStart;
+            while (nameEnd < template.length() && Character.isLetterOrDigit(template.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            if (nameEnd == nameStart || nameEnd == template.length() || template.charAt(nameEnd) != PLACEHOLDER_SUFFIX) {
+                return -1;
+            }
+            return nameEnd + 1;
+        }
+
+        static boolean isPlaceholder(String key) {
+            return key.startsWith(PLACEHOLDER_PREFIX) && getPlaceholderEnd(key, 0) == key.length();
+        }
+
+        /**
+         * Populates the template with the given {@code ${name}} placeholder-value pairs.
+         *
+         * <p>The result is the same as replacing the placeholders one after another in the given order:
+         * placeholders without a value are left as they are, and a value may contain placeholders
+         * which are populated by the pairs after it.
+         * @param keyValuePairs Array of a placeholder, even number of key-value pairs:
+         *                   { "${key1}", "val1", "${key2}", "val2", ... }
+         * @return The populated template
+         */
+        public String populate(String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            String[] values = new String[placeholders.length];
+            int length = literalsLength;
+            for (int i = 0; i < placeholders.length; i++) {
+                values[i] = getValue(placeholders[i], keyValuePairs);
+                length += values[i].length();
+            }
+
+            StringBuilder populatedTemplate = new StringBuilder(length);
+            populatedTemplate.append(literals[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                populatedTemplate.append(values[i]).append(literals[i + 1]);
+            }
+            return populatedTemplate.toString();
+        }
+
+        /**
+         * Populates the template with the given {@code ${name}} placeholder-value pairs, leaving the other
+         * placeholders to be populated later.
+         *
+         * <p>The values are populated as in {@link #populate(String...)}, and become literal text of
+         * the returned template: any {@code ${name}} in a value, e.g. in user-provided text,
+         * is never populated later.
+         * @param keyValuePairs Array of a placeholder, even number of key-value pairs:
+         *                   { "${key1}", "val1", "${key2}", "val2", ... }
+         * @return The template with the remaining placeholders
+         */
+        public CompiledTemplate populatePartially(String... keyValuePairs) {
+            assert keyValuePairs.length % 2 == 0 : "The number of elements in keyValuePairs passed in must be even";
+            List<String> remainingLiterals = new ArrayList<>();
+            List<String> remainingPlaceholders = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(literals[0]);
+            for (int i = 0; i < placeholders.length; i++) {
+                int keyIndex = getKeyIndex(placeholders[i], keyValuePairs);
+                if (keyIndex < 0) {
+                    remainingLiterals.add(literal.toString());
+                    remainingPlaceholders.add(placeholders[i]);
+                    literal.setLength(0);
+                } else {
+                    literal.append(getValue(keyIndex, keyValuePairs));
+                }
+                literal.append(literals[i + 1]);
+            }
+            remainingLiterals.add(literal.toString());
+            return new CompiledTemplate(remainingLiterals, remainingPlaceholders);
+        }
+
+        private static String getValue(String placeholder, String[] keyValuePairs) {
+            int keyIndex = getKeyIndex(placeholder, keyValuePairs);
+            return keyIndex < 0 ? placeholder : getValue(keyIndex, keyValuePairs);
+        }
+
+        private static String getValue(int keyIndex, String[] keyValuePairs) {
+            String value = keyValuePairs[keyIndex + 1];
+            return value.contains(PLACEHOLDER_PREFIX) ? replaceSequentially(value, keyValuePairs, keyIndex + 2) : value;
+        }
+
+        private static int getKeyIndex(String placeholder, String[] keyValuePairs) {
+            for (int i = 0; i < keyValuePairs.length; i += 2) {
+                if (placeholder.equals(keyValuePairs[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
     public static class EmailTemplates {
         public static final String ADMIN_NEW_ACCOUNT_REQUEST_ALERT =
-                FileHelper.readResourceFile("adminEmailTemplate-newAccountRequestAlert.html");
+                readEmailTemplate("adminEmailTemplate-newAccountRequestAlert.html");
         public static final String INSTRUCTOR_NEW_ACCOUNT_REQUEST_ACKNOWLEDGEMENT =
-                FileHelper.readResourceFile("instructorEmailTemplate-newAccountRequestAcknowledgement.html");
+                readEmailTemplate("instructorEmailTemplate-newAccountRequestAcknowledgement.html");
         public static final String USER_COURSE_JOIN =
-                FileHelper.readResourceFile("userEmailTemplate-courseJoin.html");
+                readEmailTemplate("userEmailTemplate-courseJoin.html");
         public static final String USER_COURSE_REGISTER =
-                FileHelper.readResourceFile("userEmailTemplate-userRegisterForCourse.html");
+                readEmailTemplate("userEmailTemplate-userRegisterForCourse.html");
         public static final String FRAGMENT_STUDENT_COURSE_JOIN =
-                FileHelper.readResourceFile("studentEmailFragment-courseJoin.html");
+                readEmailTemplate("studentEmailFragment-courseJoin.html");
         public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-googleIdReset.html");
+                readEmailTemplate("studentEmailFragment-googleIdReset.html");
         public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_REGKEY_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-registrationKeyReset.html");
+                readEmailTemplate("studentEmailFragment-registrationKeyReset.html");
         public static final String FRAGMENT_INSTRUCTOR_COPY_PREAMBLE =
-                FileHelper.readResourceFile("instructorEmailFragment-instructorCopyPreamble.html");
+                readEmailTemplate("instructorEmailFragment-instructorCopyPreamble.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_JOIN =
-                FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
+                readEmailTemplate("instructorEmailFragment-courseJoin.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("instructorEmailFragment-googleIdReset.html");
+                readEmailTemplate("instructorEmailFragment-googleIdReset.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_REJOIN_AFTER_REGKEY_RESET =
-                FileHelper.readResourceFile("instructorEmailFragment-registrationKeyReset.html");
+                readEmailTemplate("instructorEmailFragment-registrationKeyReset.html");
         public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
+                readEmailTemplate("userEmailTemplate-feedbackSession.html");
         public static final String USER_FEEDBACK_SESSION_OPENED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionOpening.html");
+                readEmailTemplate("userEmailTemplate-feedbackSessionOpening.html");
         public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
+                readEmailTemplate("userEmailTemplate-feedbackSessionPublished.html");
         public static final String FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_SESSION =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksBySession.html");
+                readEmailTemplate("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksBySession.html");
         public static final String FRAGMENT_SESSION_LINKS_RECOVERY_ACCESS_LINKS_BY_COURSE =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksByCourse.html");
+                readEmailTemplate("sessionLinksRecoveryEmailTemplateFragment-sessionAccessLinksByCourse.html");
         public static final String SESSION_LINKS_RECOVERY_ACCESS_LINKS =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinks.html");
+                readEmailTemplate("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinks.html");
         public static final String SESSION_LINKS_RECOVERY_ACCESS_LINKS_NONE =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinksNone.html");
+                readEmailTemplate("sessionLinksRecoveryEmailTemplate-feedbackSessionAccessLinksNone.html");
         public static final String SESSION_LINKS_RECOVERY_EMAIL_NOT_FOUND =
-                FileHelper.readResourceFile("sessionLinksRecoveryEmailTemplate-emailNotFound.html");
+                readEmailTemplate("sessionLinksRecoveryEmailTemplate-emailNotFound.html");
         public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
+                readEmailTemplate("userEmailTemplate-feedbackSessionUnpublished.html");
         public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
-                FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
+                readEmailTemplate("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
         public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
+                readEmailTemplate("userEmailTemplate-feedbackSessionResendAllLinks.html");
         public static final String USER_REGKEY_REGENERATION_RESEND_ALL_COURSE_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-regenerateLinksResendAllCourseLinks.html");
+                readEmailTemplate("userEmailTemplate-regenerateLinksResendAllCourseLinks.html");
         public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
+                readEmailTemplate("severeErrorLogLine.html");
         public static final String LOGIN_EMAIL =
-                FileHelper.readResourceFile("loginEmail.html");
+                readEmailTemplate("loginEmail.html");
         public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
-                FileHelper.readResourceFile("newInstructorAccountWelcome.html");
+                readEmailTemplate("newInstructorAccountWelcome.html");
         public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
-                FileHelper.readResourceFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
+                readEmailTemplate("userEmailFragment-sessionAdditionalContactInformationFragment.html");
         public static final String OWNER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("ownerEmailTemplate-feedbackSession.html");
+                readEmailTemplate("ownerEmailTemplate-feedbackSession.html");
         public static final String FRAGMENT_OPENING_SOON_EDIT_DETAILS =
-                FileHelper.readResourceFile("ownerEmailFragment-editDetails.html");
+                readEmailTemplate("ownerEmailFragment-editDetails.html");
         public static final String FRAGMENT_OPENING_SOON_JOIN_COURSE_BEFORE_EDIT_DETAILS =
-                FileHelper.readResourceFile("ownerEmailFragment-joinCourseBeforeEditDetails.html");
+                readEmailTemplate("ownerEmailFragment-joinCourseBeforeEditDetails.html");
         public static final String FRAGMENT_CLOSED_VIEW_RESPONSES =
-                FileHelper.readResourceFile("ownerEmailFragment-viewResponses.html");
+                readEmailTemplate("ownerEmailFragment-viewResponses.html");
         public static final String USER_DEADLINE_EXTENSION =
-                FileHelper.readResourceFile("userEmailTemplate-deadlineExtension.html");
+                readEmailTemplate("userEmailTemplate-deadlineExtension.html");
     }
 
 }
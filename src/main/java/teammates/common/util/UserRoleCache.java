@@ -0,0 +1,164 @@
+package teammates.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the course-based roles (instructor/student) of users, keyed by their Google ID.
+ *
+ * <p>Entries expire after a fixed time-to-live and the number of entries is bounded,
+ * with the least recently used entry evicted first.
+ * Logic methods which add a user to or remove a user from a course invalidate the entry of that user
+ * once their changes are written;
+ * the time-to-live bounds the staleness of entries cached by other application instances.
+ *
+ * <p>Invalidations made during an SQL transaction only take effect when the transaction is completed,
+ * as roles loaded by other requests before then do not see the uncommitted changes.
+ */
+public final class UserRoleCache {
+
+    /**
+     * Time-to-live of a cache entry, in milliseconds.
+     */
+    static final long TTL_MILLIS = 60_000L;
+
+    /**
+     * Maximum number of entries kept in the cache.
+     */
+    static final int MAX_SIZE = 10_000;
+
+    private static final UserRoleCache instance =
+            new UserRoleCache(TTL_MILLIS, MAX_SIZE, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, CacheEntry> entries;
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    UserRoleCache(long ttlMillis, int maxSize, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // access-ordered, so that iteration starts from the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static UserRoleCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the roles of the user with the given {@code googleId}.
+     *
+     * <p>If there is no valid entry for the user, the roles are loaded with {@code loader} and cached.
+     * The loaded roles are not cached if any entry is invalidated while they are being loaded,
+     * as they may already be outdated.
+     */
+    public UserRoles getOrLoad(String googleId, Supplier<UserRoles> loader) {
+        assert googleId != null;
+
+        synchronized (entries) {
+            CacheEntry entry = entries.get(googleId);
+            if (entry != null && entry.expiryTimestamp > clock.getAsLong()) {
+                hitCount.incrementAndGet();
+                return entry.roles;
+            }
+        }
+
+        missCount.incrementAndGet();
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        UserRoles roles = loader.get();
+
+        synchronized (entries) {
+            if (invalidationCount.get() == invalidationCountBeforeLoad) {
+                entries.put(googleId, new CacheEntry(roles, clock.getAsLong() + ttlMillis));
+                if (entries.size() > maxSize) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Removes the cached roles of the user with the given {@code googleId}
+     * once the current transaction, if any, is completed.
+     *
+     * <p>Does nothing if {@code googleId} is null, e.g. for an unregistered user.
+     */
+    public void invalidate(String googleId) {
+        if (googleId == null) {
+            return;
+        }
+        HibernateUtil.runAfterTransaction(() -> {
+            synchronized (entries) {
+                invalidationCount.incrementAndGet();
+                entries.remove(googleId);
+            }
+        });
+    }
+
+    /**
+     * Removes the cached roles of all users once the current transaction, if any, is completed.
+     */
+    public void invalidateAll() {
+        HibernateUtil.runAfterTransaction(() -> {
+            synchronized (entries) {
+                invalidationCount.incrementAndGet();
+                entries.clear();
+            }
+        });
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups which required the roles to be loaded.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Represents the course-based roles of a user.
+     */
+    public static class UserRoles {
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        public UserRoles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+        public boolean isInstructor() {
+            return isInstructor;
+        }
+
+        public boolean isStudent() {
+            return isStudent;
+        }
+    }
+
+    private static class CacheEntry {
+        private final UserRoles roles;
+        private final long expiryTimestamp;
+
+        CacheEntry(UserRoles roles, long expiryTimestamp) {
+            this.roles = roles;
+            this.expiryTimestamp = expiryTimestamp;
+        }
+    }
+
+}
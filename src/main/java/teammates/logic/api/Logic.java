@@ -452,6 +452,38 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Returns true if the course has been migrated or does not exist in the datastore.
+     *
+     * <p>The migration status may be served from a cache unless {@code isCacheBypassed} is true,
+     * which is required before writing to the course.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean isCourseMigrated(String courseId, boolean isCacheBypassed) {
+        assert courseId != null;
+
+        return coursesLogic.isCourseMigrated(courseId, isCacheBypassed);
+    }
+
+    /**
+     * Gets whether each of the given courses has been migrated or does not exist in the datastore.
+     *
+     * <p>The migration statuses may be served from a cache unless {@code isCacheBypassed} is true,
+     * which is required before writing to the courses.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return a map from each of the given course IDs to its migration status
+     */
+    public Map<String, Boolean> areCoursesMigrated(Collection<String> courseIds, boolean isCacheBypassed) {
+        assert courseIds != null;
+
+        return coursesLogic.areCoursesMigrated(courseIds, isCacheBypassed);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
@@ -15,12 +16,28 @@ import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
 import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
  */
 public class TaskQueuer {
 
+    /**
+     * Maximum number of emails sent by a single task scheduled by {@link #scheduleEmailBatchForSending}.
+     *
+     * <p>This matches the rate of the send-email queue, which is 10 tasks per second, so that a task does not
+     * send its emails faster than the queue would send them if they were queued one by one.
+     */
+    static final int EMAIL_BATCH_SIZE = 10;
+
+    /**
+     * Delay before the remaining emails of a partly sent batch are sent again, in milliseconds.
+     *
+     * <p>This matches the minimum backoff of the send-email queue before a failed task is retried.
+     */
+    static final long EMAIL_BATCH_RETRY_DELAY_MILLIS = 30_000L;
+
     private static final Logger log = Logger.getLogger();
 
     private static final TaskQueuer instance = new TaskQueuer();
@@ -182,6 +199,9 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are retrieved from the list one at a time, in order, so that a list which generates
+     * its emails on retrieval is never held in memory in full.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -189,10 +209,7 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int emailIntervalMillis = getEmailIntervalMillis(emails.size());
 
         long numberOfEmailsSent = 0L;
         for (EmailWrapper email : emails) {
@@ -202,6 +219,54 @@ public class TaskQueuer {
         }
     }
 
+    /**
+     * Schedules for the feedback session emails referred to by the given batch to be sent.
+     *
+     * <p>Each task refers to up to {@link #EMAIL_BATCH_SIZE} recipients of the batch, whose emails are
+     * rendered and sent together by the worker, instead of carrying the content of a single email.
+     * The tasks are spread out over 1 hour in the same way as the emails of {@link #scheduleEmailsForSending},
+     * so that the emails are sent at the same average rate.
+     *
+     * @param emailBatch the batch of emails to be sent
+     */
+    public void scheduleEmailBatchForSending(FeedbackSessionEmailBatch emailBatch) {
+        if (emailBatch.size() == 0) {
+            return;
+        }
+
+        int emailIntervalMillis = getEmailIntervalMillis(emailBatch.size());
+
+        long numberOfEmailsSent = 0L;
+        for (FeedbackSessionEmailBatch batch : emailBatch.split(EMAIL_BATCH_SIZE)) {
+            long batchDelayTimer = numberOfEmailsSent * emailIntervalMillis;
+            scheduleEmailSliceForSending(batch, batchDelayTimer);
+            numberOfEmailsSent += batch.size();
+        }
+    }
+
+    /**
+     * Schedules for the remaining emails of a batch to be sent again, after some emails of the batch are sent
+     * and the next one fails to be sent. The task is delayed in the same way as a retry of a failed task.
+     *
+     * <p>Unlike the other email scheduling methods, errors in adding the task are not caught here,
+     * so that the caller fails and its own task is retried instead of the emails being lost.
+     *
+     * @param emailBatch the batch of the emails which are not sent yet
+     */
+    public void scheduleEmailBatchForRetry(FeedbackSessionEmailBatch emailBatch) {
+        SendEmailRequest request = new SendEmailRequest(emailBatch);
+
+        addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                new HashMap<>(), request, EMAIL_BATCH_RETRY_DELAY_MILLIS);
+    }
+
+    private static int getEmailIntervalMillis(int numberOfEmails) {
+        // Equally spread out the emails to be sent over 1 hour
+        // Sets interval to a maximum of 5 seconds if the interval is too large
+        int oneHourInMillis = 60 * 60 * 1000;
+        return Math.min(5000, oneHourInMillis / numberOfEmails);
+    }
+
     /**
      * Schedules for the search indexing of the instructor identified by {@code courseId} and {@code email}.
      *
@@ -245,6 +310,19 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the search indexing of a group of students of the same course in a single task.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        StudentsSearchIndexingRequest indexingRequest = new StudentsSearchIndexingRequest(courseId, emails);
+
+        addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL,
+                new HashMap<>(), indexingRequest);
+    }
+
     private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
         try {
             SendEmailRequest request = new SendEmailRequest(email);
@@ -267,4 +345,19 @@ public class TaskQueuer {
         }
     }
 
+    private void scheduleEmailSliceForSending(FeedbackSessionEmailBatch emailBatch, long batchDelayTimer) {
+        try {
+            SendEmailRequest request = new SendEmailRequest(emailBatch);
+
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                            new HashMap<>(), request, batchDelayTimer);
+        } catch (Exception e) {
+            log.severe("Error when adding email batch to task queue: " + e.getMessage() + "\n"
+                       + "Course ID: " + emailBatch.getCourseId() + "\n"
+                       + "Feedback session name: " + emailBatch.getFeedbackSessionName() + "\n"
+                       + "Email type: " + emailBatch.getEmailType() + "\n"
+                       + "Number of emails: " + emailBatch.size());
+        }
+    }
+
 }
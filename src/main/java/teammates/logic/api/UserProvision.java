@@ -4,6 +4,7 @@ import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.util.Config;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.sqllogic.core.UsersLogic;
@@ -18,6 +19,7 @@ public class UserProvision {
     private final UsersLogic usersLogic = UsersLogic.inst();
     private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
 
     @SuppressWarnings("PMD.UnnecessaryConstructor")
     public UserProvision() {
@@ -31,6 +33,8 @@ public class UserProvision {
 
     /**
      * Gets the information of the current logged in user.
+     *
+     * <p>The course-based roles of the user are served from {@link UserRoleCache} when available.
      */
     public UserInfo getCurrentUser(UserInfoCookie uic) {
         UserInfo user = getCurrentLoggedInUser(uic);
@@ -41,14 +45,21 @@ public class UserProvision {
 
         String userId = user.id;
         user.isAdmin = Config.APP_ADMINS.contains(userId);
-        user.isInstructor = usersLogic.isInstructorInAnyCourse(userId)
-                || instructorsLogic.isInstructorInAnyCourse(userId);
-        user.isStudent = usersLogic.isStudentInAnyCourse(userId)
-                || studentsLogic.isStudentInAnyCourse(userId);
+        UserRoleCache.UserRoles roles = userRoleCache.getOrLoad(userId, () -> loadUserRoles(userId));
+        user.isInstructor = roles.isInstructor();
+        user.isStudent = roles.isStudent();
         user.isMaintainer = Config.APP_MAINTAINERS.contains(user.getId());
         return user;
     }
 
+    private UserRoleCache.UserRoles loadUserRoles(String googleId) {
+        boolean isInstructor = usersLogic.isInstructorInAnyCourse(googleId)
+                || instructorsLogic.isInstructorInAnyCourse(googleId);
+        boolean isStudent = usersLogic.isStudentInAnyCourse(googleId)
+                || studentsLogic.isStudentInAnyCourse(googleId);
+        return new UserRoleCache.UserRoles(isInstructor, isStudent);
+    }
+
     /**
      * Gets the information of the current logged in user, with an SQL transaction.
      */
@@ -14,6 +14,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InstructorUpdateException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.sqlentity.Account;
 
@@ -28,6 +29,7 @@ public final class AccountsLogic {
     private static final AccountsLogic instance = new AccountsLogic();
 
     private final AccountsDb accountsDb = AccountsDb.inst();
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
     private final teammates.storage.sqlapi.AccountsDb sqlAccountsDb = teammates.storage.sqlapi.AccountsDb.inst();
 
     private CoursesLogic coursesLogic;
@@ -116,6 +118,7 @@ public final class AccountsLogic {
         if (sqlAccountsDb.getAccountByGoogleId(googleId) == null) {
             createStudentAccount(student);
         }
+        userRoleCache.invalidate(googleId);
 
         return student;
     }
@@ -160,6 +163,7 @@ public final class AccountsLogic {
                             .withGoogleId(student.getGoogleId())
                             .build());
         }
+        userRoleCache.invalidate(googleId);
 
         return instructor;
     }
@@ -0,0 +1,198 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches whether courses have been migrated from the datastore, keyed by course ID.
+ *
+ * <p>Entries expire after a fixed time-to-live and the number of entries is bounded,
+ * with the least recently used entry evicted first.
+ * Logic methods which create, update or delete a course invalidate the entry of that course.
+ *
+ * <p>The cache is local to each application instance and is not invalidated across instances.
+ * A course flipped by another instance, or by a migration script which runs in a separate JVM,
+ * is only seen by this instance once its entry expires. Reads may tolerate this staleness,
+ * but writes must not go to the datastore for a course which has just been migrated;
+ * write paths should therefore use {@link #loadAll(Collection, Function)}, which bypasses
+ * the cached entries and refreshes them with the loaded statuses.
+ */
+public final class CourseMigrationStatusCache {
+
+    /**
+     * Time-to-live of a cache entry, in milliseconds.
+     */
+    static final long TTL_MILLIS = 60_000L;
+
+    /**
+     * Maximum number of entries kept in the cache.
+     */
+    static final int MAX_SIZE = 10_000;
+
+    private static final CourseMigrationStatusCache instance =
+            new CourseMigrationStatusCache(TTL_MILLIS, MAX_SIZE, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, CacheEntry> entries;
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    CourseMigrationStatusCache(long ttlMillis, int maxSize, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // access-ordered, so that iteration starts from the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static CourseMigrationStatusCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets whether each of the courses with the given {@code courseIds} has been migrated.
+     *
+     * <p>The courses without a valid entry are loaded together with {@code loader}, which is given the IDs
+     * of those courses and returns their migration status; courses missing from its result are
+     * considered not migrated. The loaded statuses are not cached if any entry is invalidated
+     * while they are being loaded, as they may already be outdated.
+     *
+     * @return the migration status of every course in {@code courseIds}
+     */
+    public Map<String, Boolean> getAllOrLoad(Collection<String> courseIds,
+            Function<List<String>, Map<String, Boolean>> loader) {
+        assert courseIds != null;
+
+        Map<String, Boolean> statuses = new HashMap<>();
+        Set<String> courseIdsToLoad = new LinkedHashSet<>();
+        synchronized (entries) {
+            long now = clock.getAsLong();
+            for (String courseId : courseIds) {
+                assert courseId != null;
+                if (statuses.containsKey(courseId)) {
+                    continue;
+                }
+                CacheEntry entry = entries.get(courseId);
+                if (entry != null && entry.expiryTimestamp > now) {
+                    hitCount.incrementAndGet();
+                    statuses.put(courseId, entry.isMigrated);
+                } else {
+                    courseIdsToLoad.add(courseId);
+                }
+            }
+        }
+        if (courseIdsToLoad.isEmpty()) {
+            return statuses;
+        }
+
+        missCount.addAndGet(courseIdsToLoad.size());
+        statuses.putAll(loadAndCache(courseIdsToLoad, loader));
+        return statuses;
+    }
+
+    /**
+     * Loads whether each of the courses with the given {@code courseIds} has been migrated,
+     * regardless of the cached entries.
+     *
+     * <p>The courses are loaded together with {@code loader} as in {@link #getAllOrLoad(Collection, Function)},
+     * and the loaded statuses replace the cached entries of those courses.
+     *
+     * @return the migration status of every course in {@code courseIds}
+     */
+    public Map<String, Boolean> loadAll(Collection<String> courseIds,
+            Function<List<String>, Map<String, Boolean>> loader) {
+        assert courseIds != null;
+
+        Set<String> courseIdsToLoad = new LinkedHashSet<>(courseIds);
+        if (courseIdsToLoad.isEmpty()) {
+            return new HashMap<>();
+        }
+        return loadAndCache(courseIdsToLoad, loader);
+    }
+
+    private Map<String, Boolean> loadAndCache(Set<String> courseIdsToLoad,
+            Function<List<String>, Map<String, Boolean>> loader) {
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        Map<String, Boolean> loadedStatuses = loader.apply(new ArrayList<>(courseIdsToLoad));
+
+        Map<String, Boolean> statuses = new HashMap<>();
+        synchronized (entries) {
+            boolean isCacheable = invalidationCount.get() == invalidationCountBeforeLoad;
+            long expiryTimestamp = clock.getAsLong() + ttlMillis;
+            for (String courseId : courseIdsToLoad) {
+                assert courseId != null;
+                boolean isMigrated = Boolean.TRUE.equals(loadedStatuses.get(courseId));
+                statuses.put(courseId, isMigrated);
+                if (isCacheable) {
+                    entries.put(courseId, new CacheEntry(isMigrated, expiryTimestamp));
+                }
+            }
+            while (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Removes the cached migration status of the course with the given {@code courseId}.
+     *
+     * <p>Does nothing if {@code courseId} is null.
+     */
+    public void invalidate(String courseId) {
+        if (courseId == null) {
+            return;
+        }
+        synchronized (entries) {
+            invalidationCount.incrementAndGet();
+            entries.remove(courseId);
+        }
+    }
+
+    /**
+     * Removes the cached migration status of all courses.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationCount.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the number of course lookups served from the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of course lookups which required the migration status to be loaded.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static class CacheEntry {
+        private final boolean isMigrated;
+        private final long expiryTimestamp;
+
+        CacheEntry(boolean isMigrated, long expiryTimestamp) {
+            this.isMigrated = isMigrated;
+            this.expiryTimestamp = expiryTimestamp;
+        }
+    }
+
+}
@@ -2,8 +2,11 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,6 +44,7 @@ public final class CoursesLogic {
      */
 
     private final CoursesDb coursesDb = CoursesDb.inst();
+    private final CourseMigrationStatusCache courseMigrationStatusCache = CourseMigrationStatusCache.inst();
 
     private AccountsLogic accountsLogic;
     private FeedbackSessionsLogic feedbackSessionsLogic;
@@ -88,7 +92,9 @@ public final class CoursesLogic {
      */
     CourseAttributes createCourse(CourseAttributes courseToCreate)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return coursesDb.createEntity(courseToCreate);
+        CourseAttributes createdCourse = coursesDb.createEntity(courseToCreate);
+        courseMigrationStatusCache.invalidate(createdCourse.getId());
+        return createdCourse;
     }
 
     /**
@@ -121,6 +127,7 @@ public final class CoursesLogic {
         } catch (EntityAlreadyExistsException | InvalidParametersException e) {
             // roll back the transaction
             coursesDb.deleteCourse(createdCourse.getId());
+            courseMigrationStatusCache.invalidate(createdCourse.getId());
             String errorMessage = "Unexpected exception while trying to create instructor for a new course "
                                   + System.lineSeparator() + instructor.toString();
             assert false : errorMessage;
@@ -134,6 +141,60 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Returns true if the course has been migrated or does not exist in the datastore.
+     *
+     * <p>The migration status is served from {@link CourseMigrationStatusCache} when available.
+     */
+    public boolean isCourseMigrated(String courseId) {
+        return isCourseMigrated(courseId, false);
+    }
+
+    /**
+     * Returns true if the course has been migrated or does not exist in the datastore.
+     *
+     * <p>If {@code isCacheBypassed} is true, the migration status is always loaded from the datastore,
+     * which is required before writing to the course as its cached status may be outdated.
+     */
+    public boolean isCourseMigrated(String courseId, boolean isCacheBypassed) {
+        return areCoursesMigrated(List.of(courseId), isCacheBypassed).get(courseId);
+    }
+
+    /**
+     * Gets whether each of the given courses has been migrated or does not exist in the datastore.
+     *
+     * <p>The migration statuses are served from {@link CourseMigrationStatusCache} when available;
+     * the remaining courses are loaded together.
+     *
+     * @return a map from each of the given course IDs to its migration status
+     */
+    public Map<String, Boolean> areCoursesMigrated(Collection<String> courseIds) {
+        return areCoursesMigrated(courseIds, false);
+    }
+
+    /**
+     * Gets whether each of the given courses has been migrated or does not exist in the datastore.
+     *
+     * <p>If {@code isCacheBypassed} is true, all the migration statuses are loaded from the datastore.
+     *
+     * @return a map from each of the given course IDs to its migration status
+     */
+    public Map<String, Boolean> areCoursesMigrated(Collection<String> courseIds, boolean isCacheBypassed) {
+        if (isCacheBypassed) {
+            return courseMigrationStatusCache.loadAll(courseIds, this::loadMigrationStatuses);
+        }
+        return courseMigrationStatusCache.getAllOrLoad(courseIds, this::loadMigrationStatuses);
+    }
+
+    private Map<String, Boolean> loadMigrationStatuses(List<String> courseIds) {
+        Map<String, Boolean> migrationStatuses = new HashMap<>();
+        courseIds.forEach(courseId -> migrationStatuses.put(courseId, true));
+        for (CourseAttributes course : coursesDb.getCourses(courseIds)) {
+            migrationStatuses.put(course.getId(), course.isMigrated());
+        }
+        return migrationStatuses;
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -293,6 +354,7 @@ public final class CoursesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         CourseAttributes oldCourse = coursesDb.getCourse(updateOptions.getCourseId());
         CourseAttributes updatedCourse = coursesDb.updateCourse(updateOptions);
+        courseMigrationStatusCache.invalidate(updatedCourse.getId());
 
         if (!updatedCourse.getTimeZone().equals(oldCourse.getTimeZone())) {
             feedbackSessionsLogic
@@ -324,6 +386,7 @@ public final class CoursesLogic {
         deadlineExtensionsLogic.deleteDeadlineExtensions(query);
 
         coursesDb.deleteCourse(courseId);
+        courseMigrationStatusCache.invalidate(courseId);
     }
 
     /**
@@ -26,6 +26,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.AccountRequestsDb;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CoursesDb;
@@ -58,6 +59,8 @@ public final class DataBundleLogic {
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
     private final NotificationsDb nfDb = NotificationsDb.inst();
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
+    private final CourseMigrationStatusCache courseMigrationStatusCache = CourseMigrationStatusCache.inst();
 
     private DataBundleLogic() {
         // prevent initialization
@@ -110,8 +113,10 @@ public final class DataBundleLogic {
         List<AccountRequestAttributes> newAccountRequests = accountRequestsDb.putEntities(accountRequests);
 
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
+        courseMigrationStatusCache.invalidateAll();
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
+        userRoleCache.invalidateAll();
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
         List<DeadlineExtensionAttributes> newDeadlineExtensions = deadlineExtensionsDb.putEntities(deadlineExtensions);
 
@@ -382,6 +387,8 @@ public final class DataBundleLogic {
         dataBundle.notifications.values().forEach(notification -> {
             nfDb.deleteNotification(notification.getNotificationId());
         });
+        userRoleCache.invalidateAll();
+        courseMigrationStatusCache.invalidateAll();
     }
 
     private void deleteCourses(Collection<CourseAttributes> courses) {
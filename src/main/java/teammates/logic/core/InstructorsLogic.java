@@ -18,6 +18,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -33,6 +34,7 @@ public final class InstructorsLogic {
     private static final InstructorsLogic instance = new InstructorsLogic();
 
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
 
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
@@ -85,7 +87,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        userRoleCache.invalidate(instructorToAdd.getGoogleId());
+        return createdInstructor;
     }
 
     /**
@@ -308,6 +312,7 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        userRoleCache.invalidateAll();
     }
 
     /**
@@ -323,6 +328,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        userRoleCache.invalidate(instructorAttributes.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -359,6 +365,7 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        InstructorAttributes originalInstructor = getInstructorForEmail(courseId, originalEmail);
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
@@ -367,6 +374,9 @@ public final class InstructorsLogic {
         } catch (InvalidParametersException e) {
             assert false : "Unexpected invalid parameter.";
         }
+        if (originalInstructor != null) {
+            userRoleCache.invalidate(originalInstructor.getGoogleId());
+        }
     }
 
     /**
@@ -16,6 +16,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -38,6 +39,7 @@ public final class StudentsLogic {
     private static final StudentsLogic instance = new StudentsLogic();
 
     private final StudentsDb studentsDb = StudentsDb.inst();
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
 
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
@@ -66,7 +68,9 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        userRoleCache.invalidate(studentData.getGoogleId());
+        return createdStudent;
     }
 
     /**
@@ -270,6 +274,7 @@ public final class StudentsLogic {
      */
     public void resetStudentGoogleId(String originalEmail, String courseId)
             throws EntityDoesNotExistException {
+        StudentAttributes originalStudent = getStudentForEmail(courseId, originalEmail);
         try {
             updateStudentCascade(
                     StudentAttributes.updateOptionsBuilder(courseId, originalEmail)
@@ -278,6 +283,9 @@ public final class StudentsLogic {
         } catch (InvalidParametersException | EntityAlreadyExistsException e) {
             assert false : "Resetting google ID shall not cause: " + e.getMessage();
         }
+        if (originalStudent != null) {
+            userRoleCache.invalidate(originalStudent.getGoogleId());
+        }
     }
 
     /**
@@ -445,6 +453,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        userRoleCache.invalidate(student.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -473,6 +482,7 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        userRoleCache.invalidateAll();
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
 
@@ -1,6 +1,7 @@
 package teammates.sqllogic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -14,6 +15,7 @@ import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.SqlEnrollmentResult;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -414,6 +416,25 @@ public class Logic {
         return usersLogic.updateStudentCascade(student);
     }
 
+    /**
+     * Enrolls a list of students into a course, creating or updating them as a single set-based operation.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the students enrolled, the subset of them that was created or updated,
+     *         and the error messages of the students that cannot be enrolled
+     * @throws InvalidParametersException if the new students cannot be created
+     * @see UsersLogic#enrollStudents(Course, List)
+     */
+    public SqlEnrollmentResult enrollStudents(Course course, List<Student> studentsToEnroll)
+            throws InvalidParametersException {
+        assert course != null;
+        assert studentsToEnroll != null;
+
+        return usersLogic.enrollStudents(course, studentsToEnroll);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * @return the deletion timestamp assigned to the course.
@@ -1050,6 +1071,13 @@ public class Logic {
         return usersLogic.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Gets students associated with {@code courseId} and any of the {@code emails}.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> emails) {
+        return usersLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -1105,6 +1133,15 @@ public class Logic {
         return usersLogic.getStudentsForTeam(teamName, courseId);
     }
 
+    /**
+     * Gets the sections of the given recipients of responses to the {@code question},
+     * keyed by recipient identifier.
+     */
+    public Map<String, Section> getRecipientSections(FeedbackQuestion question, Collection<String> recipients) {
+        return feedbackResponsesLogic.getRecipientSections(question.getCourseId(),
+                question.getGiverType(), question.getRecipientType(), recipients);
+    }
+
     /**
      * Returns the default SQL section.
      * If it does not exist, create and return it.
@@ -1492,7 +1529,8 @@ public class Logic {
             @Nullable Instructor instructorGiver, @Nullable Student studentGiver) {
         assert question != null;
 
-        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, null);
+        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver,
+                usersLogic.getCourseRoster(question.getCourseId()));
     }
 
     /**
@@ -1593,6 +1631,28 @@ public class Logic {
         return feedbackResponsesLogic.updateFeedbackResponseCascade(feedbackResponse);
     }
 
+    /**
+     * Creates and updates feedback responses in bulk, writing them in JDBC batches.
+     *
+     * <p>Cascade updates the associated feedback response comments of the updated responses.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     * * The responses to update have been loaded in the current session.
+     *
+     * @return the created responses, followed by the updated responses
+     * @throws InvalidParametersException if any of the responses is not valid
+     * @throws EntityDoesNotExistException if an associated comment cannot be found
+     */
+    public List<FeedbackResponse> upsertFeedbackResponsesCascade(
+            List<FeedbackResponse> responsesToCreate, List<FeedbackResponse> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+
+        return feedbackResponsesLogic.upsertFeedbackResponsesCascade(responsesToCreate, responsesToUpdate);
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -1722,6 +1782,15 @@ public class Logic {
         usersLogic.putStudentDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in a single request.
+     *
+     * @see UsersLogic#putStudentDocuments(List)
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        usersLogic.putStudentDocuments(students);
+    }
+
     /**
      * This is used by admin to search account requests in the whole system.
      *
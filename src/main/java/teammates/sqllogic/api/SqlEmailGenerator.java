@@ -1,9 +1,12 @@
 package teammates.sqllogic.api;
 
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,14 +14,18 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.ErrorLogEntry;
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
+import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
 import teammates.sqllogic.core.CoursesLogic;
@@ -32,6 +39,7 @@ import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.User;
 
 /**
  * Handles operations related to generating emails to be sent from provided templates.
@@ -76,57 +84,6 @@ public final class SqlEmailGenerator {
         return instance;
     }
 
-    /**
-     * Generate Feedback Session Opened emails.
-     */
-    public List<EmailWrapper> generateFeedbackSessionOpenedEmails(FeedbackSession session) {
-        return generateFeedbackSessionOpenedOrClosingSoonEmails(session, EmailType.FEEDBACK_OPENED);
-    }
-
-    private List<EmailWrapper> generateFeedbackSessionOpenedOrClosingSoonEmails(
-            FeedbackSession session, EmailType emailType) {
-        Course course = session.getCourse();
-        boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
-        boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
-        List<Instructor> instructorsToNotify = isEmailNeededForStudents
-                ? usersLogic.getCoOwnersForCourse(course.getId())
-                : new ArrayList<>();
-        List<Student> students = isEmailNeededForStudents
-                ? usersLogic.getStudentsForCourse(course.getId())
-                : new ArrayList<>();
-        List<Instructor> instructors = isEmailNeededForInstructors
-                ? usersLogic.getInstructorsForCourse(course.getId())
-                : new ArrayList<>();
-
-        if (emailType == EmailType.FEEDBACK_CLOSING_SOON) {
-            List<DeadlineExtension> deadlines = session.getDeadlineExtensions();
-            Set<UUID> userIds = deadlines.stream()
-                    .map(d -> d.getUser().getId())
-                    .collect(Collectors.toSet());
-
-            // student.
-            students = students.stream()
-                    .filter(x -> !userIds.contains(x.getId()))
-                    .collect(Collectors.toList());
-
-            // instructor.
-            instructors = instructors.stream()
-                    .filter(x -> !userIds.contains(x.getId()))
-                    .collect(Collectors.toList());
-        }
-
-        String status = emailType == EmailType.FEEDBACK_OPENED
-                ? FEEDBACK_STATUS_SESSION_OPENED
-                : FEEDBACK_STATUS_SESSION_CLOSING_SOON;
-
-        String template = emailType == EmailType.FEEDBACK_OPENED
-                ? EmailTemplates.USER_FEEDBACK_SESSION_OPENED.replace("${status}", status)
-                : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
-
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
-                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
-    }
-
     /**
      * Generates the feedback session opening soon emails for the given {@code session}.
      *
@@ -511,15 +468,6 @@ public final class SqlEmailGenerator {
 
     }
 
-    /**
-     * Generates the feedback session closing soon emails for the given {@code session}.
-     *
-     * <p>Students and instructors with deadline extensions are not notified.
-     */
-    public List<EmailWrapper> generateFeedbackSessionClosingSoonEmails(FeedbackSession session) {
-        return generateFeedbackSessionOpenedOrClosingSoonEmails(session, EmailType.FEEDBACK_CLOSING_SOON);
-    }
-
     /**
      * Generates the feedback session closed emails for the given {@code session}.
      */
@@ -540,20 +488,16 @@ public final class SqlEmailGenerator {
                 !deadlineExtensions.isEmpty() && fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
 
         List<Student> students = new ArrayList<>();
-        if (isEmailNeededForStudents) {
+        List<Instructor> instructors = new ArrayList<>();
+        if (isEmailNeededForStudents || isEmailNeededForInstructors) {
+            SqlCourseRoster roster = usersLogic.getCourseRoster(course.getId());
             for (DeadlineExtension de : deadlineExtensions) {
-                Student student = usersLogic.getStudentForEmail(course.getId(), de.getUser().getEmail());
+                Student student = isEmailNeededForStudents ? roster.getStudentForEmail(de.getUser().getEmail()) : null;
                 if (student != null) {
                     students.add(student);
                 }
-            }
-        }
-
-        List<Instructor> instructors = new ArrayList<>();
-        if (isEmailNeededForInstructors) {
-            for (DeadlineExtension de : deadlineExtensions) {
                 Instructor instructor =
-                        usersLogic.getInstructorForEmail(course.getId(), de.getUser().getEmail());
+                        isEmailNeededForInstructors ? roster.getInstructorForEmail(de.getUser().getEmail()) : null;
                 if (instructor != null) {
                     instructors.add(instructor);
                 }
@@ -561,25 +505,8 @@ public final class SqlEmailGenerator {
         }
 
         String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING_SOON);
-        EmailType type = EmailType.FEEDBACK_CLOSING_SOON;
-        String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (Student student : students) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.singletonList(student),
-                    Collections.emptyList(), Collections.emptyList(), template, type, feedbackAction));
-        }
-        for (Instructor instructor : instructors) {
-            emails.addAll(generateFeedbackSessionEmailBases(course, session, Collections.emptyList(),
-                    Collections.singletonList(instructor), Collections.emptyList(), template, type, feedbackAction));
-        }
-        return emails;
-    }
-
-    /**
-     * Generates the feedback session published emails for the given {@code session}.
-     */
-    public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSession session) {
-        return generateFeedbackSessionPublishedOrUnpublishedEmails(session, EmailType.FEEDBACK_PUBLISHED);
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, Collections.emptyList(),
+                template, EmailType.FEEDBACK_CLOSING_SOON, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
     }
 
     /**
@@ -594,13 +521,112 @@ public final class SqlEmailGenerator {
     }
 
     /**
-     * Generates the feedback session unpublished emails for the given {@code session}.
+     * Generates the batch referring to the feedback session emails of the given {@code emailType}
+     * for the given {@code session}, without rendering the emails.
+     *
+     * <p>Only the emails to the course roster are supported, i.e. the feedback session opened, closing soon,
+     * published and unpublished emails.
+     */
+    public FeedbackSessionEmailBatch generateFeedbackSessionEmailBatch(FeedbackSession session, EmailType emailType) {
+        return generateFeedbackSessionEmails(session, emailType).getBatch();
+    }
+
+    /**
+     * Generates the feedback session emails referred to by the given {@code batch} for the given {@code session}.
+     *
+     * <p>The emails are generated with the current data of the session and its course;
+     * recipients who are no longer to be sent the emails are left out.
      */
-    public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSession session) {
-        return generateFeedbackSessionPublishedOrUnpublishedEmails(session, EmailType.FEEDBACK_UNPUBLISHED);
+    public List<EmailWrapper> generateFeedbackSessionEmails(FeedbackSession session, FeedbackSessionEmailBatch batch) {
+        return generateFeedbackSessionEmails(session, batch.getEmailType())
+                .forRecipients(batch.getUserIds(), batch.getCopyRecipientIds());
+    }
+
+    private FeedbackSessionEmails generateFeedbackSessionEmails(FeedbackSession session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENED:
+        case FEEDBACK_CLOSING_SOON:
+            return generateFeedbackSessionOpenedOrClosingSoonEmails(session, emailType);
+        case FEEDBACK_PUBLISHED:
+        case FEEDBACK_UNPUBLISHED:
+            return generateFeedbackSessionPublishedOrUnpublishedEmails(session, emailType);
+        default:
+            throw new AssertionError("Invalid email type: " + emailType);
+        }
+    }
+
+    /**
+     * Generates the feedback session emails referred to by the given {@code batch}, with an SQL transaction.
+     *
+     * <p>All the emails are generated before the transaction is committed, so that they can be sent afterwards
+     * without holding a database connection. The email at each index is addressed to the recipient at the same
+     * index of the batch, i.e. its users followed by its copy recipients, and is null if the recipient is
+     * no longer to be sent the email.
+     *
+     * @return the emails, or null if the feedback session of the batch does not exist
+     */
+    public List<EmailWrapper> generateFeedbackSessionEmailsWithTransaction(FeedbackSessionEmailBatch batch) {
+        HibernateUtil.beginTransaction();
+        try {
+            FeedbackSession session =
+                    fsLogic.getFeedbackSession(batch.getFeedbackSessionName(), batch.getCourseId());
+            List<EmailWrapper> emails = session == null
+                    ? null
+                    : generateFeedbackSessionEmails(session, batch.getEmailType())
+                            .generateForEachRecipient(batch.getUserIds(), batch.getCopyRecipientIds());
+            HibernateUtil.commitTransaction();
+            return emails;
+        } catch (RuntimeException e) {
+            HibernateUtil.rollbackTransaction();
+            throw e;
+        }
+    }
+
+    private FeedbackSessionEmails generateFeedbackSessionOpenedOrClosingSoonEmails(
+            FeedbackSession session, EmailType emailType) {
+        Course course = session.getCourse();
+        boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
+        boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
+        List<Instructor> instructorsToNotify = isEmailNeededForStudents
+                ? usersLogic.getCoOwnersForCourse(course.getId())
+                : new ArrayList<>();
+        List<Student> students = isEmailNeededForStudents
+                ? usersLogic.getCourseRoster(course.getId()).getStudents()
+                : new ArrayList<>();
+        List<Instructor> instructors = isEmailNeededForInstructors
+                ? usersLogic.getCourseRoster(course.getId()).getInstructors()
+                : new ArrayList<>();
+
+        Map<UUID, Instant> extendedDeadlines = students.isEmpty() && instructors.isEmpty()
+                ? Collections.emptyMap()
+                : deLogic.getExtendedDeadlinesForSession(session);
+        if (emailType == EmailType.FEEDBACK_CLOSING_SOON) {
+            Set<UUID> userIds = extendedDeadlines.keySet();
+
+            // student.
+            students = students.stream()
+                    .filter(x -> !userIds.contains(x.getId()))
+                    .collect(Collectors.toList());
+
+            // instructor.
+            instructors = instructors.stream()
+                    .filter(x -> !userIds.contains(x.getId()))
+                    .collect(Collectors.toList());
+        }
+
+        String status = emailType == EmailType.FEEDBACK_OPENED
+                ? FEEDBACK_STATUS_SESSION_OPENED
+                : FEEDBACK_STATUS_SESSION_CLOSING_SOON;
+
+        String template = emailType == EmailType.FEEDBACK_OPENED
+                ? EmailTemplates.USER_FEEDBACK_SESSION_OPENED.replace("${status}", status)
+                : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
+
+        return new FeedbackSessionEmails(course, session, students, instructors, instructorsToNotify, template,
+                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, extendedDeadlines);
     }
 
-    private List<EmailWrapper> generateFeedbackSessionPublishedOrUnpublishedEmails(
+    private FeedbackSessionEmails generateFeedbackSessionPublishedOrUnpublishedEmails(
             FeedbackSession session, EmailType emailType) {
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionViewableToUserType(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionViewableToUserType(session, true);
@@ -608,17 +634,17 @@ public final class SqlEmailGenerator {
                 ? usersLogic.getCoOwnersForCourse(session.getCourse().getId())
                 : new ArrayList<>();
         List<Student> students = isEmailNeededForStudents
-                ? usersLogic.getStudentsForCourse(session.getCourse().getId())
+                ? usersLogic.getCourseRoster(session.getCourse().getId()).getStudents()
                 : new ArrayList<>();
         List<Instructor> instructors = isEmailNeededForInstructors
-                ? usersLogic.getInstructorsForCourse(session.getCourse().getId())
+                ? usersLogic.getCourseRoster(session.getCourse().getId()).getInstructors()
                 : new ArrayList<>();
 
         return generateFeedbackSessionPublishedOrUnpublishedEmails(
                 session, students, instructors, instructorsToNotify, emailType);
     }
 
-    private List<EmailWrapper> generateFeedbackSessionPublishedOrUnpublishedEmails(
+    private FeedbackSessionEmails generateFeedbackSessionPublishedOrUnpublishedEmails(
             FeedbackSession session, List<Student> students,
             List<Instructor> instructors, List<Instructor> instructorsToNotify, EmailType emailType) {
         Course course = session.getCourse();
@@ -729,52 +755,45 @@ public final class SqlEmailGenerator {
         }
     }
 
-    private List<EmailWrapper> generateFeedbackSessionEmailBases(
+    private FeedbackSessionEmails generateFeedbackSessionEmailBases(
             Course course, FeedbackSession session, List<Student> students,
             List<Instructor> instructors, List<Instructor> instructorsToNotify, String template,
             EmailType type, String feedbackAction) {
-        StringBuilder studentAdditionalContactBuilder = new StringBuilder();
-        StringBuilder instructorAdditionalContactBuilder = new StringBuilder();
-        studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
-        instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
-
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (Student student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
-        }
-        for (Instructor instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
-        }
-        for (Instructor instructor : instructorsToNotify) {
-            emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
-        }
-        return emails;
+        Map<UUID, Instant> extendedDeadlines = students.isEmpty() && instructors.isEmpty()
+                ? Collections.emptyMap()
+                : deLogic.getExtendedDeadlinesForSession(session);
+        return new FeedbackSessionEmails(course, session, students, instructors, instructorsToNotify,
+                template, type, feedbackAction, extendedDeadlines);
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
             Course course, FeedbackSession session, Student student, String template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
-        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getName())
-                .withRegistrationKey(student.getRegKey())
-                .toAbsoluteString();
-
-        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getName())
-                .withRegistrationKey(student.getRegKey())
-                .toAbsoluteString();
-
         Instant deadline = deLogic.getDeadlineForUser(session, student);
+        CompiledTemplate emailBase = fillUpFeedbackSessionEmailBase(
+                course, session, template, deadline, feedbackAction, additionalContactInformation);
+        return generateFeedbackSessionEmailForStudent(course, session, student, emailBase, type);
+    }
+
+    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
+            Course course, FeedbackSession session, Instructor instructor,
+            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+        Instant deadline = deLogic.getDeadlineForUser(session, instructor);
+        CompiledTemplate emailBase = fillUpFeedbackSessionEmailBase(
+                course, session, template, deadline, feedbackAction, additionalContactInformation);
+        return generateFeedbackSessionEmailForInstructor(course, session, instructor, emailBase, type);
+    }
 
+    /**
+     * Fills up the parts of a feedback session email which are the same for all users with the given
+     * {@code deadline}, leaving the user name and the submission and result links to be filled up per user.
+     * The filled up values, e.g. the session instructions, are never populated again.
+     */
+    private CompiledTemplate fillUpFeedbackSessionEmailBase(Course course, FeedbackSession session,
+            String template, Instant deadline, String feedbackAction, String additionalContactInformation) {
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
+        return Templates.getCompiledTemplate(template).populatePartially(
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
@@ -783,10 +802,28 @@ public final class SqlEmailGenerator {
                         + (session.getEndTime().equals(deadline) ? "" : " (after extension)"),
                 "${instructorPreamble}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
+    }
+
+    private EmailWrapper generateFeedbackSessionEmailForStudent(
+            Course course, FeedbackSession session, Student student, CompiledTemplate emailBase, EmailType type) {
+        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
+                .withCourseId(course.getId())
+                .withSessionName(session.getName())
+                .withRegistrationKey(student.getRegKey())
+                .toAbsoluteString();
+
+        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
+                .withCourseId(course.getId())
+                .withSessionName(session.getName())
+                .withRegistrationKey(student.getRegKey())
+                .toAbsoluteString();
+
+        String emailBody = emailBase.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
+                "${submitUrl}", submitUrl,
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.getEmail());
         email.setType(type);
@@ -795,9 +832,8 @@ public final class SqlEmailGenerator {
         return email;
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+    private EmailWrapper generateFeedbackSessionEmailForInstructor(
+            Course course, FeedbackSession session, Instructor instructor, CompiledTemplate emailBase, EmailType type) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getName())
@@ -812,24 +848,10 @@ public final class SqlEmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant deadline = deLogic.getDeadlineForUser(session, instructor);
-
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                deadline, session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = emailBase.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getCourse().getTimeZone(), DATETIME_DISPLAY_FORMAT))
-                        + (session.getEndTime().equals(deadline) ? "" : " (after extension)"),
-                "${instructorPreamble}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
@@ -838,14 +860,15 @@ public final class SqlEmailGenerator {
         return email;
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
-            Course course, FeedbackSession session, Instructor instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
-
+    /**
+     * Fills up the parts of the copy of a feedback session email for the instructors to notify,
+     * leaving the user name to be filled up per instructor.
+     */
+    private CompiledTemplate fillUpFeedbackSessionEmailBaseForNotifiedInstructors(Course course,
+            FeedbackSession session, String template, String feedbackAction, String additionalContactInformation) {
         Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
                 session.getEndTime(), session.getCourse().getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
+        return Templates.getCompiledTemplate(template).populatePartially(
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getName()),
@@ -857,6 +880,12 @@ public final class SqlEmailGenerator {
                 "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
+    }
+
+    private EmailWrapper generateFeedbackSessionEmailForNotifiedInstructor(
+            Course course, FeedbackSession session, Instructor instructor, CompiledTemplate emailBase, EmailType type) {
+        String emailBody = emailBase.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()));
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
@@ -1171,4 +1200,164 @@ public final class SqlEmailGenerator {
                 "${coOwnersEmails}", generateCoOwnersEmailsLine(course.getId()),
                 "${supportEmail}", Config.SUPPORT_EMAIL);
     }
+
+    /**
+     * The feedback session emails to students, instructors and instructors to notify, in that order.
+     *
+     * <p>The parts of the emails which are the same for all users with the same deadline are filled up
+     * and compiled once, when the list is created. Each email is only completed for its recipient when it is retrieved,
+     * so that the emails to a large course are not all held in memory while they are being scheduled.
+     */
+    private final class FeedbackSessionEmails extends AbstractList<EmailWrapper> {
+        private final Course course;
+        private final FeedbackSession session;
+        private final List<Student> students;
+        private final List<Instructor> instructors;
+        private final List<Instructor> instructorsToNotify;
+        private final EmailType type;
+        private final Map<UUID, Instant> extendedDeadlines;
+        private final Map<Instant, CompiledTemplate> studentEmailBases;
+        private final Map<Instant, CompiledTemplate> instructorEmailBases;
+        private final CompiledTemplate notifiedInstructorEmailBase;
+
+        FeedbackSessionEmails(Course course, FeedbackSession session, List<Student> students,
+                List<Instructor> instructors, List<Instructor> instructorsToNotify, String template,
+                EmailType type, String feedbackAction, Map<UUID, Instant> extendedDeadlines) {
+            this.course = course;
+            this.session = session;
+            this.students = students;
+            this.instructors = instructors;
+            this.instructorsToNotify = instructorsToNotify;
+            this.type = type;
+            this.extendedDeadlines = extendedDeadlines;
+            this.studentEmailBases = new HashMap<>();
+            this.instructorEmailBases = new HashMap<>();
+
+            String studentAdditionalContactInformation = students.isEmpty() && instructorsToNotify.isEmpty()
+                    ? null
+                    : getAdditionalContactInformationFragment(course, false);
+            for (Student student : students) {
+                studentEmailBases.computeIfAbsent(getDeadline(student), deadline -> fillUpFeedbackSessionEmailBase(
+                        course, session, template, deadline, feedbackAction, studentAdditionalContactInformation));
+            }
+            String instructorAdditionalContactInformation = instructors.isEmpty()
+                    ? null
+                    : getAdditionalContactInformationFragment(course, true);
+            for (Instructor instructor : instructors) {
+                instructorEmailBases.computeIfAbsent(getDeadline(instructor), deadline -> fillUpFeedbackSessionEmailBase(
+                        course, session, template, deadline, feedbackAction, instructorAdditionalContactInformation));
+            }
+            this.notifiedInstructorEmailBase = instructorsToNotify.isEmpty()
+                    ? null
+                    : fillUpFeedbackSessionEmailBaseForNotifiedInstructors(
+                            course, session, template, feedbackAction, studentAdditionalContactInformation);
+        }
+
+        /**
+         * Creates the emails of {@code emails} to the given subset of its recipients,
+         * sharing the parts of the emails which are already filled up.
+         */
+        private FeedbackSessionEmails(FeedbackSessionEmails emails, List<Student> students,
+                List<Instructor> instructors, List<Instructor> instructorsToNotify) {
+            this.course = emails.course;
+            this.session = emails.session;
+            this.students = students;
+            this.instructors = instructors;
+            this.instructorsToNotify = instructorsToNotify;
+            this.type = emails.type;
+            this.extendedDeadlines = emails.extendedDeadlines;
+            this.studentEmailBases = emails.studentEmailBases;
+            this.instructorEmailBases = emails.instructorEmailBases;
+            this.notifiedInstructorEmailBase = emails.notifiedInstructorEmailBase;
+        }
+
+        private Instant getDeadline(User user) {
+            return extendedDeadlines.getOrDefault(user.getId(), session.getEndTime());
+        }
+
+        /**
+         * Gets the batch referring to these emails by the IDs of their recipients.
+         */
+        FeedbackSessionEmailBatch getBatch() {
+            List<UUID> userIds = new ArrayList<>(students.size() + instructors.size());
+            students.forEach(student -> userIds.add(student.getId()));
+            instructors.forEach(instructor -> userIds.add(instructor.getId()));
+            List<UUID> copyRecipientIds = instructorsToNotify.stream()
+                    .map(Instructor::getId)
+                    .collect(Collectors.toList());
+            return new FeedbackSessionEmailBatch(course.getId(), session.getName(), type, userIds, copyRecipientIds);
+        }
+
+        /**
+         * Gets the emails to the recipients with the given {@code userIds},
+         * and the copies to the instructors with the given {@code copyRecipientIds}, in the original order.
+         */
+        FeedbackSessionEmails forRecipients(Collection<UUID> userIds, Collection<UUID> copyRecipientIds) {
+            Set<UUID> userIdSet = new HashSet<>(userIds);
+            Set<UUID> copyRecipientIdSet = new HashSet<>(copyRecipientIds);
+            return new FeedbackSessionEmails(this,
+                    students.stream().filter(student -> userIdSet.contains(student.getId()))
+                            .collect(Collectors.toList()),
+                    instructors.stream().filter(instructor -> userIdSet.contains(instructor.getId()))
+                            .collect(Collectors.toList()),
+                    instructorsToNotify.stream().filter(instructor -> copyRecipientIdSet.contains(instructor.getId()))
+                            .collect(Collectors.toList()));
+        }
+
+        /**
+         * Generates the emails to the recipients with the given {@code userIds}, followed by the copies to
+         * the instructors with the given {@code copyRecipientIds}, in the given order.
+         * The email to a recipient who is not a recipient of these emails is null.
+         */
+        List<EmailWrapper> generateForEachRecipient(List<UUID> userIds, List<UUID> copyRecipientIds) {
+            Map<UUID, Integer> userIndexes = new HashMap<>();
+            for (int i = 0; i < students.size(); i++) {
+                userIndexes.put(students.get(i).getId(), i);
+            }
+            for (int i = 0; i < instructors.size(); i++) {
+                userIndexes.put(instructors.get(i).getId(), students.size() + i);
+            }
+            Map<UUID, Integer> copyRecipientIndexes = new HashMap<>();
+            for (int i = 0; i < instructorsToNotify.size(); i++) {
+                copyRecipientIndexes.put(instructorsToNotify.get(i).getId(), students.size() + instructors.size() + i);
+            }
+
+            List<EmailWrapper> emails = new ArrayList<>(userIds.size() + copyRecipientIds.size());
+            for (UUID userId : userIds) {
+                Integer index = userIndexes.get(userId);
+                emails.add(index == null ? null : get(index));
+            }
+            for (UUID copyRecipientId : copyRecipientIds) {
+                Integer index = copyRecipientIndexes.get(copyRecipientId);
+                emails.add(index == null ? null : get(index));
+            }
+            return emails;
+        }
+
+        @Override
+        public EmailWrapper get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            if (index < students.size()) {
+                Student student = students.get(index);
+                return generateFeedbackSessionEmailForStudent(
+                        course, session, student, studentEmailBases.get(getDeadline(student)), type);
+            }
+            int instructorIndex = index - students.size();
+            if (instructorIndex < instructors.size()) {
+                Instructor instructor = instructors.get(instructorIndex);
+                return generateFeedbackSessionEmailForInstructor(
+                        course, session, instructor, instructorEmailBases.get(getDeadline(instructor)), type);
+            }
+            return generateFeedbackSessionEmailForNotifiedInstructor(course, session,
+                    instructorsToNotify.get(instructorIndex - instructors.size()), notifiedInstructorEmailBase, type);
+        }
+
+        @Override
+        public int size() {
+            return students.size() + instructors.size() + instructorsToNotify.size();
+        }
+    }
+
 }
@@ -50,6 +50,13 @@ public final class AccountRequestsLogic {
         getSearchManager().putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search documents for the given account requests in a single request.
+     */
+    public void putDocuments(List<AccountRequest> accountRequests) throws SearchServiceException {
+        getSearchManager().putDocuments(accountRequests);
+    }
+
     /**
      * Creates an account request.
      */
@@ -9,6 +9,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
@@ -28,6 +29,10 @@ public final class AccountsLogic {
 
     private static final AccountsLogic instance = new AccountsLogic();
 
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
+
+    private final CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+
     private AccountsDb accountsDb;
 
     private NotificationsLogic notificationsLogic;
@@ -214,6 +219,8 @@ public final class AccountsLogic {
         if (student.getAccount() == null) {
             student.setAccount(account);
         }
+        userRoleCache.invalidate(googleId);
+        courseRosterCache.invalidate(student.getCourseId());
 
         return student;
     }
@@ -243,6 +250,8 @@ public final class AccountsLogic {
             student.setAccount(account);
             usersLogic.updateStudentCascade(student);
         }
+        userRoleCache.invalidate(googleId);
+        courseRosterCache.invalidate(instructor.getCourseId());
 
         return instructor;
     }
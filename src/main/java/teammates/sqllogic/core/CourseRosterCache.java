@@ -0,0 +1,177 @@
+package teammates.sqllogic.core;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.util.HibernateUtil;
+
+/**
+ * Caches the rosters of courses, keyed by course ID.
+ *
+ * <p>Each course has a roster version, which is bumped whenever a student or instructor of the course
+ * is created, updated or deleted. A cached roster is only served while it was loaded at the current version
+ * of its course. Entries also expire after a fixed time-to-live, which bounds the staleness of entries
+ * cached by other application instances, and the number of entries is bounded,
+ * with the least recently used entry evicted first.
+ *
+ * <p>A course is invalidated right after its users are written, and again once the writing transaction
+ * is completed, so that a roster loaded by another request before the write is committed is not kept.
+ * Until then, lookups of the course in the writing transaction bypass the cache and see the uncommitted write.
+ *
+ * <p>The cache keeps its own copy of each roster, whose entities do not belong to any session. The cached roster
+ * is shared by all lookups of the course, so callers must not modify it; they must copy an entity before
+ * modifying it, and use references obtained from the current session to attach its entities to others.
+ */
+public final class CourseRosterCache {
+
+    /**
+     * Time-to-live of a cache entry, in milliseconds.
+     */
+    static final long TTL_MILLIS = 60_000L;
+
+    /**
+     * Maximum number of entries kept in the cache.
+     */
+    static final int MAX_SIZE = 200;
+
+    private static final CourseRosterCache instance =
+            new CourseRosterCache(TTL_MILLIS, MAX_SIZE, System::currentTimeMillis);
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, CacheEntry> entries;
+    private final Map<String, Long> rosterVersions = new HashMap<>();
+    private long allRostersVersion;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final ThreadLocal<Set<String>> courseIdsWrittenInTransaction = ThreadLocal.withInitial(HashSet::new);
+
+    CourseRosterCache(long ttlMillis, int maxSize, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // access-ordered, so that iteration starts from the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static CourseRosterCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the roster of the course with the given {@code courseId}.
+     *
+     * <p>A valid entry is returned as is, and is shared with other callers.
+     * If there is no valid entry for the course, the roster is loaded with {@code loader} and returned as is,
+     * while a copy of it is cached. The loaded roster is not cached if the roster version of the course is bumped
+     * while it is being loaded, as it may already be outdated. The cache is bypassed if the course is written
+     * in the current transaction.
+     */
+    public SqlCourseRoster getOrLoad(String courseId, Supplier<SqlCourseRoster> loader) {
+        assert courseId != null;
+
+        if (courseIdsWrittenInTransaction.get().contains(courseId)) {
+            missCount.incrementAndGet();
+            return loader.get();
+        }
+
+        long versionBeforeLoad;
+        synchronized (entries) {
+            versionBeforeLoad = getRosterVersion(courseId);
+            CacheEntry entry = entries.get(courseId);
+            if (entry != null && entry.version == versionBeforeLoad && entry.expiryTimestamp > clock.getAsLong()) {
+                hitCount.incrementAndGet();
+                return entry.roster;
+            }
+        }
+
+        missCount.incrementAndGet();
+        SqlCourseRoster roster = loader.get();
+        SqlCourseRoster rosterToCache = roster.getCopy();
+
+        synchronized (entries) {
+            if (getRosterVersion(courseId) == versionBeforeLoad) {
+                entries.put(courseId, new CacheEntry(rosterToCache, versionBeforeLoad, clock.getAsLong() + ttlMillis));
+                if (entries.size() > maxSize) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+            }
+        }
+        return roster;
+    }
+
+    /**
+     * Bumps the roster version of the course with the given {@code courseId},
+     * so that its cached roster is no longer served.
+     *
+     * <p>The version is bumped again once the current transaction is completed,
+     * and the cache is bypassed for the course in the current transaction until then.
+     */
+    public void invalidate(String courseId) {
+        if (courseId == null) {
+            return;
+        }
+        bumpRosterVersion(courseId);
+        courseIdsWrittenInTransaction.get().add(courseId);
+        HibernateUtil.runAfterTransaction(() -> {
+            courseIdsWrittenInTransaction.get().remove(courseId);
+            bumpRosterVersion(courseId);
+        });
+    }
+
+    private void bumpRosterVersion(String courseId) {
+        synchronized (entries) {
+            rosterVersions.merge(courseId, 1L, Long::sum);
+            entries.remove(courseId);
+        }
+    }
+
+    /**
+     * Removes the cached rosters of all courses.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            allRostersVersion++;
+            entries.clear();
+        }
+    }
+
+    private long getRosterVersion(String courseId) {
+        return allRostersVersion + rosterVersions.getOrDefault(courseId, 0L);
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups which required the roster to be loaded.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static class CacheEntry {
+        private final SqlCourseRoster roster;
+        private final long version;
+        private final long expiryTimestamp;
+
+        CacheEntry(SqlCourseRoster roster, long version, long expiryTimestamp) {
+            this.roster = roster;
+            this.version = version;
+            this.expiryTimestamp = expiryTimestamp;
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -53,6 +55,16 @@ public final class DeadlineExtensionsLogic {
         return extendedDeadline;
     }
 
+    /**
+     * Gets the extended deadlines of all users in the session, keyed by the ID of the user.
+     *
+     * <p>This is preferred over {@link #getDeadlineForUser(FeedbackSession, User)} when the deadlines
+     * of many users in the session are needed, as all deadlines are loaded together.
+     */
+    public Map<UUID, Instant> getExtendedDeadlinesForSession(FeedbackSession session) {
+        return deadlineExtensionsDb.getExtendedDeadlinesForSession(session.getId());
+    }
+
     /**
      * Get extended deadline end time for this session and user if it exists, otherwise return null.
      */
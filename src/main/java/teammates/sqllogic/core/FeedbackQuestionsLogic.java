@@ -1,9 +1,13 @@
 package teammates.sqllogic.core;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -426,11 +430,16 @@ public final class FeedbackQuestionsLogic {
     /**
      * Gets the recipients of a feedback question including recipient section and team.
      *
+     * <p>If {@code courseRoster} is provided, the recipients available to a class of givers,
+     * e.g. the students in the giver's section or the teams in the sections an instructor can submit for,
+     * are indexed in the roster. Later calls with the same roster only exclude the giver from the indexed recipients.
+     *
      * @param question the feedback question
      * @param instructorGiver can be null for student giver
      * @param studentGiver can be null for instructor giver
      * @param courseRoster if provided, the function can be completed without touching database
      * @return a Map of {@code FeedbackQuestionRecipient} as the value and identifier as the key.
+     *         The map must not be modified.
      */
     public Map<String, FeedbackQuestionRecipient> getRecipientsOfQuestion(
             FeedbackQuestion question,
@@ -438,8 +447,6 @@ public final class FeedbackQuestionsLogic {
             @Nullable SqlCourseRoster courseRoster) {
         assert instructorGiver != null || studentGiver != null;
 
-        String courseId = question.getCourseId();
-
         Map<String, FeedbackQuestionRecipient> recipients = new HashMap<>();
 
         boolean isStudentGiver = studentGiver != null;
@@ -459,7 +466,6 @@ public final class FeedbackQuestionsLogic {
         }
 
         FeedbackParticipantType recipientType = question.getRecipientType();
-        FeedbackParticipantType generateOptionsFor = recipientType;
 
         switch (recipientType) {
         case SELF:
@@ -473,6 +479,121 @@ public final class FeedbackQuestionsLogic {
             break;
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
+        case STUDENTS_IN_SAME_SECTION:
+        case INSTRUCTORS:
+        case TEAMS:
+        case TEAMS_EXCLUDING_SELF:
+        case TEAMS_IN_SAME_SECTION:
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            // Ensure the giver does not evaluate him/herself or his/her own team, unless it is allowed
+            String excludedRecipient = null;
+            if (recipientType == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF
+                    || recipientType == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION
+                    || recipientType == FeedbackParticipantType.INSTRUCTORS
+                    || recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS) {
+                excludedRecipient = giverEmail;
+            } else if (recipientType == FeedbackParticipantType.TEAMS_EXCLUDING_SELF
+                    || recipientType == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
+                excludedRecipient = giverTeam;
+            }
+
+            if (courseRoster == null) {
+                recipients = buildCandidateRecipients(question, instructorGiver, giverTeam, giverSection, null);
+                recipients.remove(excludedRecipient);
+            } else {
+                recipients = getIndexedCandidateRecipients(question, instructorGiver, giverTeam, giverSection,
+                        courseRoster);
+                if (excludedRecipient != null && recipients.containsKey(excludedRecipient)) {
+                    recipients = new RecipientsExcludingGiver(recipients, excludedRecipient);
+                }
+            }
+            break;
+        case OWN_TEAM:
+            recipients.put(giverTeam, new FeedbackQuestionRecipient(giverTeam, giverTeam));
+            break;
+        case NONE:
+            recipients.put(Const.GENERAL_QUESTION,
+                    new FeedbackQuestionRecipient(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION));
+            break;
+        default:
+            break;
+        }
+        return recipients;
+    }
+
+    /**
+     * Gets the candidate recipients of a question from the index in the course roster,
+     * building and indexing them if no giver of the same class has asked for them yet.
+     *
+     * <p>Givers of the same class are given the same candidate recipients: students in the same section
+     * (for same-section questions) or team (for team member questions), and instructors who can submit
+     * for the same sections (for questions to students or teams).
+     */
+    private Map<String, FeedbackQuestionRecipient> getIndexedCandidateRecipients(FeedbackQuestion question,
+            @Nullable Instructor instructorGiver, String giverTeam, String giverSection, SqlCourseRoster courseRoster) {
+        FeedbackParticipantType recipientType = question.getRecipientType();
+
+        FeedbackParticipantType candidateType;
+        String giverScope = "";
+        switch (recipientType) {
+        case STUDENTS_EXCLUDING_SELF:
+            candidateType = FeedbackParticipantType.STUDENTS;
+            break;
+        case TEAMS_EXCLUDING_SELF:
+            candidateType = FeedbackParticipantType.TEAMS;
+            break;
+        case STUDENTS_IN_SAME_SECTION:
+        case TEAMS_IN_SAME_SECTION:
+            candidateType = recipientType;
+            giverScope = giverSection;
+            break;
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            candidateType = FeedbackParticipantType.OWN_TEAM_MEMBERS;
+            giverScope = giverTeam;
+            break;
+        case OWN_TEAM_MEMBERS:
+            candidateType = recipientType;
+            giverScope = giverTeam;
+            break;
+        default:
+            candidateType = recipientType;
+            break;
+        }
+
+        Object giverClass;
+        if (instructorGiver == null) {
+            // hidden instructors are only excluded for students
+            giverClass = "student";
+        } else if (candidateType.isTeam() || candidateType == FeedbackParticipantType.STUDENTS
+                || candidateType == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
+            giverClass = courseRoster.getSectionToMembersTable().keySet().stream()
+                    .filter(sectionName -> isAllowedToSubmitForSection(instructorGiver, question, sectionName))
+                    .collect(Collectors.toSet());
+        } else {
+            giverClass = "instructor";
+        }
+
+        return courseRoster.getOrComputeRecipients(Arrays.asList(candidateType, giverScope, giverClass),
+                () -> buildCandidateRecipients(question, instructorGiver, giverTeam, giverSection, courseRoster));
+    }
+
+    /**
+     * Builds the recipients of a question available to the giver, without excluding the giver.
+     */
+    private Map<String, FeedbackQuestionRecipient> buildCandidateRecipients(FeedbackQuestion question,
+            @Nullable Instructor instructorGiver, String giverTeam, String giverSection,
+            @Nullable SqlCourseRoster courseRoster) {
+        String courseId = question.getCourseId();
+        boolean isInstructorGiver = instructorGiver != null;
+
+        Map<String, FeedbackQuestionRecipient> recipients = new HashMap<>();
+
+        FeedbackParticipantType generateOptionsFor = question.getRecipientType();
+
+        switch (generateOptionsFor) {
+        case STUDENTS:
+        case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
             List<Student> studentList;
             if (courseRoster == null) {
@@ -483,26 +604,17 @@ public final class FeedbackQuestionsLogic {
                 }
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    studentList = courseRoster.getStudents().stream()
-                            .filter(studentAttributes -> studentAttributes.getSectionName()
-                                    .equals(finalGiverSection)).collect(Collectors.toList());
+                    studentList = courseRoster.getStudentsInSection(giverSection);
                 } else {
                     studentList = courseRoster.getStudents();
                 }
             }
             for (Student student : studentList) {
-                if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
-                        student.getSectionName(), question.getFeedbackSession().getName(),
-                        Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS)) {
+                if (isInstructorGiver
+                        && !isAllowedToSubmitForSection(instructorGiver, question, student.getSectionName())) {
                     // instructor can only see students in allowed sections for him/her
                     continue;
                 }
-                // Ensure student does not evaluate him/herself if it's STUDENTS_EXCLUDING_SELF or
-                // STUDENTS_IN_SAME_SECTION
-                if (giverEmail.equals(student.getEmail()) && generateOptionsFor != FeedbackParticipantType.STUDENTS) {
-                    continue;
-                }
                 recipients.put(student.getEmail(), new FeedbackQuestionRecipient(student.getName(), student.getEmail(),
                         student.getSectionName(), student.getTeamName()));
             }
@@ -516,14 +628,11 @@ public final class FeedbackQuestionsLogic {
             }
             for (Instructor instr : instructorsInCourse) {
                 // remove hidden instructors for students
-                if (isStudentGiver && !instr.isDisplayedToStudents()) {
+                if (!isInstructorGiver && !instr.isDisplayedToStudents()) {
                     continue;
                 }
-                // Ensure instructor does not evaluate himself
-                if (!giverEmail.equals(instr.getEmail())) {
-                    recipients.put(instr.getEmail(),
-                            new FeedbackQuestionRecipient(instr.getName(), instr.getEmail()));
-                }
+                recipients.put(instr.getEmail(),
+                        new FeedbackQuestionRecipient(instr.getName(), instr.getEmail()));
             }
             break;
         case TEAMS:
@@ -540,49 +649,23 @@ public final class FeedbackQuestionsLogic {
                 teamToTeamMembersTable = SqlCourseRoster.buildTeamToMembersTable(teamStudents);
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
-                    final String finalGiverSection = giverSection;
-                    teamStudents = courseRoster.getStudents().stream()
-                            .filter(student -> student.getSectionName().equals(finalGiverSection))
-                            .collect(Collectors.toList());
+                    teamStudents = courseRoster.getStudentsInSection(giverSection);
                     teamToTeamMembersTable = SqlCourseRoster.buildTeamToMembersTable(teamStudents);
                 } else {
                     teamToTeamMembersTable = courseRoster.getTeamToMembersTable();
                 }
             }
             for (Map.Entry<String, List<Student>> team : teamToTeamMembersTable.entrySet()) {
-                if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
-                        team.getValue().iterator().next().getSectionName(),
-                        question.getFeedbackSession().getName(),
-                        Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS)) {
+                if (isInstructorGiver && !isAllowedToSubmitForSection(
+                        instructorGiver, question, team.getValue().iterator().next().getSectionName())) {
                     // instructor can only see teams in allowed sections for him/her
                     continue;
                 }
-                // Ensure student('s team) does not evaluate own team if it's TEAMS_EXCLUDING_SELF or
-                // TEAMS_IN_SAME_SECTION
-                if (giverTeam.equals(team.getKey()) && generateOptionsFor != FeedbackParticipantType.TEAMS) {
-                    continue;
-                }
                 // recipientEmail doubles as team name in this case.
                 recipients.put(team.getKey(), new FeedbackQuestionRecipient(team.getKey(), team.getKey()));
             }
             break;
-        case OWN_TEAM:
-            recipients.put(giverTeam, new FeedbackQuestionRecipient(giverTeam, giverTeam));
-            break;
         case OWN_TEAM_MEMBERS:
-            List<Student> students;
-            if (courseRoster == null) {
-                students = usersLogic.getStudentsForTeam(giverTeam, courseId);
-            } else {
-                students = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
-            }
-            for (Student student : students) {
-                if (!student.getEmail().equals(giverEmail)) {
-                    recipients.put(student.getEmail(), new FeedbackQuestionRecipient(student.getName(), student.getEmail(),
-                            student.getSectionName(), student.getTeamName()));
-                }
-            }
-            break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
             List<Student> teamMembers;
             if (courseRoster == null) {
@@ -591,21 +674,22 @@ public final class FeedbackQuestionsLogic {
                 teamMembers = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             }
             for (Student student : teamMembers) {
-                // accepts self feedback too
                 recipients.put(student.getEmail(), new FeedbackQuestionRecipient(student.getName(), student.getEmail(),
                         student.getSectionName(), student.getTeamName()));
             }
             break;
-        case NONE:
-            recipients.put(Const.GENERAL_QUESTION,
-                    new FeedbackQuestionRecipient(Const.GENERAL_QUESTION, Const.GENERAL_QUESTION));
-            break;
         default:
+            assert false : "Unexpected recipient type " + generateOptionsFor;
             break;
         }
         return recipients;
     }
 
+    private boolean isAllowedToSubmitForSection(Instructor instructor, FeedbackQuestion question, String sectionName) {
+        return instructor.isAllowedForPrivilege(sectionName, question.getFeedbackSession().getName(),
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS);
+    }
+
     /**
      * Returns true if a session has question in a specific giverType.
      */
@@ -753,4 +837,53 @@ public final class FeedbackQuestionsLogic {
         return possibleGivers;
     }
 
+    /**
+     * Unmodifiable view of indexed recipients without the giver, which avoids copying the indexed recipients.
+     */
+    private static final class RecipientsExcludingGiver extends AbstractMap<String, FeedbackQuestionRecipient> {
+
+        private final Map<String, FeedbackQuestionRecipient> recipients;
+        private final String giver;
+
+        /**
+         * Creates the view. The {@code giver} must be one of the {@code recipients}.
+         */
+        RecipientsExcludingGiver(Map<String, FeedbackQuestionRecipient> recipients, String giver) {
+            assert recipients.containsKey(giver);
+            this.recipients = recipients;
+            this.giver = giver;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return !giver.equals(key) && recipients.containsKey(key);
+        }
+
+        @Override
+        public FeedbackQuestionRecipient get(Object key) {
+            return giver.equals(key) ? null : recipients.get(key);
+        }
+
+        @Override
+        public int size() {
+            return recipients.size() - 1;
+        }
+
+        @Override
+        public Set<Entry<String, FeedbackQuestionRecipient>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, FeedbackQuestionRecipient>> iterator() {
+                    return recipients.entrySet().stream()
+                            .filter(entry -> !giver.equals(entry.getKey()))
+                            .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return RecipientsExcludingGiver.this.size();
+                }
+            };
+        }
+    }
 }
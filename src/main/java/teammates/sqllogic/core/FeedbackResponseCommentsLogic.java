@@ -15,6 +15,7 @@ import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.ui.request.FeedbackResponseCommentUpdateRequest;
 
@@ -148,6 +149,22 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Updates the giver section of all comments on responses in a course given by {@code responseGiver}.
+     */
+    public void updateGiverSectionOfFeedbackResponseCommentsInCourse(
+            String courseId, String responseGiver, Section giverSection) {
+        frcDb.updateGiverSectionOfFeedbackResponseCommentsInCourse(courseId, responseGiver, giverSection);
+    }
+
+    /**
+     * Updates the recipient section of all comments on responses in a course received by {@code responseRecipient}.
+     */
+    public void updateRecipientSectionOfFeedbackResponseCommentsInCourse(
+            String courseId, String responseRecipient, Section recipientSection) {
+        frcDb.updateRecipientSectionOfFeedbackResponseCommentsInCourse(courseId, responseRecipient, recipientSection);
+    }
+
     /**
      * Gets all feedback response comments for session in a section.
      *
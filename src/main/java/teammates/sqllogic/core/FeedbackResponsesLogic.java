@@ -1,11 +1,13 @@
 package teammates.sqllogic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -137,6 +139,20 @@ public final class FeedbackResponsesLogic {
         return frDb.hasResponsesFromGiverInSession(giver, feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the distinct givers who have responded to the session.
+     */
+    public Set<String> getGiversForSession(FeedbackSession feedbackSession) {
+        return frDb.getGiversForSession(feedbackSession.getId());
+    }
+
+    /**
+     * Gets the number of distinct givers who have responded to the session.
+     */
+    public long getNumOfGiversForSession(FeedbackSession feedbackSession) {
+        return frDb.getNumOfGiversForSession(feedbackSession.getId());
+    }
+
     /**
      * Creates a feedback response.
      * @return the created response
@@ -219,6 +235,40 @@ public final class FeedbackResponsesLogic {
         return newResponse;
     }
 
+    /**
+     * Creates and updates feedback responses in bulk.
+     *
+     * <p>Cascade updates the associated feedback response comments of the updated responses
+     * whose giverSection or recipientSection is changed.
+     *
+     * @return the created responses, followed by the updated responses
+     * @see FeedbackResponsesDb#upsertFeedbackResponses(List, List)
+     */
+    public List<FeedbackResponse> upsertFeedbackResponsesCascade(
+            List<FeedbackResponse> responsesToCreate, List<FeedbackResponse> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Set<UUID> responsesWithSectionsChanged = new HashSet<>();
+        for (FeedbackResponse response : responsesToUpdate) {
+            // the old response has been loaded in the current session, so this does not hit the database
+            FeedbackResponse oldResponse = frDb.getFeedbackResponse(response.getId());
+            if (oldResponse != null
+                    && (!Objects.equals(oldResponse.getGiverSection(), response.getGiverSection())
+                    || !Objects.equals(oldResponse.getRecipientSection(), response.getRecipientSection()))) {
+                responsesWithSectionsChanged.add(response.getId());
+            }
+        }
+
+        List<FeedbackResponse> upsertedResponses = frDb.upsertFeedbackResponses(responsesToCreate, responsesToUpdate);
+
+        for (FeedbackResponse response : upsertedResponses) {
+            if (responsesWithSectionsChanged.contains(response.getId())) {
+                frcLogic.updateFeedbackResponseCommentsForResponse(response);
+            }
+        }
+
+        return upsertedResponses;
+    }
+
     /**
      * Deletes a feedback response cascade its associated feedback response comments.
      * Implicitly makes use of CascadeType.REMOVE.
@@ -462,34 +512,12 @@ public final class FeedbackResponsesLogic {
     /**
      * Updates responses for a student when his team changes.
      * <p>
-     *     This is done by deleting responses that are no longer relevant to him in his new team.
+     *     If the old team has no members left, the responses given by and to the old team are deleted.
+     *     The responses given by and to the student are kept as they are.
      * </p>
      */
     public void updateFeedbackResponsesForChangingTeam(Course course, String newEmail, Team newTeam, Team oldTeam)
             throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestion qn;
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
-            }
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
-            }
-        }
-
         boolean isOldTeamEmpty = usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId()).isEmpty();
 
         if (isOldTeamEmpty) {
@@ -499,50 +527,73 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Updates responses for a student when his section changes.
+     *
+     * <p>The responses and their comments are updated with bulk statements, without being loaded.
      */
     public void updateFeedbackResponsesForChangingSection(Course course, String newEmail, Section newSection)
             throws InvalidParametersException, EntityDoesNotExistException {
+        frDb.updateGiverSectionOfFeedbackResponsesInCourse(course.getId(), newEmail, newSection);
+        frcLogic.updateGiverSectionOfFeedbackResponseCommentsInCourse(course.getId(), newEmail, newSection);
 
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiverSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipientSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
+        frDb.updateRecipientSectionOfFeedbackResponsesInCourse(course.getId(), newEmail, newSection);
+        frcLogic.updateRecipientSectionOfFeedbackResponseCommentsInCourse(course.getId(), newEmail, newSection);
     }
 
     /**
      * Updates a student's email in their given/received responses.
+     *
+     * <p>The responses are updated with bulk statements, without being loaded.
      */
     public void updateFeedbackResponsesForChangingEmail(String courseId, String oldEmail, String newEmail)
             throws InvalidParametersException, EntityDoesNotExistException {
+        frDb.updateGiverOfFeedbackResponsesInCourse(courseId, oldEmail, newEmail);
+        frDb.updateRecipientOfFeedbackResponsesInCourse(courseId, oldEmail, newEmail);
+    }
 
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiver(newEmail);
-            frDb.updateFeedbackResponse(response);
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
+    /**
+     * Gets the sections of the given recipients of responses to a question, keyed by recipient identifier.
+     *
+     * <p>All recipients are resolved from a single roster snapshot of the course, instead of looking up
+     * each recipient separately. Recipients which are not students or teams of the course,
+     * e.g. instructors, are placed in the default section.
+     */
+    public Map<String, Section> getRecipientSections(String courseId, FeedbackParticipantType giverType,
+            FeedbackParticipantType recipientType, Collection<String> recipientIdentifiers) {
+        // for self-feedback, the recipient is the giver
+        FeedbackParticipantType participantType =
+                recipientType == FeedbackParticipantType.SELF ? giverType : recipientType;
+        boolean isTeamRecipient = participantType.isTeam();
+        boolean isStudentRecipient = participantType == FeedbackParticipantType.STUDENTS
+                || participantType == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF
+                || participantType == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION
+                || participantType == FeedbackParticipantType.OWN_TEAM_MEMBERS
+                || participantType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+
+        SqlCourseRoster roster = isTeamRecipient || isStudentRecipient ? usersLogic.getCourseRoster(courseId) : null;
+
+        Map<String, Section> recipientSections = new HashMap<>();
+        Section defaultSection = null;
+        for (String recipientIdentifier : recipientIdentifiers) {
+            Student student = null;
+            if (isTeamRecipient) {
+                List<Student> teamMembers = roster.getTeamToMembersTable().get(recipientIdentifier);
+                student = teamMembers == null || teamMembers.isEmpty() ? null : teamMembers.get(0);
+            } else if (isStudentRecipient) {
+                student = roster.getStudentForEmail(recipientIdentifier);
+            }
 
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipient(newEmail);
-            frDb.updateFeedbackResponse(response);
+            // the roster may be a cached copy, so the section is attached to responses by reference
+            Section section = student == null || student.getSection() == null
+                    ? null : usersLogic.getSectionReference(student.getSection().getId());
+            if (section == null) {
+                if (defaultSection == null) {
+                    defaultSection = usersLogic.getSectionOrCreate(courseId, Const.DEFAULT_SECTION);
+                }
+                section = defaultSection;
+            }
+            recipientSections.put(recipientIdentifier, section);
         }
+        return recipientSections;
     }
 
     private List<FeedbackQuestion> getQuestionsForSession(
@@ -705,9 +756,7 @@ public final class FeedbackResponsesLogic {
             FeedbackSession feedbackSession, String courseId, String instructorEmail,
             @Nullable UUID questionId, @Nullable String sectionName, @Nullable FeedbackResultFetchType fetchType) {
 
-        SqlCourseRoster roster = new SqlCourseRoster(
-                usersLogic.getStudentsForCourse(courseId),
-                usersLogic.getInstructorsForCourse(courseId));
+        SqlCourseRoster roster = usersLogic.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestion> allQuestions = getQuestionsForSession(feedbackSession, questionId);
@@ -744,9 +793,7 @@ public final class FeedbackResponsesLogic {
     public SqlSessionResultsBundle getSessionResultsForUser(
             FeedbackSession feedbackSession, String courseId, String userEmail, boolean isInstructor,
             @Nullable UUID questionId, boolean isPreviewResults) {
-        SqlCourseRoster roster = new SqlCourseRoster(
-                usersLogic.getStudentsForCourse(courseId),
-                usersLogic.getInstructorsForCourse(courseId));
+        SqlCourseRoster roster = usersLogic.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestion> allQuestions = getQuestionsForSession(feedbackSession, questionId);
@@ -755,15 +802,11 @@ public final class FeedbackResponsesLogic {
         // load response(s)
         Student student = isInstructor ? null : usersLogic.getStudentForEmail(courseId, userEmail);
         Instructor instructor = isInstructor ? usersLogic.getInstructorForEmail(courseId, userEmail) : null;
-        List<FeedbackResponse> allResponses = new ArrayList<>();
-        for (FeedbackQuestion question : allQuestions) {
-            // load viewable responses for students/instructors proactively
-            // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
-            List<FeedbackResponse> viewableResponses = isInstructor
-                    ? getFeedbackResponsesToOrFromInstructorForQuestion(question, instructor)
-                    : getViewableFeedbackResponsesForStudentForQuestion(question, student, roster);
-            allResponses.addAll(viewableResponses);
-        }
+        // load viewable responses for students/instructors proactively
+        // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
+        List<FeedbackResponse> allResponses = isInstructor
+                ? getFeedbackResponsesToOrFromInstructorForQuestions(allQuestions, instructor)
+                : getViewableFeedbackResponsesForStudentForQuestions(allQuestions, student, roster);
         RequestTracer.checkRemainingTime();
 
         return buildResultsBundle(false, feedbackSession, courseId, null, questionId, isInstructor, userEmail,
@@ -1045,82 +1088,87 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Returns feedback responses given/received by an instructor.
+     * Returns feedback responses given/received by an instructor for the given questions.
+     *
+     * <p>All candidate responses are fetched in a single query and filtered in memory.
      */
-    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestion(
-            FeedbackQuestion question, Instructor instructor) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
-
-        // Add responses that the instructor submitted him/herself
-        if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), instructor.getEmail())
-            );
+    private List<FeedbackResponse> getFeedbackResponsesToOrFromInstructorForQuestions(
+            List<FeedbackQuestion> questions, Instructor instructor) {
+        Set<UUID> questionIds = new HashSet<>();
+        for (FeedbackQuestion question : questions) {
+            if (canInstructorBeGiverForQuestion(question) || canInstructorViewAsRecipientForQuestion(question)) {
+                questionIds.add(question.getId());
+            }
         }
 
-        // Add responses that user is a receiver of when response is visible to receiver or instructors
-        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS))) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), instructor.getEmail())
-            );
+        Set<String> instructorIdentifiers = Collections.singleton(instructor.getEmail());
+        List<FeedbackResponse> candidateResponses = frDb.getFeedbackResponsesFromGiversOrForRecipientsForQuestions(
+                questionIds, instructorIdentifiers, instructorIdentifiers);
+
+        List<FeedbackResponse> viewableResponses = new ArrayList<>();
+        for (FeedbackResponse response : candidateResponses) {
+            FeedbackQuestion question = response.getFeedbackQuestion();
+            // Add responses that the instructor submitted him/herself
+            boolean isGiver = canInstructorBeGiverForQuestion(question)
+                    && response.getGiver().equals(instructor.getEmail());
+            // Add responses that user is a receiver of when response is visible to receiver or instructors
+            boolean isRecipient = canInstructorViewAsRecipientForQuestion(question)
+                    && response.getRecipient().equals(instructor.getEmail());
+            if (isGiver || isRecipient) {
+                viewableResponses.add(response);
+            }
         }
 
-        return new ArrayList<>(viewableResponses);
+        return viewableResponses;
+    }
+
+    private boolean canInstructorBeGiverForQuestion(FeedbackQuestion question) {
+        return question.getGiverType() == FeedbackParticipantType.INSTRUCTORS;
+    }
+
+    private boolean canInstructorViewAsRecipientForQuestion(FeedbackQuestion question) {
+        return question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                && (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS));
     }
 
     /**
-     * Returns viewable feedback responses for a student.
+     * Returns viewable feedback responses for a student for the given questions.
+     *
+     * <p>Responses of questions visible to all students are fetched in one query; the remaining candidate
+     * responses (given by or to the student, the student's team or teammates) are fetched in another query.
+     * The visibility of each candidate response is then checked in memory.
      */
-    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestion(
-            FeedbackQuestion question, Student student, SqlCourseRoster courseRoster) {
-        Set<FeedbackResponse> viewableResponses = new HashSet<>();
-
-        // Add responses that the student submitted him/herself
-        if (question.getGiverType() != FeedbackParticipantType.INSTRUCTORS) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail())
-            );
-        }
-
-        // Add responses that user is a receiver of when response is visible to receiver
-        if (question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getEmail())
-            );
+    private List<FeedbackResponse> getViewableFeedbackResponsesForStudentForQuestions(
+            List<FeedbackQuestion> questions, Student student, SqlCourseRoster courseRoster) {
+        Set<UUID> questionIdsVisibleToStudents = new HashSet<>();
+        Set<UUID> otherQuestionIds = new HashSet<>();
+        for (FeedbackQuestion question : questions) {
+            if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                questionIdsVisibleToStudents.add(question.getId());
+            } else {
+                otherQuestionIds.add(question.getId());
+            }
         }
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            viewableResponses.addAll(getFeedbackResponsesForQuestion(question.getId()));
-
-            // Early return as STUDENTS covers all cases below.
-            return new ArrayList<>(viewableResponses);
+        Set<String> teamMemberEmails = new HashSet<>();
+        for (Student studentInTeam
+                : courseRoster.getTeamToMembersTable().getOrDefault(student.getTeamName(), Collections.emptyList())) {
+            teamMemberEmails.add(studentInTeam.getEmail());
         }
+        teamMemberEmails.add(student.getEmail());
 
-        if (question.getRecipientType().isTeam()
-                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesForRecipientForQuestion(question.getId(), student.getTeamName())
-            );
-        }
+        Set<String> teamIdentifiers = new HashSet<>(teamMemberEmails);
+        teamIdentifiers.add(student.getTeamName());
 
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS
-                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
-            viewableResponses.addAll(
-                    getFeedbackResponsesFromTeamForQuestion(
-                            question.getId(), question.getCourseId(), student.getTeamName(), courseRoster));
-        }
+        Set<FeedbackResponse> viewableResponses =
+                new HashSet<>(frDb.getResponsesForQuestions(questionIdsVisibleToStudents));
 
-        if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
-            for (Student studentInTeam : courseRoster.getTeamToMembersTable().get(student.getTeamName())) {
-                if (studentInTeam.getEmail().equals(student.getEmail())) {
-                    continue;
-                }
-                List<FeedbackResponse> responses =
-                        getFeedbackResponsesForRecipientForQuestion(question.getId(), studentInTeam.getEmail());
-                viewableResponses.addAll(responses);
+        List<FeedbackResponse> candidateResponses = frDb.getFeedbackResponsesFromGiversOrForRecipientsForQuestions(
+                otherQuestionIds, teamIdentifiers, teamIdentifiers);
+        for (FeedbackResponse response : candidateResponses) {
+            if (isResponseViewableByStudent(response, response.getFeedbackQuestion(), student, teamMemberEmails)) {
+                viewableResponses.add(response);
             }
         }
 
@@ -1128,11 +1176,42 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Gets all responses received by a user for a question.
+     * Checks whether a response to a question not visible to all students can be viewed by the student.
      */
-    private List<FeedbackResponse> getFeedbackResponsesForRecipientForQuestion(
-            UUID feedbackQuestionId, String userEmail) {
-        return frDb.getFeedbackResponsesForRecipientForQuestion(feedbackQuestionId, userEmail);
+    private boolean isResponseViewableByStudent(FeedbackResponse response, FeedbackQuestion question,
+            Student student, Set<String> teamMemberEmails) {
+        // responses that the student submitted him/herself
+        if (question.getGiverType() != FeedbackParticipantType.INSTRUCTORS
+                && response.getGiver().equals(student.getEmail())) {
+            return true;
+        }
+
+        // responses that user is a receiver of when response is visible to receiver
+        if (question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.getRecipient().equals(student.getEmail())) {
+            return true;
+        }
+
+        // responses to the student's team when response is visible to receiver
+        if (question.getRecipientType().isTeam()
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.getRecipient().equals(student.getTeamName())) {
+            return true;
+        }
+
+        // responses given by the student's team or team members
+        if ((question.getGiverType() == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                && (teamMemberEmails.contains(response.getGiver())
+                || response.getGiver().equals(student.getTeamName()))) {
+            return true;
+        }
+
+        // responses received by the student's team members
+        return question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && !response.getRecipient().equals(student.getEmail())
+                && teamMemberEmails.contains(response.getRecipient());
     }
 
     /**
@@ -2,7 +2,6 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -187,15 +186,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return getGiverSetThatAnsweredFeedbackSession(feedbackSession);
     }
 
     /**
@@ -204,15 +195,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiversForSession(fs);
     }
 
     /**
@@ -533,12 +516,15 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Gets the expected number of submissions for a feedback session.
+     *
+     * <p>Only the number of students and instructors is queried; the roster itself is not loaded.
      */
     public int getExpectedTotalSubmission(FeedbackSession fs) {
         int expectedTotal = 0;
+        String courseId = fs.getCourse().getId();
         List<FeedbackQuestion> questions = fqLogic.getFeedbackQuestionsForSession(fs);
         if (fqLogic.hasFeedbackQuestionsForStudents(questions)) {
-            expectedTotal += usersLogic.getStudentsForCourse(fs.getCourse().getId()).size();
+            expectedTotal += (int) usersLogic.getNumStudentsForCourse(courseId);
         }
 
         // Pre-flight check to ensure there are questions for instructors.
@@ -546,28 +532,22 @@ public final class FeedbackSessionsLogic {
             return expectedTotal;
         }
 
-        List<Instructor> instructors = usersLogic.getInstructorsForCourse(fs.getCourse().getId());
-        if (instructors.isEmpty()) {
-            return expectedTotal;
-        }
-
         // Check presence of questions for instructors.
-        if (fqLogic.hasFeedbackQuestionsForInstructors(fqLogic.getFeedbackQuestionsForSession(fs), false)) {
-            expectedTotal += instructors.size();
-        } else {
+        if (fqLogic.hasFeedbackQuestionsForInstructors(questions, false)) {
+            expectedTotal += (int) usersLogic.getNumInstructorsForCourse(courseId);
+        } else if (usersLogic.getInstructorForEmail(courseId, fs.getCreatorEmail()) != null) {
             // No questions for instructors. There must be questions for creator.
-            List<Instructor> creators = instructors.stream()
-                    .filter(instructor -> fs.getCreatorEmail().equals(instructor.getEmail()))
-                    .collect(Collectors.toList());
-            expectedTotal += creators.size();
+            expectedTotal += 1;
         }
         return expectedTotal;
     }
 
     /**
      * Gets the actual number of submissions for a feedback session.
+     *
+     * <p>The givers are counted with an aggregate query, without loading the responses.
      */
     public int getActualTotalSubmission(FeedbackSession fs) {
-        return getGiverSetThatAnsweredFeedbackSession(fs).size();
+        return (int) frLogic.getNumOfGiversForSession(fs);
     }
 }
@@ -8,12 +8,15 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.UUID;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.InstructorPermissionRole;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlEnrollmentResult;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -24,8 +27,10 @@ import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.Instructor;
@@ -58,6 +63,10 @@ public final class UsersLogic {
 
     private static final int MAX_KEY_REGENERATION_TRIES = 10;
 
+    private final UserRoleCache userRoleCache = UserRoleCache.inst();
+
+    private final CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+
     private UsersDb usersDb;
 
     private AccountsLogic accountsLogic;
@@ -101,6 +110,13 @@ public final class UsersLogic {
         getInstructorSearchManager().putDocument(instructor);
     }
 
+    /**
+     * Creates or updates search documents for the given instructors in a single request.
+     */
+    public void putInstructorDocuments(List<Instructor> instructors) throws SearchServiceException {
+        getInstructorSearchManager().putDocuments(instructors);
+    }
+
     /**
      * Creates or updates search document for the given student.
      */
@@ -108,6 +124,13 @@ public final class UsersLogic {
         getStudentSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in a single request.
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        getStudentSearchManager().putDocuments(students);
+    }
+
     /**
      * Create an instructor.
      *
@@ -121,7 +144,10 @@ public final class UsersLogic {
         if (getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()) != null) {
             throw new EntityAlreadyExistsException("Instructor already exists.");
         }
-        return usersDb.createInstructor(instructor);
+        Instructor createdInstructor = usersDb.createInstructor(instructor);
+        courseRosterCache.invalidate(instructor.getCourseId());
+        userRoleCache.invalidate(instructor.getGoogleId());
+        return createdInstructor;
     }
 
     /**
@@ -163,6 +189,7 @@ public final class UsersLogic {
         instructor.setPrivileges(new InstructorPrivileges(instructorRequest.getRoleName()));
         instructor.setDisplayName(SanitizationHelper.sanitizeName(newDisplayName));
         instructor.setDisplayedToStudents(instructorRequest.getIsDisplayedToStudent());
+        courseRosterCache.invalidate(courseId);
 
         String newEmail = instructor.getEmail();
 
@@ -228,7 +255,10 @@ public final class UsersLogic {
      *                                      database.
      */
     public Student createStudent(Student student) throws InvalidParametersException, EntityAlreadyExistsException {
-        return usersDb.createStudent(student);
+        Student createdStudent = usersDb.createStudent(student);
+        courseRosterCache.invalidate(student.getCourseId());
+        userRoleCache.invalidate(student.getGoogleId());
+        return createdStudent;
     }
 
     /**
@@ -291,6 +321,8 @@ public final class UsersLogic {
      */
     public <T extends User> void deleteUser(T user) {
         usersDb.deleteUser(user);
+        userRoleCache.invalidate(user.getGoogleId());
+        courseRosterCache.invalidate(user.getCourseId());
     }
 
     /**
@@ -325,6 +357,13 @@ public final class UsersLogic {
         return instructorsWithCoOwnerPrivileges;
     }
 
+    /**
+     * Gets the number of instructors for the specified course.
+     */
+    public long getNumInstructorsForCourse(String courseId) {
+        return usersDb.getNumInstructorsForCourse(courseId);
+    }
+
     /**
      * Gets a list of instructors for the specified course.
      */
@@ -401,6 +440,8 @@ public final class UsersLogic {
             }
             usersDb.updateUser(student);
         }
+        userRoleCache.invalidate(googleId);
+        courseRosterCache.invalidate(instructor.getCourseId());
 
         return instructor;
     }
@@ -426,6 +467,7 @@ public final class UsersLogic {
         while (numTries < MAX_KEY_REGENERATION_TRIES) {
             instructor.generateNewRegistrationKey();
             if (!instructor.getRegKey().equals(oldKey)) {
+                courseRosterCache.invalidate(courseId);
                 return instructor;
             }
             numTries++;
@@ -455,6 +497,7 @@ public final class UsersLogic {
         while (numTries < MAX_KEY_REGENERATION_TRIES) {
             student.generateNewRegistrationKey();
             if (!student.getRegKey().equals(oldKey)) {
+                courseRosterCache.invalidate(courseId);
                 return student;
             }
             numTries++;
@@ -482,6 +525,18 @@ public final class UsersLogic {
         return usersDb.getStudent(id);
     }
 
+    /**
+     * Gets section reference associated with {@code id}.
+     *
+     * @param id Id of Section.
+     * @return Returns a proxy for the Section.
+     */
+    public Section getSectionReference(UUID id) {
+        assert id != null;
+
+        return usersDb.getSectionReference(id);
+    }
+
     /**
      * Gets student reference associated with {@code id}.
      *
@@ -501,6 +556,13 @@ public final class UsersLogic {
         return usersDb.getStudentForEmail(courseId, userEmail);
     }
 
+    /**
+     * Gets students matching any of the specified emails.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> userEmails) {
+        return usersDb.getStudentsForEmails(courseId, userEmails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -530,6 +592,13 @@ public final class UsersLogic {
         return usersDb.getAllStudentsByGoogleId(googleId);
     }
 
+    /**
+     * Gets the number of students for the specified course.
+     */
+    public long getNumStudentsForCourse(String courseId) {
+        return usersDb.getNumStudentsForCourse(courseId);
+    }
+
     /**
      * Gets a list of students for the specified course.
      */
@@ -540,6 +609,18 @@ public final class UsersLogic {
         return studentReturnList;
     }
 
+    /**
+     * Gets the roster of the specified course, served from {@link CourseRosterCache} when available.
+     *
+     * <p>A roster served from the cache is shared with other requests and its entities do not belong to
+     * the current session. It must not be modified, and references such as {@link #getSectionReference(UUID)}
+     * must be used to attach its entities to other entities.
+     */
+    public SqlCourseRoster getCourseRoster(String courseId) {
+        return courseRosterCache.getOrLoad(courseId,
+                () -> new SqlCourseRoster(getStudentsForCourse(courseId), getInstructorsForCourse(courseId)));
+    }
+
     /**
      * Gets a list of unregistered students for the specified course.
      */
@@ -686,6 +767,7 @@ public final class UsersLogic {
                 .equals(instructorToEdit.getGoogleId()));
         if (isLastRegInstructorWithPrivilege) {
             instructorToEdit.getPrivileges().updatePrivilege(Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR, true);
+            courseRosterCache.invalidate(courseId);
         }
     }
 
@@ -784,6 +866,7 @@ public final class UsersLogic {
         originalStudent.setTeam(student.getTeam());
         originalStudent.setEmail(student.getEmail());
         originalStudent.setComments(student.getComments());
+        courseRosterCache.invalidate(courseId);
 
         // cascade email changes to responses and comments
         if (changedEmail) {
@@ -806,6 +889,129 @@ public final class UsersLogic {
         return originalStudent;
     }
 
+    /**
+     * Enrolls a list of students into a course as one set-based operation.
+     *
+     * <p>The sections and teams of the course are resolved with a single query, and those missing are
+     * created before any student is touched. The existing roster is loaded once and diffed against the
+     * list in memory: new students are created in bulk, students whose details changed are updated with
+     * the same response cascades as {@link #updateStudentCascade(Student)}, and unchanged students are
+     * left alone.
+     *
+     * <p>The section and team of each student to enroll are identified by name only.
+     *
+     * @return the students enrolled, the subset of them that was created or updated,
+     *         and the error messages of the students that cannot be enrolled
+     * @throws InvalidParametersException if the new students cannot be created
+     */
+    public SqlEnrollmentResult enrollStudents(Course course, List<Student> studentsToEnroll)
+            throws InvalidParametersException {
+        assert course != null;
+        assert studentsToEnroll != null;
+
+        String courseId = course.getId();
+        SqlEnrollmentResult result = new SqlEnrollmentResult();
+
+        List<Student> validStudents = new ArrayList<>();
+        for (Student student : studentsToEnroll) {
+            if (student.isValid()) {
+                validStudents.add(student);
+            } else {
+                result.addFailedEnrollment(student.getEmail(),
+                        new InvalidParametersException(student.getInvalidityInfo()).getMessage());
+            }
+        }
+
+        Map<String, Section> sections = new HashMap<>();
+        Map<String, Map<String, Team>> teamsBySection = new HashMap<>();
+        for (Section section : usersDb.getSectionsWithTeamsForCourse(courseId)) {
+            sections.put(section.getName(), section);
+            Map<String, Team> teams = teamsBySection.computeIfAbsent(section.getName(), k -> new HashMap<>());
+            section.getTeams().forEach(team -> teams.put(team.getName(), team));
+        }
+
+        List<Section> newSections = new ArrayList<>();
+        List<Team> newTeams = new ArrayList<>();
+        Map<String, Team> resolvedTeams = new HashMap<>();
+        for (Student student : validStudents) {
+            Section section = sections.computeIfAbsent(student.getSectionName(), sectionName -> {
+                Section newSection = new Section(course, sectionName);
+                newSections.add(newSection);
+                return newSection;
+            });
+            Team team = teamsBySection.computeIfAbsent(section.getName(), k -> new HashMap<>())
+                    .computeIfAbsent(student.getTeamName(), teamName -> {
+                        Team newTeam = new Team(section, teamName);
+                        newTeams.add(newTeam);
+                        return newTeam;
+                    });
+            resolvedTeams.put(student.getEmail(), team);
+        }
+        usersDb.createSectionsAndTeams(newSections, newTeams);
+
+        Map<String, Student> existingStudents = new HashMap<>();
+        usersDb.getStudentsForCourse(courseId).forEach(student -> existingStudents.put(student.getEmail(), student));
+
+        List<Student> newStudents = new ArrayList<>();
+        for (Student student : validStudents) {
+            RequestTracer.checkRemainingTime();
+            Team team = resolvedTeams.get(student.getEmail());
+            Student existingStudent = existingStudents.get(student.getEmail());
+
+            if (existingStudent == null) {
+                Student newStudent = new Student(course, student.getName(), student.getEmail(),
+                        student.getComments(), team);
+                newStudents.add(newStudent);
+                existingStudents.put(newStudent.getEmail(), newStudent);
+                result.addEnrolledStudent(newStudent, true);
+                continue;
+            }
+
+            Team originalTeam = existingStudent.getTeam();
+            Section originalSection = existingStudent.getSection();
+            boolean changedTeam = isTeamChanged(originalTeam, team);
+            boolean changedSection = isSectionChanged(originalSection, team.getSection());
+            String originalName = existingStudent.getName();
+            String originalComments = existingStudent.getComments();
+            boolean changedDetails = !Objects.equals(originalName, student.getName())
+                    || !Objects.equals(originalComments, student.getComments());
+
+            if (!changedTeam && !changedDetails) {
+                result.addEnrolledStudent(existingStudent, false);
+                continue;
+            }
+
+            existingStudent.setName(student.getName());
+            existingStudent.setTeam(team);
+            existingStudent.setComments(student.getComments());
+
+            try {
+                if (changedTeam) {
+                    feedbackResponsesLogic.updateFeedbackResponsesForChangingTeam(course, existingStudent.getEmail(),
+                            team, originalTeam);
+                }
+                if (changedSection) {
+                    feedbackResponsesLogic.updateFeedbackResponsesForChangingSection(
+                            course, existingStudent.getEmail(), team.getSection());
+                }
+            } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                // The student is managed, so revert the changes to keep the failed enrollment from being flushed.
+                existingStudent.setName(originalName);
+                existingStudent.setTeam(originalTeam);
+                existingStudent.setComments(originalComments);
+                // Unsuccessfully enrolled students will not be returned.
+                result.addFailedEnrollment(existingStudent.getEmail(), e.getMessage());
+                continue;
+            }
+            result.addEnrolledStudent(existingStudent, true);
+        }
+
+        usersDb.createStudents(newStudents);
+        courseRosterCache.invalidate(courseId);
+
+        return result;
+    }
+
     /**
      * Resets the googleId associated with the instructor.
      */
@@ -823,6 +1029,8 @@ public final class UsersLogic {
         }
 
         instructor.setAccount(null);
+        userRoleCache.invalidate(googleId);
+        courseRosterCache.invalidate(courseId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -962,6 +1170,8 @@ public final class UsersLogic {
         }
 
         student.setAccount(null);
+        userRoleCache.invalidate(googleId);
+        courseRosterCache.invalidate(courseId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
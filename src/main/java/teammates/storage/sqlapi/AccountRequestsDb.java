@@ -118,6 +118,24 @@ public final class AccountRequestsDb extends EntitiesDb {
         return query.getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets the AccountRequests with the given {@code ids} in a single query.
+     */
+    public List<AccountRequest> getAccountRequests(List<UUID> ids) {
+        assert ids != null;
+
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<AccountRequest> cr = cb.createQuery(AccountRequest.class);
+        Root<AccountRequest> root = cr.from(AccountRequest.class);
+        cr.select(root).where(root.get("id").in(ids));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
     /**
      * Get AccountRequest with {@code createdTime} within the times {@code startTime} and {@code endTime}.
      */
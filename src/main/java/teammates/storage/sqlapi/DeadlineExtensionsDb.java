@@ -4,9 +4,12 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -89,6 +92,29 @@ public final class DeadlineExtensionsDb extends EntitiesDb {
         return query.getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets the extended deadlines of all users in the feedback session with {@code feedbackSessionId},
+     * keyed by the ID of the user.
+     *
+     * <p>Only the user IDs and end times are fetched; no deadline extension entity is loaded.
+     */
+    public Map<UUID, Instant> getExtendedDeadlinesForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<DeadlineExtension> root = cq.from(DeadlineExtension.class);
+
+        cq.multiselect(root.get("user").get("id"), root.get("endTime"))
+                .where(cb.equal(root.get("feedbackSession").get("id"), feedbackSessionId));
+
+        Map<UUID, Instant> extendedDeadlines = new HashMap<>();
+        for (Tuple tuple : HibernateUtil.createQuery(cq).getResultList()) {
+            extendedDeadlines.put(tuple.get(0, UUID.class), tuple.get(1, Instant.class));
+        }
+        return extendedDeadlines;
+    }
+
     /**
      * Saves an updated {@code DeadlineExtension} to the db.
      *
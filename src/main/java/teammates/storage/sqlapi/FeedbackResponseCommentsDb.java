@@ -3,13 +3,19 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.annotation.Nullable;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -115,7 +121,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
     }
 
     /**
-     * Updates the giver email for all of the giver's comments in a course.
+     * Updates the giver email for all of the giver's comments in a course, as a single statement.
      */
     public void updateGiverEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
         assert courseId != null;
@@ -126,17 +132,19 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForGiverInCourse(courseId, oldEmail);
-
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setGiver(updatedEmail);
-            merge(responseComment);
-        }
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackResponseComment> cu = cb.createCriteriaUpdate(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cu.from(FeedbackResponseComment.class);
+        cu.set("giver", updatedEmail)
+                .set("updatedAt", Instant.now())
+                .where(cb.and(
+                        cb.equal(root.get("giver"), oldEmail),
+                        root.get("feedbackResponse").get("id").in(getResponseIdsInCourse(cu, courseId, null, null))));
+        HibernateUtil.executeBulkMutation(HibernateUtil.createMutationQuery(cu), FeedbackResponseComment.class);
     }
 
     /**
-     * Updates the last editor to a new one for all comments in a course.
+     * Updates the last editor to a new one for all comments in a course, as a single statement.
      */
     public void updateLastEditorEmailOfFeedbackResponseComments(String courseId, String oldEmail, String updatedEmail) {
         assert courseId != null;
@@ -147,48 +155,70 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForLastEditorInCourse(courseId, oldEmail);
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackResponseComment> cu = cb.createCriteriaUpdate(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cu.from(FeedbackResponseComment.class);
+        cu.set("lastEditorEmail", updatedEmail)
+                .set("updatedAt", Instant.now())
+                .where(cb.and(
+                        cb.equal(root.get("lastEditorEmail"), oldEmail),
+                        root.get("feedbackResponse").get("id").in(getResponseIdsInCourse(cu, courseId, null, null))));
+        HibernateUtil.executeBulkMutation(HibernateUtil.createMutationQuery(cu), FeedbackResponseComment.class);
+    }
 
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setLastEditorEmail(updatedEmail);
-        }
+    /**
+     * Updates the giver section of all comments on responses in a course given by {@code responseGiver},
+     * as a single statement.
+     */
+    public void updateGiverSectionOfFeedbackResponseCommentsInCourse(
+            String courseId, String responseGiver, Section giverSection) {
+        updateSectionOfFeedbackResponseCommentsInCourse(courseId, "giver", responseGiver, "giverSection", giverSection);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForGiverInCourse(
-            String courseId, String giver) {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
-        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
-        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+    /**
+     * Updates the recipient section of all comments on responses in a course received by {@code responseRecipient},
+     * as a single statement.
+     */
+    public void updateRecipientSectionOfFeedbackResponseCommentsInCourse(
+            String courseId, String responseRecipient, Section recipientSection) {
+        updateSectionOfFeedbackResponseCommentsInCourse(
+                courseId, "recipient", responseRecipient, "recipientSection", recipientSection);
+    }
 
-        cq.select(root)
-                .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("giver"), giver)));
+    private void updateSectionOfFeedbackResponseCommentsInCourse(String courseId, String responseParticipantAttribute,
+            String responseParticipant, String sectionAttribute, Section section) {
+        assert courseId != null;
+        assert responseParticipant != null;
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackResponseComment> cu = cb.createCriteriaUpdate(FeedbackResponseComment.class);
+        Root<FeedbackResponseComment> root = cu.from(FeedbackResponseComment.class);
+        cu.set(sectionAttribute, section)
+                .set("updatedAt", Instant.now())
+                .where(root.get("feedbackResponse").get("id").in(
+                        getResponseIdsInCourse(cu, courseId, responseParticipantAttribute, responseParticipant)));
+        HibernateUtil.executeBulkMutation(HibernateUtil.createMutationQuery(cu), FeedbackResponseComment.class);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForLastEditorInCourse(
-            String courseId, String lastEditorEmail) {
+    /**
+     * Returns a subquery of the IDs of the responses in a course.
+     * If {@code participantAttribute} is not null, only responses whose {@code participantAttribute}
+     * equals {@code participant} are included.
+     */
+    private Subquery<UUID> getResponseIdsInCourse(CommonAbstractCriteria criteria, String courseId,
+            @Nullable String participantAttribute, @Nullable String participant) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+        Subquery<UUID> subquery = criteria.subquery(UUID.class);
+        Root<FeedbackResponse> frRoot = subquery.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frRoot.join("feedbackQuestion");
         Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
-        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
 
-        cq.select(root)
-                .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("lastEditorEmail"), lastEditorEmail)));
-
-        return HibernateUtil.createQuery(cq).getResultList();
+        Predicate courseFilter = cb.equal(fsJoin.get("course").get("id"), courseId);
+        subquery.select(frRoot.get("id"))
+                .where(participantAttribute == null
+                        ? courseFilter
+                        : cb.and(courseFilter, cb.equal(frRoot.get(participantAttribute), participant)));
+        return subquery;
     }
 
     /**
@@ -3,12 +3,19 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -131,6 +138,42 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return feedbackResponse;
     }
 
+    /**
+     * Creates and updates feedback responses in bulk.
+     *
+     * <p>Unlike {@link #createFeedbackResponse(FeedbackResponse)} and {@link #updateFeedbackResponse(FeedbackResponse)},
+     * the existence of each response is not looked up beforehand: the responses to create are expected to have
+     * newly generated IDs, while the responses to update are expected to have been loaded in the current session.
+     * The resulting statements are sent to the database in JDBC batches when the session is flushed.
+     *
+     * @return the created responses, followed by the updated responses
+     * @throws InvalidParametersException if any of the responses is not valid, in which case none is written
+     */
+    public List<FeedbackResponse> upsertFeedbackResponses(
+            List<FeedbackResponse> responsesToCreate, List<FeedbackResponse> responsesToUpdate)
+            throws InvalidParametersException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+
+        List<FeedbackResponse> upsertedResponses = new ArrayList<>(responsesToCreate);
+        upsertedResponses.addAll(responsesToUpdate);
+        for (FeedbackResponse feedbackResponse : upsertedResponses) {
+            if (!feedbackResponse.isValid()) {
+                throw new InvalidParametersException(feedbackResponse.getInvalidityInfo());
+            }
+        }
+
+        upsertedResponses.clear();
+        for (FeedbackResponse feedbackResponse : responsesToCreate) {
+            persist(feedbackResponse);
+            upsertedResponses.add(feedbackResponse);
+        }
+        for (FeedbackResponse feedbackResponse : responsesToUpdate) {
+            upsertedResponses.add(merge(feedbackResponse));
+        }
+        return upsertedResponses;
+    }
+
     /**
      * Deletes a feedbackResponse.
      */
@@ -174,6 +217,65 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         HibernateUtil.createMutationQuery(cd).executeUpdate();
     }
 
+    /**
+     * Updates the giver of all responses in a course given by {@code oldGiver}, as a single statement.
+     */
+    public void updateGiverOfFeedbackResponsesInCourse(String courseId, String oldGiver, String newGiver) {
+        updateFeedbackResponsesOfParticipantInCourse(courseId, "giver", oldGiver, "giver", newGiver);
+    }
+
+    /**
+     * Updates the recipient of all responses in a course received by {@code oldRecipient}, as a single statement.
+     */
+    public void updateRecipientOfFeedbackResponsesInCourse(String courseId, String oldRecipient, String newRecipient) {
+        updateFeedbackResponsesOfParticipantInCourse(courseId, "recipient", oldRecipient, "recipient", newRecipient);
+    }
+
+    /**
+     * Updates the giver section of all responses in a course given by {@code giver}, as a single statement.
+     */
+    public void updateGiverSectionOfFeedbackResponsesInCourse(String courseId, String giver, Section giverSection) {
+        updateFeedbackResponsesOfParticipantInCourse(courseId, "giver", giver, "giverSection", giverSection);
+    }
+
+    /**
+     * Updates the recipient section of all responses in a course received by {@code recipient}, as a single statement.
+     */
+    public void updateRecipientSectionOfFeedbackResponsesInCourse(
+            String courseId, String recipient, Section recipientSection) {
+        updateFeedbackResponsesOfParticipantInCourse(courseId, "recipient", recipient, "recipientSection", recipientSection);
+    }
+
+    private void updateFeedbackResponsesOfParticipantInCourse(String courseId, String participantAttribute,
+            String participant, String updatedAttribute, Object updatedValue) {
+        assert courseId != null;
+        assert participant != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackResponse> cu = cb.createCriteriaUpdate(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cu.from(FeedbackResponse.class);
+        // bulk updates bypass @UpdateTimestamp, so the timestamp is set explicitly
+        cu.set(updatedAttribute, updatedValue)
+                .set("updatedAt", Instant.now())
+                .where(cb.and(
+                        cb.equal(root.get(participantAttribute), participant),
+                        root.get("feedbackQuestion").get("id").in(getQuestionIdsInCourse(cu, courseId))));
+        HibernateUtil.executeBulkMutation(HibernateUtil.createMutationQuery(cu), FeedbackResponse.class);
+    }
+
+    /**
+     * Returns a subquery of the IDs of the questions in a course.
+     */
+    private Subquery<UUID> getQuestionIdsInCourse(CommonAbstractCriteria criteria, String courseId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        Subquery<UUID> subquery = criteria.subquery(UUID.class);
+        Root<FeedbackQuestion> fqRoot = subquery.from(FeedbackQuestion.class);
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqRoot.join("feedbackSession");
+
+        subquery.select(fqRoot.get("id")).where(cb.equal(fsJoin.get("course").get("id"), courseId));
+        return subquery;
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -240,6 +342,43 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return !HibernateUtil.createQuery(cq).getResultList().isEmpty();
     }
 
+    /**
+     * Gets the distinct givers who have responded to the session.
+     * Only the giver identifiers are fetched; no response entity is loaded.
+     */
+    public Set<String> getGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root.get("giver"))
+                .distinct(true)
+                .where(cb.equal(fqJoin.get("feedbackSession").get("id"), feedbackSessionId));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
+    }
+
+    /**
+     * Gets the number of distinct givers who have responded to the session.
+     * Only the aggregate is fetched; no response entity is loaded.
+     */
+    public long getNumOfGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(cb.countDistinct(root.get("giver")))
+                .where(cb.equal(fqJoin.get("feedbackSession").get("id"), feedbackSessionId));
+
+        return HibernateUtil.createQuery(cq).getSingleResult();
+    }
+
     /**
      * Updates a feedbackResponse.
      *
@@ -283,6 +422,63 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets all responses for any of the given questions.
+     */
+    public List<FeedbackResponse> getResponsesForQuestions(Collection<UUID> questionIds) {
+        assert questionIds != null;
+
+        if (questionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root)
+                .where(fqJoin.get("id").in(questionIds));
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_WITH_QUESTION).getResultList();
+    }
+
+    /**
+     * Gets all responses for any of the given questions which are given by any of {@code givers}
+     * or received by any of {@code recipients}.
+     */
+    public List<FeedbackResponse> getFeedbackResponsesFromGiversOrForRecipientsForQuestions(
+            Collection<UUID> questionIds, Collection<String> givers, Collection<String> recipients) {
+        assert questionIds != null;
+        assert givers != null;
+        assert recipients != null;
+
+        if (questionIds.isEmpty() || givers.isEmpty() && recipients.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        // an empty IN list is not valid SQL, so only filter on the non-empty identifier lists
+        List<Predicate> participantFilters = new ArrayList<>();
+        if (!givers.isEmpty()) {
+            participantFilters.add(root.get("giver").in(givers));
+        }
+        if (!recipients.isEmpty()) {
+            participantFilters.add(root.get("recipient").in(recipients));
+        }
+
+        cq.select(root)
+                .where(cb.and(
+                    fqJoin.get("id").in(questionIds),
+                    cb.or(participantFilters.toArray(new Predicate[0]))
+                    ));
+
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_WITH_QUESTION).getResultList();
+    }
+
     /**
      * Gets all responses given to/from a section in a feedback session in a course.
      * Optionally, retrieves by either giver, receiver sections, or both.
@@ -322,7 +518,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_WITH_QUESTION).getResultList();
     }
 
     /**
@@ -359,7 +555,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_WITH_QUESTION).getResultList();
     }
 
     /**
@@ -383,7 +579,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(cJoin.get("id"), courseId)
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_WITH_QUESTION).getResultList();
     }
 
 }
@@ -5,11 +5,13 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
@@ -146,6 +148,15 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.get(Student.class, id);
     }
 
+    /**
+     * Gets a section reference by its {@code id}.
+     */
+    public Section getSectionReference(UUID id) {
+        assert id != null;
+
+        return HibernateUtil.getReference(Section.class, id);
+    }
+
     /**
      * Gets a student reference by its {@code id}.
      */
@@ -354,7 +365,37 @@ public final class UsersDb extends EntitiesDb {
     }
 
     /**
-     * Gets the list of instructors for the specified {@code courseId}.
+     * Gets the number of instructors for the specified {@code courseId}.
+     */
+    public long getNumInstructorsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Instructor> root = cr.from(Instructor.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
+    /**
+     * Gets the number of students for the specified {@code courseId}.
+     */
+    public long getNumStudentsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<Student> root = cr.from(Student.class);
+
+        cr.select(cb.count(root.get("id"))).where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
+    /**
+     * Gets the list of instructors for the specified {@code courseId}, together with their accounts.
      */
     public List<Instructor> getInstructorsForCourse(String courseId) {
         assert courseId != null;
@@ -365,11 +406,11 @@ public final class UsersDb extends EntitiesDb {
 
         cr.select(root).where(cb.equal(root.get("courseId"), courseId));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, Instructor.GRAPH_ROSTER).getResultList();
     }
 
     /**
-     * Gets the list of students for the specified {@code courseId}.
+     * Gets the list of students for the specified {@code courseId}, together with their accounts, teams and sections.
      */
     public List<Student> getStudentsForCourse(String courseId) {
         assert courseId != null && !courseId.isEmpty();
@@ -380,11 +421,12 @@ public final class UsersDb extends EntitiesDb {
 
         cr.select(root).where(cb.equal(root.get("courseId"), courseId));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, Student.GRAPH_ROSTER_WITH_TEAM_SECTION).getResultList();
     }
 
     /**
      * Gets the list of students for the specified {@code courseId} in batches with {@code batchSize}.
+     * The accounts, teams and sections of the students are loaded lazily.
      */
     public List<Student> getStudentsForCourse(String courseId, int batchSize) {
         assert courseId != null;
@@ -395,7 +437,7 @@ public final class UsersDb extends EntitiesDb {
 
         cr.select(root).where(cb.equal(root.get("courseId"), courseId));
 
-        return HibernateUtil.createQuery(cr).setMaxResults(batchSize).getResultList();
+        return HibernateUtil.createQuery(cr, Student.GRAPH_ROSTER_LIGHT).setMaxResults(batchSize).getResultList();
     }
 
     /**
@@ -441,6 +483,34 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the instructors in the given courses, with each course ID mapped to the emails of the instructors to get.
+     *
+     * <p>All instructors are fetched in a single query, together with their courses and accounts.
+     */
+    public List<Instructor> getInstructorsForCourseEmails(Map<String, List<String>> emailsByCourseId) {
+        assert emailsByCourseId != null;
+
+        if (emailsByCourseId.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Instructor> cr = cb.createQuery(Instructor.class);
+        Root<Instructor> instructorRoot = cr.from(Instructor.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : emailsByCourseId.entrySet()) {
+            predicates.add(cb.and(
+                    cb.equal(instructorRoot.get("courseId"), entry.getKey()),
+                    instructorRoot.get("email").in(entry.getValue())));
+        }
+
+        cr.select(instructorRoot).where(cb.or(predicates.toArray(new Predicate[0])));
+
+        return HibernateUtil.createQuery(cr, Instructor.GRAPH_ROSTER).getResultList();
+    }
+
     /**
      * Gets the student with the specified {@code userEmail}.
      */
@@ -484,6 +554,34 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultList();
     }
 
+    /**
+     * Gets the students in the given courses, with each course ID mapped to the emails of the students to get.
+     *
+     * <p>All students are fetched in a single query, together with their courses, accounts, teams and sections.
+     */
+    public List<Student> getStudentsForCourseEmails(Map<String, List<String>> emailsByCourseId) {
+        assert emailsByCourseId != null;
+
+        if (emailsByCourseId.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Student> cr = cb.createQuery(Student.class);
+        Root<Student> studentRoot = cr.from(Student.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : emailsByCourseId.entrySet()) {
+            predicates.add(cb.and(
+                    cb.equal(studentRoot.get("courseId"), entry.getKey()),
+                    studentRoot.get("email").in(entry.getValue())));
+        }
+
+        cr.select(studentRoot).where(cb.or(predicates.toArray(new Predicate[0])));
+
+        return HibernateUtil.createQuery(cr, Student.GRAPH_ROSTER_WITH_TEAM_SECTION).getResultList();
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -535,7 +633,7 @@ public final class UsersDb extends EntitiesDb {
                         cb.equal(courseJoin.get("id"), courseId),
                         cb.equal(sectionJoin.get("name"), sectionName)));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, Student.GRAPH_ROSTER_WITH_TEAM_SECTION).getResultList();
     }
 
     /**
@@ -556,7 +654,7 @@ public final class UsersDb extends EntitiesDb {
                         cb.equal(courseJoin.get("id"), courseId),
                         cb.equal(teamsJoin.get("name"), teamName)));
 
-        return HibernateUtil.createQuery(cr).getResultList();
+        return HibernateUtil.createQuery(cr, Student.GRAPH_ROSTER_WITH_TEAM_SECTION).getResultList();
     }
 
     /**
@@ -654,6 +752,63 @@ public final class UsersDb extends EntitiesDb {
         return team;
     }
 
+    /**
+     * Gets all sections of a course, with the teams of each section fetched in the same query.
+     */
+    public List<Section> getSectionsWithTeamsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Section> cr = cb.createQuery(Section.class);
+        Root<Section> sectionRoot = cr.from(Section.class);
+        Join<Section, Course> courseJoin = sectionRoot.join("course");
+        sectionRoot.fetch("teams", JoinType.LEFT);
+
+        cr.select(sectionRoot)
+                .distinct(true)
+                .where(cb.equal(courseJoin.get("id"), courseId));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Creates the given sections and teams without checking for existing ones.
+     *
+     * <p>The caller is responsible for ensuring that none of them exists in the database yet.
+     */
+    public void createSectionsAndTeams(List<Section> sections, List<Team> teams) {
+        assert sections != null;
+        assert teams != null;
+
+        for (Section section : sections) {
+            persist(section);
+        }
+        for (Team team : teams) {
+            persist(team);
+        }
+    }
+
+    /**
+     * Creates students in bulk.
+     *
+     * <p>All students are validated before any of them is persisted, so that either all or none are created.
+     * The inserts are sent to the database as JDBC batches when the session is flushed.
+     */
+    public List<Student> createStudents(List<Student> students) throws InvalidParametersException {
+        assert students != null;
+
+        for (Student student : students) {
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+        }
+
+        for (Student student : students) {
+            persist(student);
+        }
+        return students;
+    }
+
     /**
      * Updates a student.
      */
@@ -10,6 +10,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -25,7 +26,9 @@ import teammates.common.util.SanitizationHelper;
  * Represents a unique account in the system.
  */
 @Entity
-@Table(name = "Accounts")
+@Table(name = "Accounts", indexes = {
+        @Index(name = "idx_accounts_email", columnList = "email"),
+})
 public class Account extends BaseEntity {
     @Id
     private UUID id;
@@ -73,6 +73,15 @@ public abstract class BaseEntity {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Returns the question type stored in the top-level {@code questionType} member of the JSON details,
+     * or null if there is no such member.
+     */
+    private static FeedbackQuestionType getQuestionType(String detailsJson) {
+        String questionType = JsonUtils.getTopLevelStringMember(detailsJson, "questionType");
+        return questionType == null ? null : FeedbackQuestionType.valueOf(questionType);
+    }
+
     /**
      * Attribute converter between Duration and Long types.
      */
@@ -92,36 +101,50 @@ public abstract class BaseEntity {
     /**
      * Converter for {@code FeedbackQuestionDetails} stored in JSON.
      *
+     * <p>Details are written as compact JSON. Legacy pretty-printed JSON is still accepted when reading.
+     * The concrete details class is resolved from the {@code questionType} member
+     * so that the details are deserialized in a single pass.
      */
     @Converter
     public static class FeedbackQuestionDetailsConverter implements AttributeConverter<FeedbackQuestionDetails, String> {
         @Override
         public String convertToDatabaseColumn(FeedbackQuestionDetails entity) {
-            return JsonUtils.toJson(entity);
+            return JsonUtils.toCompactJson(entity);
         }
 
         @Override
         public FeedbackQuestionDetails convertToEntityAttribute(String dbData) {
-            return JsonUtils.fromJson(dbData, new TypeToken<FeedbackQuestionDetails>() {
-            }.getType());
+            FeedbackQuestionType questionType = getQuestionType(dbData);
+            if (questionType == null) {
+                return JsonUtils.fromJson(dbData, new TypeToken<FeedbackQuestionDetails>() {
+                }.getType());
+            }
+            return JsonUtils.fromJson(dbData, questionType.getQuestionDetailsClass());
         }
     }
 
     /**
      * Converter for {@code FeedbackResponseDetails} stored in JSON.
      *
+     * <p>Details are written as compact JSON. Legacy pretty-printed JSON is still accepted when reading.
+     * The concrete details class is resolved from the {@code questionType} member
+     * so that the details are deserialized in a single pass.
      */
     @Converter
     public static class FeedbackResponseDetailsConverter implements AttributeConverter<FeedbackResponseDetails, String> {
         @Override
         public String convertToDatabaseColumn(FeedbackResponseDetails entity) {
-            return JsonUtils.toJson(entity);
+            return JsonUtils.toCompactJson(entity);
         }
 
         @Override
         public FeedbackResponseDetails convertToEntityAttribute(String dbData) {
-            return JsonUtils.fromJson(dbData, new TypeToken<FeedbackResponseDetails>() {
-            }.getType());
+            FeedbackQuestionType questionType = getQuestionType(dbData);
+            if (questionType == null) {
+                return JsonUtils.fromJson(dbData, new TypeToken<FeedbackResponseDetails>() {
+                }.getType());
+            }
+            return JsonUtils.fromJson(dbData, questionType.getResponseDetailsClass());
         }
     }
 
@@ -9,6 +9,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,11 @@ import teammates.common.util.FieldValidator;
  * Represents a deadline extension entity.
  */
 @Entity
-@Table(name = "DeadlineExtensions")
+@Table(name = "DeadlineExtensions", indexes = {
+        @Index(name = "idx_deadline_extensions_session_id_user_id", columnList = "sessionId, userId"),
+        @Index(name = "idx_deadline_extensions_user_id", columnList = "userId"),
+        @Index(name = "idx_deadline_extensions_end_time", columnList = "endTime"),
+})
 public class DeadlineExtension extends BaseEntity {
     @Id
     private UUID id;
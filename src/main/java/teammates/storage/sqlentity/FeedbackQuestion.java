@@ -13,6 +13,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -39,7 +40,9 @@ import teammates.storage.sqlentity.questions.FeedbackTextQuestion;
  * Represents a feedback question.
  */
 @Entity
-@Table(name = "FeedbackQuestions")
+@Table(name = "FeedbackQuestions", indexes = {
+        @Index(name = "idx_feedback_questions_session_id_question_number", columnList = "sessionId, questionNumber"),
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public abstract class FeedbackQuestion extends BaseEntity implements Comparable<FeedbackQuestion> {
     @Id
@@ -10,10 +10,14 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -34,9 +38,32 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  * Represents a Feedback Response.
  */
 @Entity
-@Table(name = "FeedbackResponses")
+@Table(name = "FeedbackResponses", indexes = {
+        @Index(name = "idx_feedback_responses_question_id", columnList = "questionId"),
+        @Index(name = "idx_feedback_responses_giver_question_id", columnList = "giver, questionId"),
+        @Index(name = "idx_feedback_responses_recipient_question_id", columnList = "recipient, questionId"),
+        @Index(name = "idx_feedback_responses_giver_section_id", columnList = "giverSectionId"),
+        @Index(name = "idx_feedback_responses_recipient_section_id", columnList = "recipientSectionId"),
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@NamedEntityGraph(name = FeedbackResponse.GRAPH_WITH_QUESTION,
+        attributeNodes = {
+                @NamedAttributeNode(value = "feedbackQuestion", subgraph = "question"),
+                @NamedAttributeNode("giverSection"),
+                @NamedAttributeNode("recipientSection"),
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "question", attributeNodes = @NamedAttributeNode(value = "feedbackSession",
+                        subgraph = "session")),
+                @NamedSubgraph(name = "session", attributeNodes = @NamedAttributeNode("course")),
+        })
 public abstract class FeedbackResponse extends BaseEntity {
+    /**
+     * Fetch graph for reading responses together with their question, session, course and sections
+     * in a single query.
+     */
+    public static final String GRAPH_WITH_QUESTION = "FeedbackResponse.withQuestion";
+
     @Id
     private UUID id;
 
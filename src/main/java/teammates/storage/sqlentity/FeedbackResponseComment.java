@@ -9,9 +9,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 import org.hibernate.annotations.OnDelete;
@@ -26,10 +29,16 @@ import teammates.common.util.SanitizationHelper;
  * Represents a feedback response comment.
  */
 @Entity
-@Table(name = "FeedbackResponseComments")
+@Table(name = "FeedbackResponseComments", indexes = {
+        @Index(name = "idx_feedback_response_comments_response_id", columnList = "responseId"),
+        @Index(name = "idx_feedback_response_comments_giver", columnList = "giver"),
+})
 public class FeedbackResponseComment extends BaseEntity {
     @Id
-    @GeneratedValue
+    // IDs are allocated from a pooled sequence rather than an identity column, so that inserts can be batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "feedback_response_comments_seq")
+    @SequenceGenerator(name = "feedback_response_comments_seq", sequenceName = "feedback_response_comments_seq",
+            allocationSize = 50)
     private Long id;
 
     @ManyToOne
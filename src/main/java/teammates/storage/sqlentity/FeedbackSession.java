@@ -12,6 +12,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -31,7 +32,11 @@ import teammates.common.util.SanitizationHelper;
  * Represents a course entity.
  */
 @Entity
-@Table(name = "FeedbackSessions", uniqueConstraints = @UniqueConstraint(columnNames = {"courseId", "name"}))
+@Table(name = "FeedbackSessions", uniqueConstraints = @UniqueConstraint(columnNames = {"courseId", "name"}), indexes = {
+        @Index(name = "idx_feedback_sessions_start_time", columnList = "startTime"),
+        @Index(name = "idx_feedback_sessions_end_time", columnList = "endTime"),
+        @Index(name = "idx_feedback_sessions_results_visible_from_time", columnList = "resultsVisibleFromTime"),
+})
 public class FeedbackSession extends BaseEntity {
     @Id
     private UUID id;
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,10 @@ import teammates.common.datatransfer.logs.FeedbackSessionLogType;
  * Represents a feedback session log.
  */
 @Entity
-@Table(name = "FeedbackSessionLogs")
+@Table(name = "FeedbackSessionLogs", indexes = {
+        @Index(name = "idx_feedback_session_logs_session_id_timestamp", columnList = "sessionId, timestamp"),
+        @Index(name = "idx_feedback_session_logs_student_id_timestamp", columnList = "studentId, timestamp"),
+})
 public class FeedbackSessionLog extends BaseEntity {
     @Id
     private UUID id;
@@ -9,6 +9,8 @@ import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 
 import teammates.common.datatransfer.InstructorPermissionRole;
@@ -24,7 +26,14 @@ import teammates.common.util.SanitizationHelper;
  */
 @Entity
 @Table(name = "Instructors")
+@NamedEntityGraph(name = Instructor.GRAPH_ROSTER,
+        attributeNodes = { @NamedAttributeNode("course"), @NamedAttributeNode("account") })
 public class Instructor extends User {
+    /**
+     * Fetch graph for reading instructors together with their account in a single query.
+     */
+    public static final String GRAPH_ROSTER = "Instructor.roster";
+
     @Column(nullable = false)
     private boolean isDisplayedToStudents;
 
@@ -125,6 +134,20 @@ public class Instructor extends User {
                 .toString();
     }
 
+    /**
+     * Creates a copy of the instructor, which is placed in the given course and linked to the given account.
+     * The course and account are not copied, so that copies of instructors can share them.
+     */
+    public Instructor getCopy(Course course, Account account) {
+        Instructor copy = new Instructor();
+        copyTo(copy, course, null, account);
+        copy.isDisplayedToStudents = isDisplayedToStudents;
+        copy.displayName = displayName;
+        copy.role = role;
+        copy.privileges = privileges == null ? null : privileges.getCopy();
+        return copy;
+    }
+
     /**
      * Returns true if the instructor has co-owner privilege.
      */
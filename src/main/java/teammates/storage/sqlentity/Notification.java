@@ -12,6 +12,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
@@ -28,7 +29,9 @@ import teammates.common.util.SanitizationHelper;
  * Represents a unique notification in the system.
  */
 @Entity
-@Table(name = "Notifications")
+@Table(name = "Notifications", indexes = {
+        @Index(name = "idx_notifications_end_time", columnList = "endTime"),
+})
 public class Notification extends BaseEntity {
 
     @Id
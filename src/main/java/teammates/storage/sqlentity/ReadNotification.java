@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
@@ -15,7 +16,9 @@ import jakarta.persistence.Table;
  * Keeps track of which Notifications have been read by an Account.
  */
 @Entity
-@Table(name = "ReadNotifications")
+@Table(name = "ReadNotifications", indexes = {
+        @Index(name = "idx_read_notifications_account_id", columnList = "account_id"),
+})
 public class ReadNotification extends BaseEntity {
     @Id
     private UUID id;
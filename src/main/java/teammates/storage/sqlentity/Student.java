@@ -5,6 +5,9 @@ import java.util.List;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 
 import teammates.common.util.Config;
@@ -17,7 +20,25 @@ import teammates.common.util.SanitizationHelper;
  */
 @Entity
 @Table(name = "Students")
+@NamedEntityGraph(name = Student.GRAPH_ROSTER_LIGHT, attributeNodes = @NamedAttributeNode("course"))
+@NamedEntityGraph(name = Student.GRAPH_ROSTER_WITH_TEAM_SECTION,
+        attributeNodes = {
+                @NamedAttributeNode("course"),
+                @NamedAttributeNode("account"),
+                @NamedAttributeNode(value = "team", subgraph = "team"),
+        },
+        subgraphs = @NamedSubgraph(name = "team", attributeNodes = @NamedAttributeNode("section")))
 public class Student extends User {
+    /**
+     * Fetch graph for reading only the students' own details, without their account, team and section.
+     */
+    public static final String GRAPH_ROSTER_LIGHT = "Student.rosterLight";
+
+    /**
+     * Fetch graph for reading students together with their account, team and section in a single query.
+     */
+    public static final String GRAPH_ROSTER_WITH_TEAM_SECTION = "Student.rosterWithTeamSection";
+
     @Column(nullable = false)
     private String comments;
 
@@ -90,4 +111,15 @@ public class Student extends User {
                 .withEntityType(Const.EntityType.STUDENT)
                 .toString();
     }
+
+    /**
+     * Creates a copy of the student, which is placed in the given course and team and linked to the given account.
+     * The course, team and account are not copied, so that copies of students can share them.
+     */
+    public Student getCopy(Course course, Team team, Account account) {
+        Student copy = new Student();
+        copyTo(copy, course, team, account);
+        copy.comments = comments;
+        return copy;
+    }
 }
@@ -8,6 +8,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -26,6 +27,11 @@ import teammates.common.util.StringHelper;
 @Entity
 @Table(name = "Users", uniqueConstraints = {
         @UniqueConstraint(name = "Unique email and courseId", columnNames = { "email", "courseId" })
+}, indexes = {
+        @Index(name = "idx_users_course_id", columnList = "courseId"),
+        @Index(name = "idx_users_account_id", columnList = "accountId"),
+        @Index(name = "idx_users_team_id", columnList = "teamId"),
+        @Index(name = "idx_users_reg_key", columnList = "regKey"),
 })
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class User extends BaseEntity {
@@ -196,6 +202,22 @@ public abstract class User extends BaseEntity {
         }
     }
 
+    /**
+     * Copies the fields of this user to {@code copy}, which is placed in the given course and team
+     * and linked to the given account.
+     */
+    protected void copyTo(User copy, Course course, Team team, Account account) {
+        copy.id = id;
+        copy.setCourse(course);
+        copy.team = team;
+        copy.account = account;
+        copy.name = name;
+        copy.email = email;
+        copy.regKey = regKey;
+        copy.updatedAt = updatedAt;
+        copy.setCreatedAt(getCreatedAt());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
@@ -1,5 +1,6 @@
 package teammates.storage.sqlsearch;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -70,9 +71,12 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequest> {
     }
 
     @Override
-    AccountRequest getEntityFromDocument(SolrDocument document) {
-        UUID id = UUID.fromString((String) document.getFieldValue("id"));
-        return accountRequestsDb.getAccountRequest(id);
+    List<AccountRequest> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        List<UUID> ids = new ArrayList<>();
+        for (SolrDocument document : documents) {
+            ids.add(UUID.fromString((String) document.getFieldValue("id")));
+        }
+        return accountRequestsDb.getAccountRequests(ids);
     }
 
     @Override
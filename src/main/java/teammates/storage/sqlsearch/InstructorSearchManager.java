@@ -1,7 +1,10 @@
 package teammates.storage.sqlsearch;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
@@ -76,10 +79,14 @@ public class InstructorSearchManager extends SearchManager<Instructor> {
     }
 
     @Override
-    Instructor getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorForEmail(courseId, email);
+    List<Instructor> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        Map<String, List<String>> emailsByCourseId = new HashMap<>();
+        for (SolrDocument document : documents) {
+            String courseId = (String) document.getFirstValue("courseId");
+            String email = (String) document.getFirstValue("email");
+            emailsByCourseId.computeIfAbsent(courseId, k -> new ArrayList<>()).add(email);
+        }
+        return instructorsDb.getInstructorsForCourseEmails(emailsByCourseId);
     }
 
     @Override
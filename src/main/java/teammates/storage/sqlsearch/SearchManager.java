@@ -30,12 +30,17 @@ import teammates.storage.sqlentity.BaseEntity;
  */
 abstract class SearchManager<T extends BaseEntity> {
 
+    /**
+     * Maximum time in milliseconds before added or deleted documents are committed by Solr.
+     */
+    static final int COMMIT_WITHIN_MS = 1000;
+
     private static final Logger log = Logger.getLogger();
 
     private static final String ERROR_DELETE_DOCUMENT = "Failed to delete document(s) %s in Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_DOCUMENT = "Failed to search for document(s) %s from Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED = "Search service is not implemented";
-    private static final String ERROR_PUT_DOCUMENT = "Failed to put document %s into Solr. Root cause: %s ";
+    private static final String ERROR_PUT_DOCUMENT = "Failed to put document(s) %s into Solr. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION = "Failed to reset collections. Root cause: %s ";
 
     private static final int START_INDEX = 0;
@@ -120,27 +125,48 @@ abstract class SearchManager<T extends BaseEntity> {
      * Creates or updates search document for the given entity.
      */
     public void putDocument(T entity) throws SearchServiceException {
+        if (entity == null) {
+            return;
+        }
+
+        putDocuments(Collections.singletonList(entity));
+    }
+
+    /**
+     * Creates or updates search documents for the given entities.
+     *
+     * <p>All documents are sent to Solr in a single request. They become searchable through a soft commit
+     * within {@link #COMMIT_WITHIN_MS}, instead of a hard commit per request.
+     */
+    public void putDocuments(List<T> entities) throws SearchServiceException {
         if (client == null) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (entity == null) {
-            return;
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (T entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
+            SolrInputDocument document = new SolrInputDocument();
+            searchableFields.forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
         }
 
-        Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        if (documents.isEmpty()) {
+            return;
+        }
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            client.add(getCollectionName(), documents, COMMIT_WITHIN_MS);
+            commitIfImmediateVisibilityRequired();
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, documents, e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
@@ -159,8 +185,8 @@ abstract class SearchManager<T extends BaseEntity> {
         }
 
         try {
-            client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            client.deleteById(getCollectionName(), keys, COMMIT_WITHIN_MS);
+            commitIfImmediateVisibilityRequired();
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -168,6 +194,16 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
+    /**
+     * Commits the pending changes right away if, and only if called during component tests,
+     * which search for documents immediately after indexing them.
+     */
+    private void commitIfImmediateVisibilityRequired() throws SolrServerException, IOException {
+        if (isResetAllowed) {
+            client.commit(getCollectionName());
+        }
+    }
+
     /**
      * Resets the data for all collections if, and only if called during component
      * tests.
@@ -224,35 +260,28 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
-    abstract T getEntityFromDocument(SolrDocument document);
+    /**
+     * Gets the entities corresponding to the given documents, in as few database queries as possible.
+     *
+     * <p>Documents without a corresponding entity are skipped.
+     */
+    abstract List<T> getEntitiesFromDocuments(List<SolrDocument> documents);
 
     abstract void sortResult(List<T> result);
 
     List<T> convertDocumentToEntities(List<SolrDocument> documents) {
-        if (documents == null) {
+        if (documents == null || documents.isEmpty()) {
             return new ArrayList<>();
         }
 
-        List<T> result = new ArrayList<>();
-
-        for (SolrDocument document : documents) {
-            T entity = getEntityFromDocument(document);
-
-            // Entity will be null if document corresponds to entity in datastore
-            if (entity == null) {
-                // search engine out of sync as SearchManager may fail to delete documents
-                // the chance is low and it is generally not a big problem
+        // Entity will be missing if document corresponds to entity in datastore, or if the
+        // search engine is out of sync as SearchManager may fail to delete documents.
+        // The chance is low and it is generally not a big problem.
 
-                // these lines below are commented out as they interfere with the dual db search,
-                // and cause unwanted deletions, please refer to the following PR for more details
-                // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
-
-                // String id = (String) document.getFirstValue("id");
-                // deleteDocuments(Collections.singletonList(id));
-                continue;
-            }
-            result.add(entity);
-        }
+        // The stale documents are not deleted here as it interferes with the dual db search,
+        // and causes unwanted deletions, please refer to the following PR for more details
+        // [PR](https://github.com/TEAMMATES/teammates/pull/12838)
+        List<T> result = getEntitiesFromDocuments(documents);
         sortResult(result);
 
         return result;
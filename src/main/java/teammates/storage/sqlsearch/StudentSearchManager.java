@@ -2,7 +2,9 @@ package teammates.storage.sqlsearch;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
@@ -80,10 +82,14 @@ public class StudentSearchManager extends SearchManager<Student> {
     }
 
     @Override
-    Student getEntityFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<Student> getEntitiesFromDocuments(List<SolrDocument> documents) {
+        Map<String, List<String>> emailsByCourseId = new HashMap<>();
+        for (SolrDocument document : documents) {
+            String courseId = (String) document.getFirstValue("courseId");
+            String email = (String) document.getFirstValue("email");
+            emailsByCourseId.computeIfAbsent(courseId, k -> new ArrayList<>()).add(email);
+        }
+        return studentsDb.getStudentsForCourseEmails(emailsByCourseId);
     }
 
     @Override
@@ -22,6 +22,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionResultStatistics;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
@@ -47,8 +48,10 @@ public class SessionResultsData extends ApiOutput {
 
     /**
      * Factory method to construct API output for instructor.
+     *
+     * <p>Question statistics are only calculated if {@code isStatisticsIncluded} is true.
      */
-    public static SessionResultsData initForInstructor(SessionResultsBundle bundle) {
+    public static SessionResultsData initForInstructor(SessionResultsBundle bundle, boolean isStatisticsIncluded) {
         SessionResultsData sessionResultsData = new SessionResultsData();
 
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
@@ -57,8 +60,10 @@ public class SessionResultsData extends ApiOutput {
         questionsWithResponses.forEach((questionId, responses) -> {
             FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
             FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
+            FeedbackQuestionResultStatistics statistics = isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatistics(question, null, bundle)
+                    : null;
+            QuestionOutput qnOutput = new QuestionOutput(question, statistics, false, false);
             // put normal responses
             List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
             qnOutput.allResponses.addAll(allResponses);
@@ -75,8 +80,10 @@ public class SessionResultsData extends ApiOutput {
 
     /**
      * Factory method to construct API output for instructor.
+     *
+     * <p>Question statistics are only calculated if {@code isStatisticsIncluded} is true.
      */
-    public static SessionResultsData initForInstructor(SqlSessionResultsBundle bundle) {
+    public static SessionResultsData initForInstructor(SqlSessionResultsBundle bundle, boolean isStatisticsIncluded) {
         SessionResultsData sessionResultsData = new SessionResultsData();
 
         Map<FeedbackQuestion, List<FeedbackResponse>> questionsWithResponses =
@@ -84,8 +91,10 @@ public class SessionResultsData extends ApiOutput {
 
         questionsWithResponses.forEach((question, responses) -> {
             FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
+            FeedbackQuestionResultStatistics statistics = isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatistics(question, null, bundle)
+                    : null;
+            QuestionOutput qnOutput = new QuestionOutput(question, statistics, false, false);
             // put normal responses
             List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
             qnOutput.allResponses.addAll(allResponses);
@@ -102,8 +111,11 @@ public class SessionResultsData extends ApiOutput {
 
     /**
      * Factory method to construct API output for student.
+     *
+     * <p>Question statistics are only calculated if {@code isStatisticsIncluded} is true.
      */
-    public static SessionResultsData initForStudent(SessionResultsBundle bundle, StudentAttributes student) {
+    public static SessionResultsData initForStudent(SessionResultsBundle bundle, StudentAttributes student,
+                                                    boolean isStatisticsIncluded) {
         SessionResultsData sessionResultsData = new SessionResultsData();
 
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
@@ -114,9 +126,10 @@ public class SessionResultsData extends ApiOutput {
             // check if question has comments (on any responses) not visible for preview
             boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreview()
                     .contains(questionId);
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
-                    false, hasCommentNotVisibleForPreview);
+            FeedbackQuestionResultStatistics statistics = isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatistics(question, student.getEmail(), bundle)
+                    : null;
+            QuestionOutput qnOutput = new QuestionOutput(question, statistics, false, hasCommentNotVisibleForPreview);
             Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
 
             qnOutput.getFeedbackQuestion().hideInformationForStudent();
@@ -159,7 +172,7 @@ public class SessionResultsData extends ApiOutput {
         Map<String, FeedbackQuestionAttributes> questionsWithResponsesNotVisibleForPreview =
                 bundle.getQuestionsNotVisibleForPreviewMap();
         questionsWithResponsesNotVisibleForPreview.forEach((questionId, question) -> {
-            QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
+            QuestionOutput qnOutput = new QuestionOutput(question, null, true, false);
             sessionResultsData.questions.add(qnOutput);
         });
 
@@ -168,8 +181,11 @@ public class SessionResultsData extends ApiOutput {
 
     /**
      * Factory method to construct API output for student.
+     *
+     * <p>Question statistics are only calculated if {@code isStatisticsIncluded} is true.
      */
-    public static SessionResultsData initForStudent(SqlSessionResultsBundle bundle, Student student) {
+    public static SessionResultsData initForStudent(SqlSessionResultsBundle bundle, Student student,
+                                                    boolean isStatisticsIncluded) {
         SessionResultsData sessionResultsData = new SessionResultsData();
 
         Map<FeedbackQuestion, List<FeedbackResponse>> questionsWithResponses =
@@ -180,9 +196,10 @@ public class SessionResultsData extends ApiOutput {
             // check if question has comments (on any responses) not visible for preview
             boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreviewSet()
                     .contains(question);
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
-                    false, hasCommentNotVisibleForPreview);
+            FeedbackQuestionResultStatistics statistics = isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatistics(question, student.getEmail(), bundle)
+                    : null;
+            QuestionOutput qnOutput = new QuestionOutput(question, statistics, false, hasCommentNotVisibleForPreview);
             Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
 
             qnOutput.getFeedbackQuestion().hideInformationForStudent();
@@ -225,7 +242,7 @@ public class SessionResultsData extends ApiOutput {
         Set<FeedbackQuestion> questionsWithResponsesNotVisibleForPreview =
                 bundle.getQuestionsNotVisibleForPreviewSet();
         questionsWithResponsesNotVisibleForPreview.forEach(question -> {
-            QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
+            QuestionOutput qnOutput = new QuestionOutput(question, null, true, false);
             sessionResultsData.questions.add(qnOutput);
         });
 
@@ -721,7 +738,8 @@ public class SessionResultsData extends ApiOutput {
     public static final class QuestionOutput {
 
         private final FeedbackQuestionData feedbackQuestion;
-        private final String questionStatistics;
+        @Nullable
+        private final FeedbackQuestionResultStatistics questionStatistics;
 
         private final List<ResponseOutput> allResponses = new ArrayList<>();
         private final boolean hasResponseButNotVisibleForPreview;
@@ -732,7 +750,8 @@ public class SessionResultsData extends ApiOutput {
         private final List<ResponseOutput> responsesFromSelf = new ArrayList<>();
         private final List<List<ResponseOutput>> otherResponses = new ArrayList<>();
 
-        private QuestionOutput(FeedbackQuestionAttributes feedbackQuestionAttributes, String questionStatistics,
+        private QuestionOutput(FeedbackQuestionAttributes feedbackQuestionAttributes,
+                               @Nullable FeedbackQuestionResultStatistics questionStatistics,
                                boolean hasResponseButNotVisibleForPreview, boolean hasCommentNotVisibleForPreview) {
             this.feedbackQuestion = new FeedbackQuestionData(feedbackQuestionAttributes);
             this.questionStatistics = questionStatistics;
@@ -740,7 +759,8 @@ public class SessionResultsData extends ApiOutput {
             this.hasCommentNotVisibleForPreview = hasCommentNotVisibleForPreview;
         }
 
-        private QuestionOutput(FeedbackQuestion feedbackQuestion, String questionStatistics,
+        private QuestionOutput(FeedbackQuestion feedbackQuestion,
+                @Nullable FeedbackQuestionResultStatistics questionStatistics,
                 boolean hasResponseButNotVisibleForPreview, boolean hasCommentNotVisibleForPreview) {
             this.feedbackQuestion = new FeedbackQuestionData(feedbackQuestion);
             this.questionStatistics = questionStatistics;
@@ -752,7 +772,8 @@ public class SessionResultsData extends ApiOutput {
             return feedbackQuestion;
         }
 
-        public String getQuestionStatistics() {
+        @Nullable
+        public FeedbackQuestionResultStatistics getQuestionStatistics() {
             return questionStatistics;
         }
 
@@ -1,23 +1,45 @@
 package teammates.ui.request;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.EmailWrapper;
 
 /**
- * The request of sending an email.
+ * The request of sending an email, or a batch of feedback session emails to be rendered when they are sent.
  */
 public class SendEmailRequest extends BasicRequest {
     private final EmailWrapper email;
+    private final FeedbackSessionEmailBatch emailBatch;
 
     public SendEmailRequest(EmailWrapper email) {
         this.email = email;
+        this.emailBatch = null;
+    }
+
+    public SendEmailRequest(FeedbackSessionEmailBatch emailBatch) {
+        this.email = null;
+        this.emailBatch = emailBatch;
     }
 
     public EmailWrapper getEmail() {
         return email;
     }
 
+    public FeedbackSessionEmailBatch getEmailBatch() {
+        return emailBatch;
+    }
+
     @Override
     public void validate() throws InvalidHttpRequestBodyException {
+        if (emailBatch != null) {
+            assertTrue(email == null, "Email and email batch cannot be both specified");
+            assertTrue(emailBatch.getCourseId() != null, "Course ID cannot be null");
+            assertTrue(emailBatch.getFeedbackSessionName() != null, "Feedback session name cannot be null");
+            assertTrue(emailBatch.getEmailType() != null, "Email type cannot be null");
+            assertTrue(emailBatch.getUserIds() != null, "User IDs cannot be null");
+            assertTrue(emailBatch.getCopyRecipientIds() != null, "Copy recipient IDs cannot be null");
+            assertTrue(emailBatch.size() > 0, "Email batch cannot be empty");
+            return;
+        }
         assertTrue(email != null, "Email cannot be null");
         assertTrue(email.getContent() != null, "Email content cannot be null");
         assertTrue(email.getRecipient() != null, "Email recipient's address cannot be null");
@@ -0,0 +1,32 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+/**
+ * The request of indexing a group of students of the same course for search.
+ */
+public class StudentsSearchIndexingRequest extends BasicRequest {
+    private final String courseId;
+    private final List<String> studentEmails;
+
+    public StudentsSearchIndexingRequest(String courseId, List<String> studentEmails) {
+        this.courseId = courseId;
+        this.studentEmails = studentEmails;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public List<String> getStudentEmails() {
+        return studentEmails;
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(courseId != null, "Course ID cannot be null");
+        assertTrue(studentEmails != null, "Student emails cannot be null");
+        assertTrue(!studentEmails.isEmpty(), "Student emails cannot be empty");
+    }
+
+}
@@ -1,16 +1,22 @@
 package teammates.ui.webapi;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.apache.http.client.methods.HttpGet;
+
 import teammates.common.datatransfer.InstructorPermissionSet;
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.datatransfer.attributes.AccountAttributes;
-import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -63,6 +69,7 @@ public abstract class Action {
     private InstructorAttributes unregisteredInstructor;
     private Boolean isCourseMigrated;
     private Boolean isAccountMigrated;
+    private final Map<String, Boolean> courseMigrationStatuses = new HashMap<>();
 
     private Student unregisteredSqlStudent;
     private Instructor unregisteredSqlInstructor;
@@ -130,13 +137,44 @@ public abstract class Action {
 
     /**
      * Returns true if course has been migrated or does not exist in the datastore.
+     * The status of each course is looked up at most once per request.
+     *
+     * <p>The cached migration status is bypassed for requests other than GET,
+     * so that writes never go to the datastore for a course which has just been migrated.
      */
     protected boolean isCourseMigrated(String courseId) {
-        if (isCourseMigrated == null) {
-            CourseAttributes course = logic.getCourse(courseId);
-            isCourseMigrated = course == null || course.isMigrated();
+        if (isCourseMigrated != null) {
+            return isCourseMigrated;
         }
-        return isCourseMigrated;
+        return courseMigrationStatuses.computeIfAbsent(courseId,
+                id -> logic.isCourseMigrated(id, isWriteRequest()));
+    }
+
+    /**
+     * Gets whether each of the given courses has been migrated or does not exist in the datastore.
+     *
+     * <p>The courses are looked up together, which is preferred over {@link #isCourseMigrated(String)}
+     * when an action works on multiple courses.
+     */
+    protected Map<String, Boolean> areCoursesMigrated(Collection<String> courseIds) {
+        Map<String, Boolean> migrationStatuses = new HashMap<>();
+        if (isCourseMigrated != null) {
+            courseIds.forEach(courseId -> migrationStatuses.put(courseId, isCourseMigrated));
+            return migrationStatuses;
+        }
+        List<String> courseIdsToLookUp = courseIds.stream()
+                .filter(courseId -> !courseMigrationStatuses.containsKey(courseId))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!courseIdsToLookUp.isEmpty()) {
+            courseMigrationStatuses.putAll(logic.areCoursesMigrated(courseIdsToLookUp, isWriteRequest()));
+        }
+        courseIds.forEach(courseId -> migrationStatuses.put(courseId, courseMigrationStatuses.get(courseId)));
+        return migrationStatuses;
+    }
+
+    private boolean isWriteRequest() {
+        return req != null && !HttpGet.METHOD_NAME.equals(req.getMethod());
     }
 
     /**
@@ -173,6 +173,7 @@ public final class ActionFactory {
         map(TaskQueue.ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL, POST, AccountRequestSearchIndexingWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL, POST, InstructorSearchIndexingWorkerAction.class);
         map(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, POST, StudentSearchIndexingWorkerAction.class);
+        map(TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL, POST, StudentsSearchIndexingWorkerAction.class);
 
     }
 
@@ -12,7 +12,6 @@ import teammates.common.util.StringHelper;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
-import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.User;
 
@@ -421,54 +420,6 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         }
     }
 
-    /**
-     * Gets the section of a recipient.
-     */
-    @SuppressWarnings("PMD.ImplicitSwitchFallThrough") // false positive
-    Section getRecipientSection(
-            String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
-            String recipientIdentifier) {
-
-        switch (recipientType) {
-        case SELF:
-            switch (giverType) {
-            case INSTRUCTORS:
-            case SELF:
-                return sqlLogic.getDefaultSectionOrCreate(courseId);
-            case TEAMS:
-            case TEAMS_IN_SAME_SECTION:
-                Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-                return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
-            case STUDENTS:
-            case STUDENTS_IN_SAME_SECTION:
-                Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
-            default:
-                assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
-                return null;
-            }
-        case INSTRUCTORS:
-        case NONE:
-            return sqlLogic.getDefaultSectionOrCreate(courseId);
-        case TEAMS:
-        case TEAMS_EXCLUDING_SELF:
-        case TEAMS_IN_SAME_SECTION:
-        case OWN_TEAM:
-            Section section = sqlLogic.getSectionByCourseIdAndTeam(courseId, recipientIdentifier);
-            return section == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : section;
-        case STUDENTS:
-        case STUDENTS_EXCLUDING_SELF:
-        case STUDENTS_IN_SAME_SECTION:
-        case OWN_TEAM_MEMBERS:
-        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            Student student = sqlLogic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? sqlLogic.getDefaultSectionOrCreate(courseId) : student.getSection();
-        default:
-            assert false : "Unknown recipient type " + recipientType;
-            return null;
-        }
-    }
-
     /**
      * Gets the section of a recipient.
      */
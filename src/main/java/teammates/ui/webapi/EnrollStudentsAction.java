@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.SqlEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -12,6 +15,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
@@ -35,6 +39,8 @@ import teammates.ui.request.StudentsEnrollRequest;
  */
 public class EnrollStudentsAction extends Action {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -84,55 +90,29 @@ public class EnrollStudentsAction extends Action {
                 throw new InvalidOperationException(e);
             }
 
-            List<Student> enrolledStudents = new ArrayList<>();
-            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
-            Set<String> existingStudentsEmail;
-
-            List<Student> existingStudents = sqlLogic.getStudentsForCourse(courseId);
-            existingStudentsEmail =
-                    existingStudents.stream().map(Student::getEmail).collect(Collectors.toSet());
+            SqlEnrollmentResult enrollmentResult;
+            try {
+                enrollmentResult = sqlLogic.enrollStudents(course, studentsToEnroll);
+            } catch (InvalidParametersException e) {
+                // Should not happen as invalid students are not created
+                log.severe("Unexpected error", e);
+                return new JsonResult(e.getMessage(), HttpStatus.SC_INTERNAL_SERVER_ERROR);
+            }
 
-            for (StudentsEnrollRequest.StudentEnrollRequest enrollRequest : studentEnrollRequests) {
-                RequestTracer.checkRemainingTime();
-                if (existingStudentsEmail.contains(enrollRequest.getEmail())) {
-                    // The student has been enrolled in the course.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent.setId(sqlLogic.getStudentForEmail(courseId, enrollRequest.getEmail()).getId());
-                        Student updatedStudent = sqlLogic.updateStudentCascade(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourseId(), updatedStudent.getEmail());
-                        enrolledStudents.add(updatedStudent);
-                    } catch (InvalidParametersException | EntityDoesNotExistException
-                            | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                } else {
-                    // The student is new.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent = sqlLogic.createStudent(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                newStudent.getCourseId(), newStudent.getEmail());
-                        enrolledStudents.add(newStudent);
-                    } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                }
+            List<String> changedStudentsEmail = enrollmentResult.getChangedStudents()
+                    .stream()
+                    .map(Student::getEmail)
+                    .collect(Collectors.toList());
+            if (!changedStudentsEmail.isEmpty()) {
+                taskQueuer.scheduleStudentsForSearchIndexing(courseId, changedStudentsEmail);
             }
 
+            List<Student> enrolledStudents = enrollmentResult.getEnrolledStudents();
+            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
+            // Unsuccessfully enrolled students will not be returned.
+            enrollmentResult.getFailedEnrollments().forEach((email, errorMessage) ->
+                    failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(email, errorMessage)));
+
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
                     .map(StudentData::new)
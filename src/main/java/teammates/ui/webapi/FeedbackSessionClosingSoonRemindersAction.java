@@ -6,10 +6,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -31,9 +33,10 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session);
+            FeedbackSessionEmailBatch emailBatch =
+                    sqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_CLOSING_SOON);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchForSending(emailBatch);
                 session.setClosingSoonEmailSent(true);
             } catch (Exception e) {
                 log.severe("Unexpected error", e);
@@ -72,8 +75,11 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
     private void executeForDatastoreFeedbackSessions() {
         List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsClosingWithinTimeLimit();
 
+        Map<String, Boolean> courseMigrationStatuses = areCoursesMigrated(sessions.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toList()));
         for (FeedbackSessionAttributes session : sessions) {
-            if (isCourseMigrated(session.getCourseId())) {
+            if (courseMigrationStatuses.get(session.getCourseId())) {
                 continue;
             }
 
@@ -100,9 +106,12 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
                         .collect(Collectors.groupingBy(de -> de.getCourseId() + "%" + de.getFeedbackSessionName()))
                         .values();
 
+        Map<String, Boolean> courseMigrationStatuses = areCoursesMigrated(groupedDeadlineExtensionsAttributes.stream()
+                .map(deadlineExtensions -> deadlineExtensions.get(0).getCourseId())
+                .collect(Collectors.toList()));
         for (var deadlineExtensions : groupedDeadlineExtensionsAttributes) {
             String courseId = deadlineExtensions.get(0).getCourseId();
-            if (isCourseMigrated(courseId)) {
+            if (courseMigrationStatuses.get(courseId)) {
                 continue;
             }
 
@@ -1,8 +1,12 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -19,9 +23,12 @@ public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
     public JsonResult execute() {
         List<FeedbackSessionAttributes> sessionAttributes = logic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
 
+        Map<String, Boolean> courseMigrationStatuses = areCoursesMigrated(sessionAttributes.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toList()));
         for (FeedbackSessionAttributes session : sessionAttributes) {
             // If course has been migrated, use sql email logic instead.
-            if (isCourseMigrated(session.getCourseId())) {
+            if (courseMigrationStatuses.get(session.getCourseId())) {
                 continue;
             }
 
@@ -43,9 +50,10 @@ public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpenedEmails(session);
+            FeedbackSessionEmailBatch emailBatch =
+                    sqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_OPENED);
             try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+                taskQueuer.scheduleEmailBatchForSending(emailBatch);
                 session.setOpenedEmailSent(true);
             } catch (Exception e) {
                 log.severe("Unexpected error", e);
@@ -2,8 +2,10 @@ package teammates.ui.webapi;
 
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackSession;
@@ -47,9 +49,10 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
                     + " for course: " + courseId + " could not be fetched.");
             return new JsonResult("Failure");
         }
-        List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionPublishedEmails(session);
+        FeedbackSessionEmailBatch emailBatch =
+                sqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_PUBLISHED);
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleEmailBatchForSending(emailBatch);
             session.setPublishedEmailSent(true);
             sqlLogic.adjustFeedbackSessionEmailStatusAfterUpdate(session);
         } catch (Exception e) {
@@ -1,6 +1,8 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.RequestTracer;
@@ -15,9 +17,12 @@ public class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
     public JsonResult execute() {
         List<FeedbackSessionAttributes> sessionAttributes =
                 logic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
+        Map<String, Boolean> courseMigrationStatuses = areCoursesMigrated(sessionAttributes.stream()
+                .map(FeedbackSessionAttributes::getCourseId)
+                .collect(Collectors.toList()));
         for (FeedbackSessionAttributes session : sessionAttributes) {
             // If course has been migrated, use sql email logic instead.
-            if (isCourseMigrated(session.getCourseId())) {
+            if (courseMigrationStatuses.get(session.getCourseId())) {
                 continue;
             }
 
@@ -2,8 +2,10 @@ package teammates.ui.webapi;
 
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackSession;
@@ -48,9 +50,10 @@ public class FeedbackSessionUnpublishedEmailWorkerAction extends AdminOnlyAction
             return new JsonResult("Failure");
         }
 
-        List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionUnpublishedEmails(session);
+        FeedbackSessionEmailBatch emailBatch =
+                sqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_UNPUBLISHED);
         try {
-            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            taskQueuer.scheduleEmailBatchForSending(emailBatch);
 
             session.setPublishedEmailSent(false);
             sqlLogic.adjustFeedbackSessionEmailStatusAfterUpdate(session);
@@ -85,9 +85,12 @@ public class GetOngoingSessionsAction extends AdminOnlyAction {
     private Map<String, List<FeedbackSession>> createCourseIdToFeedbackSessionsSqlMap(
             List<FeedbackSession> ongoingSqlSessions) {
         Map<String, List<FeedbackSession>> courseIdToFeedbackSessionsSqlMap = new HashMap<>();
+        Map<String, Boolean> courseMigrationStatuses = areCoursesMigrated(ongoingSqlSessions.stream()
+                .map(fs -> fs.getCourse().getId())
+                .collect(Collectors.toList()));
         for (FeedbackSession fs : ongoingSqlSessions) {
             String courseId = fs.getCourse().getId();
-            if (!isCourseMigrated(courseId)) {
+            if (!courseMigrationStatuses.get(courseId)) {
                 continue;
             }
             courseIdToFeedbackSessionsSqlMap.computeIfAbsent(courseId, k -> new ArrayList<>()).add(fs);
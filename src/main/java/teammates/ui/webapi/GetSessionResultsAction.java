@@ -124,23 +124,28 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
 
+        // Statistics are only calculated when requested, as most of them are calculated in the front-end
+        boolean isStatisticsIncluded =
+                "true".equals(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_INCLUDE_STATISTICS));
+
         if (isCourseMigrated(courseId)) {
             if (questionId != null) {
                 UUID questionUuid = getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
                 return executeWithSql(courseId, feedbackSessionName, questionUuid,
-                        selectedSection, fetchType, intent, isPreviewResults);
+                        selectedSection, fetchType, intent, isPreviewResults, isStatisticsIncluded);
             }
             return executeWithSql(courseId, feedbackSessionName, null, selectedSection,
-                    fetchType, intent, isPreviewResults);
+                    fetchType, intent, isPreviewResults, isStatisticsIncluded);
         } else {
             return executeWithDatastore(courseId, feedbackSessionName, questionId, selectedSection,
-                    fetchType, intent, isPreviewResults);
+                    fetchType, intent, isPreviewResults, isStatisticsIncluded);
         }
     }
 
     private JsonResult executeWithDatastore(
             String courseId, String feedbackSessionName, String questionId, String selectedSection,
-            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults) {
+            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults,
+            boolean isStatisticsIncluded) {
         InstructorAttributes instructor;
         StudentAttributes student;
         SessionResultsBundle bundle;
@@ -150,7 +155,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
             bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
                     questionId, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            return new JsonResult(SessionResultsData.initForInstructor(bundle, isStatisticsIncluded));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getInstructorOfCourseFromRequest(courseId);
@@ -163,7 +168,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
                     .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
                     .build();
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new JsonResult(SessionResultsData.initForStudent(bundle, student, isStatisticsIncluded));
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getStudentOfCourseFromRequest(courseId);
@@ -171,7 +176,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, student.getEmail(),
                     false, questionId, isPreviewResults);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new JsonResult(SessionResultsData.initForStudent(bundle, student, isStatisticsIncluded));
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -182,7 +187,8 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
     private JsonResult executeWithSql(
             String courseId, String feedbackSessionName, UUID questionUuid, String selectedSection,
-            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults) {
+            FeedbackResultFetchType fetchType, Intent intent, boolean isPreviewResults,
+            boolean isStatisticsIncluded) {
         Instructor instructor;
         Student student;
         FeedbackSession feedbackSession = getNonNullSqlFeedbackSession(feedbackSessionName, courseId);
@@ -193,7 +199,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
             bundle = sqlLogic.getSessionResultsForCourse(feedbackSession, courseId, instructor.getEmail(),
                     questionUuid, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            return new JsonResult(SessionResultsData.initForInstructor(bundle, isStatisticsIncluded));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getSqlInstructorOfCourseFromRequest(courseId);
@@ -205,7 +211,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             student = new Student(instructor.getCourse(), instructor.getName(), instructor.getEmail(), "");
             student.setTeam(new Team(null, Const.USER_TEAM_FOR_INSTRUCTOR));
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new JsonResult(SessionResultsData.initForStudent(bundle, student, isStatisticsIncluded));
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getSqlStudentOfCourseFromRequest(courseId);
@@ -213,7 +219,7 @@ public class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             bundle = sqlLogic.getSessionResultsForUser(feedbackSession, courseId, student.getEmail(),
                     false, questionUuid, isPreviewResults);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new JsonResult(SessionResultsData.initForStudent(bundle, student, isStatisticsIncluded));
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -1,20 +1,37 @@
 package teammates.ui.webapi;
 
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.request.SendEmailRequest;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends queued email, or renders and sends a queued batch of feedback session emails.
  */
 public class SendEmailWorkerAction extends AdminOnlyAction {
 
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public boolean isTransactionNeeded() {
+        // The emails of a batch are rendered in a transaction of their own,
+        // so that no database connection is held while they are sent
+        return false;
+    }
+
     @Override
     public JsonResult execute() throws InvalidHttpRequestBodyException {
         SendEmailRequest emailRequest = getAndValidateRequestBody(SendEmailRequest.class);
+        if (emailRequest.getEmailBatch() != null) {
+            return sendEmailBatch(emailRequest.getEmailBatch());
+        }
+
         EmailWrapper email = emailRequest.getEmail();
         EmailSendingStatus status = emailSender.sendEmail(email);
         if (!status.isSuccess()) {
@@ -24,4 +41,35 @@ public class SendEmailWorkerAction extends AdminOnlyAction {
         return new JsonResult("Successful");
     }
 
+    private JsonResult sendEmailBatch(FeedbackSessionEmailBatch emailBatch) {
+        List<EmailWrapper> emails = sqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(emailBatch);
+        if (emails == null) {
+            log.severe("Feedback session object for feedback session name: " + emailBatch.getFeedbackSessionName()
+                    + " for course: " + emailBatch.getCourseId() + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+
+        boolean isAnyEmailSent = false;
+        for (int i = 0; i < emails.size(); i++) {
+            EmailWrapper email = emails.get(i);
+            if (email == null) {
+                // the recipient is no longer to be sent the email
+                continue;
+            }
+            EmailSendingStatus status = emailSender.sendEmail(email);
+            if (!status.isSuccess()) {
+                if (!isAnyEmailSent) {
+                    // Nothing is sent yet, so Cloud Tasks can retry the whole task as usual
+                    return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+                }
+                // The emails from the failed one onwards are sent again in a new task,
+                // so that retrying them does not send the emails which are already sent again
+                taskQueuer.scheduleEmailBatchForRetry(emailBatch.skip(i));
+                return new JsonResult("Partially successful");
+            }
+            isAnyEmailSent = true;
+        }
+        return new JsonResult("Successful");
+    }
+
 }
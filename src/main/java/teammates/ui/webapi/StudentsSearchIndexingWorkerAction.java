@@ -0,0 +1,32 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.exception.SearchServiceException;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+
+/**
+ * Task queue worker action: performs search indexing for a group of students of the same course.
+ */
+public class StudentsSearchIndexingWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public ActionResult execute() throws InvalidHttpRequestBodyException {
+        StudentsSearchIndexingRequest indexingRequest = getAndValidateRequestBody(StudentsSearchIndexingRequest.class);
+
+        List<Student> students = sqlLogic.getStudentsForEmails(
+                indexingRequest.getCourseId(), indexingRequest.getStudentEmails());
+        try {
+            sqlLogic.putStudentDocuments(students);
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        return new JsonResult("Successful");
+    }
+}
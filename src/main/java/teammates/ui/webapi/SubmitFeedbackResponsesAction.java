@@ -232,15 +232,15 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         List<FeedbackResponse> feedbackResponsesToAdd = new ArrayList<>();
         List<FeedbackResponse> feedbackResponsesToUpdate = new ArrayList<>();
 
+        Map<String, Section> recipientSections =
+                sqlLogic.getRecipientSections(feedbackQuestion, submitRequest.getRecipients());
+
         submitRequest.getResponses().forEach(responseRequest -> {
             String recipient = responseRequest.getRecipient();
             FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
+            Section recipientSection = recipientSections.get(recipient);
 
             if (existingResponsesPerRecipient.containsKey(recipient)) {
-                Section recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-
                 FeedbackResponse existingFeedbackResponse = existingResponsesPerRecipient.get(recipient);
                 FeedbackResponse updatedFeedbackResponse = FeedbackResponse.updateResponse(
                         existingFeedbackResponse,
@@ -259,9 +259,7 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
                         giverIdentifier,
                         giverSection,
                         recipient,
-                        getRecipientSection(feedbackQuestion.getCourseId(),
-                            feedbackQuestion.getGiverType(),
-                            feedbackQuestion.getRecipientType(), recipient),
+                        recipientSection,
                         responseDetails
                     );
 
@@ -299,23 +297,11 @@ public class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction
         }
 
         List<FeedbackResponse> output = new ArrayList<>();
-
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(sqlLogic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
-
-        for (FeedbackResponse feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(sqlLogic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
+        try {
+            output = sqlLogic.upsertFeedbackResponsesCascade(feedbackResponsesToAdd, feedbackResponsesToUpdate);
+        } catch (InvalidParametersException | EntityDoesNotExistException e) {
+            // None of the exceptions should be happening as the responses have been pre-validated
+            log.severe("Encountered exception when saving responses: " + e.getMessage(), e);
         }
 
         return new JsonResult(FeedbackResponsesData.createFromEntity(output));
@@ -7,9 +7,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackSessionLogEntry;
-import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.logs.FeedbackSessionLogType;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
@@ -37,14 +37,11 @@ public class UpdateFeedbackSessionLogsAction extends AdminOnlyAction {
                 startTime.toEpochMilli(), endTime.toEpochMilli(), null);
 
         Map<UUID, Map<String, Map<UUID, Map<String, Long>>>> lastSavedTimestamps = new HashMap<>();
-        Map<String, Boolean> isCourseMigratedMap = new HashMap<>();
+        Map<String, Boolean> isCourseMigratedMap = areCoursesMigrated(logEntries.stream()
+                .map(FeedbackSessionLogEntry::getCourseId)
+                .collect(Collectors.toList()));
         for (FeedbackSessionLogEntry logEntry : logEntries) {
 
-            isCourseMigratedMap.computeIfAbsent(logEntry.getCourseId(), k -> {
-                CourseAttributes course = logic.getCourse(logEntry.getCourseId());
-                return course == null || course.isMigrated();
-            });
-
             if (!isCourseMigratedMap.get(logEntry.getCourseId())) {
                 continue;
             }
@@ -0,0 +1,103 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailType;
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackSessionEmailBatch}.
+ */
+public class FeedbackSessionEmailBatchTest extends BaseTestCase {
+
+    private final UUID user1 = UUID.randomUUID();
+    private final UUID user2 = UUID.randomUUID();
+    private final UUID user3 = UUID.randomUUID();
+    private final UUID copyRecipient1 = UUID.randomUUID();
+    private final UUID copyRecipient2 = UUID.randomUUID();
+
+    private FeedbackSessionEmailBatch getBatch(List<UUID> userIds, List<UUID> copyRecipientIds) {
+        return new FeedbackSessionEmailBatch("course-id", "session-name", EmailType.FEEDBACK_OPENED,
+                userIds, copyRecipientIds);
+    }
+
+    @Test
+    public void testSplit() {
+        FeedbackSessionEmailBatch emailBatch =
+                getBatch(List.of(user1, user2, user3), List.of(copyRecipient1, copyRecipient2));
+        assertEquals(5, emailBatch.size());
+
+        List<FeedbackSessionEmailBatch> batches = emailBatch.split(2);
+
+        assertEquals(3, batches.size());
+        assertEquals(List.of(user1, user2), batches.get(0).getUserIds());
+        assertEquals(List.of(), batches.get(0).getCopyRecipientIds());
+        assertEquals(List.of(user3), batches.get(1).getUserIds());
+        assertEquals(List.of(copyRecipient1), batches.get(1).getCopyRecipientIds());
+        assertEquals(List.of(), batches.get(2).getUserIds());
+        assertEquals(List.of(copyRecipient2), batches.get(2).getCopyRecipientIds());
+        for (FeedbackSessionEmailBatch batch : batches) {
+            assertEquals("course-id", batch.getCourseId());
+            assertEquals("session-name", batch.getFeedbackSessionName());
+            assertEquals(EmailType.FEEDBACK_OPENED, batch.getEmailType());
+        }
+
+        ______TS("batch within maximum size is not split");
+
+        batches = emailBatch.split(5);
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of(user1, user2, user3), batches.get(0).getUserIds());
+        assertEquals(List.of(copyRecipient1, copyRecipient2), batches.get(0).getCopyRecipientIds());
+
+        ______TS("empty batch");
+
+        assertTrue(getBatch(List.of(), List.of()).split(2).isEmpty());
+    }
+
+    @Test
+    public void testSkip() {
+        FeedbackSessionEmailBatch emailBatch =
+                getBatch(List.of(user1, user2, user3), List.of(copyRecipient1, copyRecipient2));
+
+        FeedbackSessionEmailBatch remainingBatch = emailBatch.skip(2);
+
+        assertEquals(List.of(user3), remainingBatch.getUserIds());
+        assertEquals(List.of(copyRecipient1, copyRecipient2), remainingBatch.getCopyRecipientIds());
+        assertEquals("course-id", remainingBatch.getCourseId());
+        assertEquals("session-name", remainingBatch.getFeedbackSessionName());
+        assertEquals(EmailType.FEEDBACK_OPENED, remainingBatch.getEmailType());
+
+        ______TS("skip into copy recipients");
+
+        remainingBatch = emailBatch.skip(4);
+
+        assertEquals(List.of(), remainingBatch.getUserIds());
+        assertEquals(List.of(copyRecipient2), remainingBatch.getCopyRecipientIds());
+
+        ______TS("skip none or all");
+
+        assertEquals(5, emailBatch.skip(0).size());
+        assertEquals(0, emailBatch.skip(5).size());
+        assertEquals(0, emailBatch.skip(6).size());
+    }
+
+    @Test
+    public void testSerialization() {
+        FeedbackSessionEmailBatch emailBatch = getBatch(List.of(user1, user2), List.of(copyRecipient1));
+
+        FeedbackSessionEmailBatch deserialized = JsonUtils.fromJson(
+                JsonUtils.toCompactJson(emailBatch), FeedbackSessionEmailBatch.class);
+
+        assertEquals("course-id", deserialized.getCourseId());
+        assertEquals("session-name", deserialized.getFeedbackSessionName());
+        assertEquals(EmailType.FEEDBACK_OPENED, deserialized.getEmailType());
+        assertEquals(List.of(user1, user2), deserialized.getUserIds());
+        assertEquals(List.of(copyRecipient1), deserialized.getCopyRecipientIds());
+    }
+
+}
@@ -1,8 +1,12 @@
 package teammates.common.datatransfer;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -287,6 +291,90 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilege_compiledPrivileges_sameAsPrivilegeMaps() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        String[] sectionNames = { "section1", "section2", "section3" };
+        String[] sessionNames = { "session1", "session2" };
+        String[] privilegeNames = {
+                Const.InstructorPermissions.CAN_MODIFY_COURSE,
+                Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS,
+        };
+
+        ______TS("no overrides");
+
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        ______TS("compiled privileges are updated together with the privileges");
+
+        privileges.updatePrivilege(Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        privileges.updatePrivilege("section1", Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        privileges.updatePrivilege("section2", "session1",
+                Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS, true);
+        privileges.updatePrivilege("section2", "session1",
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        privileges.validatePrivileges();
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        privileges.setDefaultPrivilegesForCoowner();
+        verifyCompiledPrivilegesSameAsPrivilegeMaps(privileges, sectionNames, sessionNames, privilegeNames);
+
+        ______TS("compiled privileges are not serialized");
+
+        assertEquals(privileges, JsonUtils.fromJson(JsonUtils.toJson(privileges), InstructorPrivileges.class));
+        assertFalse(JsonUtils.toJson(privileges).contains("compiled"));
+    }
+
+    /**
+     * Verifies the privilege checks against the privileges resolved by walking the privilege maps.
+     */
+    private void verifyCompiledPrivilegesSameAsPrivilegeMaps(InstructorPrivileges privileges,
+            String[] sectionNames, String[] sessionNames, String[] privilegeNames) {
+        InstructorPermissionSet courseLevel = privileges.getCourseLevelPrivileges();
+        Map<String, InstructorPermissionSet> sectionLevel = privileges.getSectionLevelPrivileges();
+        Map<String, Map<String, InstructorPermissionSet>> sessionLevel = privileges.getSessionLevelPrivileges();
+
+        for (String privilegeName : privilegeNames) {
+            assertEquals(courseLevel.get(privilegeName), privileges.isAllowedForPrivilege(privilegeName));
+
+            for (String sectionName : sectionNames) {
+                boolean isAllowedInSection = sectionLevel.getOrDefault(sectionName, courseLevel).get(privilegeName);
+                assertEquals(isAllowedInSection, privileges.isAllowedForPrivilege(sectionName, privilegeName));
+
+                for (String sessionName : sessionNames) {
+                    InstructorPermissionSet sessionPermissions =
+                            sessionLevel.getOrDefault(sectionName, new HashMap<>()).get(sessionName);
+                    boolean isAllowedInSession = sessionPermissions == null
+                            ? isAllowedInSection : sessionPermissions.get(privilegeName);
+                    assertEquals(isAllowedInSession,
+                            privileges.isAllowedForPrivilege(sectionName, sessionName, privilegeName));
+                }
+            }
+
+            for (String sessionName : sessionNames) {
+                boolean isAllowedInAnySection = false;
+                for (String sectionName : sectionNames) {
+                    if (!sectionLevel.containsKey(sectionName) && !sessionLevel.containsKey(sectionName)) {
+                        continue;
+                    }
+                    isAllowedInAnySection |= privileges.isAllowedForPrivilege(sectionName, sessionName, privilegeName);
+                }
+                assertEquals(isAllowedInAnySection,
+                        privileges.isAllowedForPrivilegeAnySection(sessionName, privilegeName));
+            }
+        }
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
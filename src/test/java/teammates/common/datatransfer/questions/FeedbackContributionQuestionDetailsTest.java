@@ -14,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -133,8 +134,8 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
                 + "      ]\n"
                 + "    }\n"
                 + "  }\n"
-                + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa,
-                        "student1InCourse1@gmail.tmt", bundle));
+                + "}", JsonUtils.toJson(feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa,
+                        "student1InCourse1@gmail.tmt", bundle)));
 
         ______TS("(student email specified): mix of students with responses and students without responses");
         fqa = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
@@ -153,15 +154,15 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
                 + "      ]\n"
                 + "    }\n"
                 + "  }\n"
-                + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa,
-                "student5InCourse1@gmail.tmt", bundle));
+                + "}", JsonUtils.toJson(feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa,
+                "student5InCourse1@gmail.tmt", bundle)));
 
         ______TS("(student email specified): all students do not have responses");
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
         assertEquals("{\n"
                 + "  \"results\": {}\n"
-                + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa,
-                "student8InCourse1@gmail.tmt", bundle));
+                + "}", JsonUtils.toJson(feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa,
+                "student8InCourse1@gmail.tmt", bundle)));
 
         ______TS("(student email not specified): qn1");
         fqa = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
@@ -260,7 +261,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
                 + "      ]\n"
                 + "    }\n"
                 + "  }\n"
-                + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa, null, bundle));
+                + "}", JsonUtils.toJson(feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa, null, bundle)));
 
         ______TS("(student email not specified): qn2");
         fqa = responseBundle.feedbackQuestions.get("qn2InSession1InCourse1");
@@ -359,7 +360,8 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
                         + "      ]\n"
                         + "    }\n"
                         + "  }\n"
-                        + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa, null, bundle));
+                        + "}", JsonUtils.toJson(
+                                feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa, null, bundle)));
 
         ______TS("(student email not specified): qn3");
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
@@ -458,7 +460,7 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
                 + "      ]\n"
                 + "    }\n"
                 + "  }\n"
-                + "}", feedbackContributionQuestionDetails.getQuestionResultStatisticsJson(fqa, null, bundle));
+                + "}", JsonUtils.toJson(feedbackContributionQuestionDetails.getQuestionResultStatistics(fqa, null, bundle)));
 
     }
 
@@ -1,10 +1,18 @@
 package teammates.common.util;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.JsonSyntaxException;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -104,4 +112,45 @@ public class JsonUtilsTest extends BaseTestCase {
                 + "\"recipientSection\":\"recipientSection\"}",
                 JsonUtils.toCompactJson(fra));
     }
+
+    @Test
+    public void testGetTopLevelStringMember() {
+        String json = "{\"nested\":{\"questionType\":\"MCQ\"},\"answer\":\"\\\"questionType\\\":\\\"MSQ\\\"\","
+                + "\"questionType\":\"TEXT\"}";
+
+        ______TS("member after nested members of the same name");
+        assertEquals("TEXT", JsonUtils.getTopLevelStringMember(json, "questionType"));
+
+        ______TS("pretty-printed JSON");
+        assertEquals("TEXT", JsonUtils.getTopLevelStringMember(JsonUtils.toJson(JsonUtils.parse(json)), "questionType"));
+
+        ______TS("missing or non-string member");
+        assertNull(JsonUtils.getTopLevelStringMember(json, "missing"));
+        assertNull(JsonUtils.getTopLevelStringMember(json, "nested"));
+
+        ______TS("malformed JSON");
+        assertThrows(JsonSyntaxException.class, () -> JsonUtils.getTopLevelStringMember("[\"TEXT\"]", "questionType"));
+    }
+
+    @Test
+    public void testTimeAdapters_concurrentUse_shouldRoundTripCorrectly() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Instant instant = Instant.ofEpochSecond(1_700_000_000L + i);
+                ZoneId zoneId = i % 2 == 0 ? ZoneId.of("UTC") : ZoneId.of("Asia/Singapore");
+                Duration duration = Duration.ofMinutes(i);
+                results.add(executor.submit(() ->
+                        instant.equals(JsonUtils.fromJson(JsonUtils.toCompactJson(instant), Instant.class))
+                                && zoneId.equals(JsonUtils.fromJson(JsonUtils.toJson(zoneId, ZoneId.class), ZoneId.class))
+                                && duration.equals(JsonUtils.fromJson(JsonUtils.toCompactJson(duration), Duration.class))));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
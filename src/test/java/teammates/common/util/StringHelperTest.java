@@ -2,6 +2,9 @@ package teammates.common.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.crypto.Cipher;
 import javax.crypto.Mac;
@@ -138,6 +141,45 @@ public class StringHelperTest extends BaseTestCase {
         }
     }
 
+    @Test
+    public void testKeyEncryption_repeatedAndConcurrentCalls_shouldMatchFreshInstances() throws Exception {
+        ______TS("reused instances give the same results as freshly initialized instances");
+
+        for (int i = 0; i < 3; i++) {
+            String msg = "student" + i + "@example.com%course";
+            String encryptedMsg = StringHelper.encrypt(msg);
+            assertEquals(encryptWithoutSpecifyingAlgorithmParams(msg), encryptedMsg);
+            assertEquals(msg, StringHelper.decrypt(encryptedMsg));
+            assertEquals(generateSignature(msg), StringHelper.generateSignature(msg));
+        }
+
+        ______TS("instances remain usable after failed decryption");
+
+        String validCiphertext = StringHelper.encrypt("Test decryption");
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt("AAAAAAAAAABBBBBBBBBBCCCCCCCCCC"));
+        assertEquals("Test decryption", StringHelper.decrypt(validCiphertext));
+
+        ______TS("concurrent calls from multiple threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String msg = "concurrent" + i;
+                String expectedCiphertext = encryptWithoutSpecifyingAlgorithmParams(msg);
+                String expectedSignature = generateSignature(msg);
+                results.add(executor.submit(() -> expectedCiphertext.equals(StringHelper.encrypt(msg))
+                        && msg.equals(StringHelper.decrypt(expectedCiphertext))
+                        && expectedSignature.equals(StringHelper.generateSignature(msg))));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testRemoveExtraSpace() {
 
@@ -0,0 +1,129 @@
+package teammates.common.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.CompiledTemplate;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{[A-Za-z0-9]+\\}");
+
+    @Test
+    public void testPopulateTemplate_placeholders_populatedInSinglePass() {
+        String template = "Hello ${userName}, ${courseName} ${courseName}${missing}.";
+
+        assertEquals("Hello Alice, CS101 CS101${missing}.", Templates.populateTemplate(template,
+                "${userName}", "Alice",
+                "${courseName}", "CS101"));
+
+        ______TS("placeholder in value is populated by later pairs only");
+
+        assertEquals("Hello CS101 ${userName}, CS101 CS101${missing}.", Templates.populateTemplate(template,
+                "${userName}", "${courseName} ${userName}",
+                "${courseName}", "CS101"));
+        assertEquals("Hello Alice, Alice Alice${missing}.", Templates.populateTemplate(template,
+                "${courseName}", "${userName}",
+                "${userName}", "Alice"));
+
+        ______TS("first value of duplicated placeholder is used");
+
+        assertEquals("Hello Alice, ${courseName} ${courseName}${missing}.", Templates.populateTemplate(template,
+                "${userName}", "Alice",
+                "${userName}", "Bob"));
+
+        ______TS("incomplete placeholders are kept as literal text");
+
+        assertEquals("$${a} ${} ${a b} ${a", Templates.populateTemplate("$${a} ${} ${a b} ${a", "${a}", "${a}"));
+        assertEquals("$1 ${} ${a b} ${a", Templates.populateTemplate("$${a} ${} ${a b} ${a", "${a}", "1"));
+        assertEquals("", Templates.populateTemplate("", "${a}", "1"));
+        assertEquals("no placeholder", Templates.populateTemplate("no placeholder"));
+    }
+
+    @Test
+    public void testPopulateTemplate_otherKeys_replacedOneAfterAnother() {
+        assertEquals("Bob and Bob, ${userName}", Templates.populateTemplate("alice and Bob, ${userName}",
+                "alice", "Bob"));
+        assertEquals("Carol and Carol", Templates.populateTemplate("alice and Bob",
+                "${userName}", "ignored",
+                "alice", "Bob",
+                "Bob", "Carol"));
+    }
+
+    @Test
+    public void testPopulateTemplate_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class,
+                () -> Templates.populateTemplate("${userName}", "${userName}", null));
+    }
+
+    @Test
+    public void testPopulatePartially_placeholdersInValues_keptAsLiteralText() {
+        CompiledTemplate template = CompiledTemplate.compile("Hi ${userName}, ${courseName}: ${instructions} ${link}");
+
+        CompiledTemplate emailBase = template.populatePartially(
+                "${courseName}", "CS101 ${userName}",
+                "${instructions}", "Reply to ${userName} at ${link} ${courseName}");
+
+        assertEquals("Hi Alice, CS101 ${userName}: Reply to ${userName} at ${link} ${courseName} url",
+                emailBase.populate("${userName}", "Alice", "${link}", "url"));
+
+        ______TS("values are populated as in a full population");
+
+        assertEquals("Hi ${userName}, CS101: CS101 ${link}", template.populatePartially(
+                "${instructions}", "${courseName}",
+                "${courseName}", "CS101").populate());
+
+        ______TS("nothing populated");
+
+        assertEquals(template.populate("${userName}", "Alice"),
+                template.populatePartially().populate("${userName}", "Alice"));
+        assertEquals("no placeholder", CompiledTemplate.compile("no placeholder").populatePartially("${a}", "1")
+                .populate());
+    }
+
+    @Test
+    public void testPopulateTemplate_emailTemplates_sameAsReplacingOneAfterAnother() throws Exception {
+        for (Field field : EmailTemplates.class.getFields()) {
+            String template = (String) field.get(null);
+            Set<String> placeholders = new LinkedHashSet<>();
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+            while (matcher.find()) {
+                placeholders.add(matcher.group());
+            }
+            assertFalse(field.getName() + " has no placeholder", placeholders.isEmpty());
+
+            List<String> keyValuePairs = new ArrayList<>();
+            for (String placeholder : placeholders) {
+                keyValuePairs.add(placeholder);
+                keyValuePairs.add("<b>" + placeholder.substring(2, placeholder.length() - 1) + " & ${userName}</b>");
+            }
+            String[] keyValuePairsArray = keyValuePairs.toArray(new String[0]);
+
+            assertEquals(field.getName(), replaceOneAfterAnother(template, keyValuePairsArray),
+                    Templates.populateTemplate(template, keyValuePairsArray));
+            assertEquals(field.getName(), replaceOneAfterAnother(template, keyValuePairsArray),
+                    CompiledTemplate.compile(template).populate(keyValuePairsArray));
+        }
+    }
+
+    private static String replaceOneAfterAnother(String template, String... keyValuePairs) {
+        String populatedTemplate = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return populatedTemplate;
+    }
+
+}
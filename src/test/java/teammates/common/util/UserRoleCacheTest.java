@@ -0,0 +1,118 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link UserRoleCache}.
+ */
+public class UserRoleCacheTest extends BaseTestCase {
+
+    private static final long TTL_MILLIS = 1000L;
+    private static final int MAX_SIZE = 2;
+
+    private final AtomicLong currentTime = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private UserRoleCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        currentTime.set(0L);
+        loadCount.set(0);
+        cache = new UserRoleCache(TTL_MILLIS, MAX_SIZE, currentTime::get);
+    }
+
+    private UserRoleCache.UserRoles load(boolean isInstructor, boolean isStudent) {
+        loadCount.incrementAndGet();
+        return new UserRoleCache.UserRoles(isInstructor, isStudent);
+    }
+
+    @Test
+    public void testGetOrLoad_warmLookup_servedFromCache() {
+        UserRoleCache.UserRoles roles = cache.getOrLoad("user", () -> load(true, false));
+        assertTrue(roles.isInstructor());
+        assertFalse(roles.isStudent());
+
+        roles = cache.getOrLoad("user", () -> load(false, true));
+        assertTrue(roles.isInstructor());
+        assertFalse(roles.isStudent());
+
+        assertEquals(1, loadCount.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetOrLoad_entryExpired_reloads() {
+        cache.getOrLoad("user", () -> load(false, false));
+
+        currentTime.set(TTL_MILLIS - 1);
+        assertFalse(cache.getOrLoad("user", () -> load(true, false)).isInstructor());
+
+        currentTime.set(TTL_MILLIS);
+        assertTrue(cache.getOrLoad("user", () -> load(true, false)).isInstructor());
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testGetOrLoad_exceedMaxSize_evictsLeastRecentlyUsed() {
+        cache.getOrLoad("user1", () -> load(false, false));
+        cache.getOrLoad("user2", () -> load(false, false));
+        cache.getOrLoad("user1", () -> load(false, false));
+        cache.getOrLoad("user3", () -> load(false, false));
+        assertEquals(3, loadCount.get());
+
+        ______TS("recently used entry is kept");
+
+        cache.getOrLoad("user1", () -> load(false, false));
+        assertEquals(3, loadCount.get());
+
+        ______TS("least recently used entry is evicted");
+
+        cache.getOrLoad("user2", () -> load(false, false));
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.getOrLoad("user1", () -> load(false, false));
+        cache.getOrLoad("user2", () -> load(false, false));
+
+        ______TS("invalidate single user");
+
+        cache.invalidate("user1");
+        assertTrue(cache.getOrLoad("user1", () -> load(true, false)).isInstructor());
+        assertFalse(cache.getOrLoad("user2", () -> load(true, false)).isInstructor());
+        assertEquals(3, loadCount.get());
+
+        ______TS("null google ID is ignored");
+
+        cache.invalidate(null);
+        assertTrue(cache.getOrLoad("user1", () -> load(false, false)).isInstructor());
+
+        ______TS("invalidate all users");
+
+        cache.invalidateAll();
+        assertFalse(cache.getOrLoad("user1", () -> load(false, true)).isInstructor());
+        assertTrue(cache.getOrLoad("user2", () -> load(false, true)).isStudent());
+        assertEquals(5, loadCount.get());
+    }
+
+    @Test
+    public void testGetOrLoad_invalidatedDuringLoad_loadedRolesNotCached() {
+        cache.getOrLoad("user", () -> {
+            cache.invalidate("user");
+            return load(false, false);
+        });
+
+        assertTrue(cache.getOrLoad("user", () -> load(true, false)).isInstructor());
+        assertEquals(2, loadCount.get());
+    }
+
+}
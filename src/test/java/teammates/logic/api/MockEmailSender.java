@@ -18,10 +18,11 @@ public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
     private boolean shouldFail;
+    private String failingRecipient;
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper email) {
-        if (shouldFail) {
+        if (shouldFail || failingRecipient != null && failingRecipient.equals(email.getRecipient())) {
             return new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, null);
         }
 
@@ -38,6 +39,15 @@ public class MockEmailSender extends EmailSender {
         this.shouldFail = shouldFail;
     }
 
+    /**
+     * Sets email sending to fail only for the given recipient.
+     *
+     * @param failingRecipient the address of the recipient, or null if email sending should not fail for anyone.
+     */
+    public void setFailingRecipient(String failingRecipient) {
+        this.failingRecipient = failingRecipient;
+    }
+
     /**
      * Gets the emails sent.
      */
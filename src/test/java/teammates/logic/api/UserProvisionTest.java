@@ -7,6 +7,7 @@ import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Config;
+import teammates.common.util.UserRoleCache;
 
 /**
  * SUT: {@link UserProvision}.
@@ -57,4 +58,35 @@ public class UserProvisionTest extends BaseLogicTest {
         assertNull(userProvision.getCurrentUser(null));
     }
 
+    @Test
+    public void testGetCurrentUser_warmRequest_rolesServedFromCache() {
+        UserRoleCache userRoleCache = UserRoleCache.inst();
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        userRoleCache.invalidate(instructor.getGoogleId());
+
+        ______TS("cold request: roles are looked up");
+
+        long hitCount = userRoleCache.getHitCount();
+        long missCount = userRoleCache.getMissCount();
+        UserInfo user = userProvision.getCurrentUser(new UserInfoCookie(instructor.getGoogleId()));
+        assertTrue(user.isInstructor);
+        assertEquals(hitCount, userRoleCache.getHitCount());
+        assertEquals(missCount + 1, userRoleCache.getMissCount());
+
+        ______TS("warm request: no lookup is done");
+
+        user = userProvision.getCurrentUser(new UserInfoCookie(instructor.getGoogleId()));
+        assertTrue(user.isInstructor);
+        assertEquals(hitCount + 1, userRoleCache.getHitCount());
+        assertEquals(missCount + 1, userRoleCache.getMissCount());
+
+        ______TS("roles are looked up again after invalidation");
+
+        userRoleCache.invalidate(instructor.getGoogleId());
+        user = userProvision.getCurrentUser(new UserInfoCookie(instructor.getGoogleId()));
+        assertTrue(user.isInstructor);
+        assertEquals(hitCount + 1, userRoleCache.getHitCount());
+        assertEquals(missCount + 2, userRoleCache.getMissCount());
+    }
+
 }
@@ -0,0 +1,183 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CourseMigrationStatusCache}.
+ */
+public class CourseMigrationStatusCacheTest extends BaseTestCase {
+
+    private static final long TTL_MILLIS = 1000L;
+    private static final int MAX_SIZE = 2;
+
+    private final AtomicLong currentTime = new AtomicLong();
+    private final List<List<String>> loadedCourseIds = new ArrayList<>();
+    private final Map<String, Boolean> storedStatuses = new HashMap<>();
+    private CourseMigrationStatusCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        currentTime.set(0L);
+        loadedCourseIds.clear();
+        storedStatuses.clear();
+        storedStatuses.put("migrated", true);
+        storedStatuses.put("not-migrated", false);
+        cache = new CourseMigrationStatusCache(TTL_MILLIS, MAX_SIZE, currentTime::get);
+    }
+
+    private Map<String, Boolean> load(List<String> courseIds) {
+        loadedCourseIds.add(courseIds);
+        Map<String, Boolean> statuses = new HashMap<>();
+        courseIds.forEach(courseId -> statuses.put(courseId, storedStatuses.get(courseId)));
+        return statuses;
+    }
+
+    private boolean get(String courseId) {
+        return cache.getAllOrLoad(List.of(courseId), this::load).get(courseId);
+    }
+
+    @Test
+    public void testGetAllOrLoad_warmLookup_servedFromCache() {
+        assertTrue(get("migrated"));
+        assertFalse(get("not-migrated"));
+
+        storedStatuses.put("not-migrated", true);
+        assertTrue(get("migrated"));
+        assertFalse(get("not-migrated"));
+
+        assertEquals(2, loadedCourseIds.size());
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetAllOrLoad_multipleCourses_missesLoadedTogether() {
+        get("migrated");
+
+        Map<String, Boolean> statuses = cache.getAllOrLoad(
+                List.of("migrated", "not-migrated", "unknown", "not-migrated"), this::load);
+
+        assertEquals(Map.of("migrated", true, "not-migrated", false, "unknown", false), statuses);
+        assertEquals(List.of(List.of("migrated"), List.of("not-migrated", "unknown")), loadedCourseIds);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(3L, cache.getMissCount());
+
+        ______TS("all courses cached; loader not called");
+
+        cache.getAllOrLoad(List.of("not-migrated", "unknown"), courseIds -> {
+            throw new AssertionError("Loader should not be called");
+        });
+        assertEquals(2, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testGetAllOrLoad_entryExpired_reloads() {
+        get("not-migrated");
+        storedStatuses.put("not-migrated", true);
+
+        currentTime.set(TTL_MILLIS - 1);
+        assertFalse(get("not-migrated"));
+
+        currentTime.set(TTL_MILLIS);
+        assertTrue(get("not-migrated"));
+
+        assertEquals(2, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testGetAllOrLoad_exceedMaxSize_evictsLeastRecentlyUsed() {
+        get("course1");
+        get("course2");
+        get("course1");
+        get("course3");
+        assertEquals(3, loadedCourseIds.size());
+
+        ______TS("recently used entry is kept");
+
+        get("course1");
+        assertEquals(3, loadedCourseIds.size());
+
+        ______TS("least recently used entry is evicted");
+
+        get("course2");
+        assertEquals(4, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testLoadAll_cachedEntries_bypassedAndRefreshed() {
+        assertFalse(get("not-migrated"));
+
+        ______TS("course flipped outside this instance; cached status is stale");
+
+        storedStatuses.put("not-migrated", true);
+        assertFalse(get("not-migrated"));
+        assertEquals(1, loadedCourseIds.size());
+
+        ______TS("write path loads the status regardless of the cache");
+
+        Map<String, Boolean> statuses = cache.loadAll(List.of("not-migrated", "migrated"), this::load);
+        assertEquals(Map.of("not-migrated", true, "migrated", true), statuses);
+        assertEquals(List.of("not-migrated", "migrated"), loadedCourseIds.get(1));
+
+        ______TS("loaded statuses refresh the cached entries");
+
+        assertTrue(get("not-migrated"));
+        assertTrue(get("migrated"));
+        assertEquals(2, loadedCourseIds.size());
+
+        ______TS("no courses to load");
+
+        assertTrue(cache.loadAll(List.of(), this::load).isEmpty());
+        assertEquals(2, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testInvalidate() {
+        get("migrated");
+        get("not-migrated");
+        storedStatuses.put("not-migrated", true);
+
+        ______TS("invalidate single course");
+
+        cache.invalidate("not-migrated");
+        assertTrue(get("not-migrated"));
+        get("migrated");
+        assertEquals(3, loadedCourseIds.size());
+
+        ______TS("null course ID is ignored");
+
+        cache.invalidate(null);
+        get("migrated");
+        assertEquals(3, loadedCourseIds.size());
+
+        ______TS("invalidate all courses");
+
+        cache.invalidateAll();
+        get("migrated");
+        get("not-migrated");
+        assertEquals(5, loadedCourseIds.size());
+    }
+
+    @Test
+    public void testGetAllOrLoad_invalidatedDuringLoad_loadedStatusNotCached() {
+        assertFalse(cache.getAllOrLoad(List.of("not-migrated"), courseIds -> {
+            Map<String, Boolean> statuses = load(courseIds);
+            storedStatuses.put("not-migrated", true);
+            cache.invalidate("not-migrated");
+            return statuses;
+        }).get("not-migrated"));
+
+        assertTrue(get("not-migrated"));
+        assertEquals(2, loadedCourseIds.size());
+    }
+
+}
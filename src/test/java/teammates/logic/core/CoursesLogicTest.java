@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -70,6 +71,32 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertTrue(sessionsOfCourse.stream().allMatch(s -> "UTC".equals(s.getTimeZone())));
     }
 
+    @Test
+    public void testIsCourseMigrated_courseMigrated_cachedStatusInvalidated() throws Exception {
+        var typicalCourse1 = dataBundle.courses.get("typicalCourse1");
+        var typicalCourse2 = dataBundle.courses.get("typicalCourse2");
+        assertFalse(coursesLogic.isCourseMigrated(typicalCourse1.getId()));
+
+        ______TS("non-existent course is considered migrated");
+
+        assertTrue(coursesLogic.isCourseMigrated("non-existent-course"));
+
+        ______TS("migration status is updated when the course is migrated");
+
+        coursesLogic.updateCourseCascade(
+                CourseAttributes.updateOptionsBuilder(typicalCourse1.getId())
+                        .withMigrate(true)
+                        .build());
+        assertTrue(coursesLogic.isCourseMigrated(typicalCourse1.getId()));
+
+        ______TS("bulk lookup");
+
+        Map<String, Boolean> migrationStatuses = coursesLogic.areCoursesMigrated(
+                List.of(typicalCourse1.getId(), typicalCourse2.getId(), "non-existent-course"));
+        assertEquals(Map.of(typicalCourse1.getId(), true, typicalCourse2.getId(), false, "non-existent-course", true),
+                migrationStatuses);
+    }
+
     @Test
     public void testAll() throws Exception {
         testGetCourse();
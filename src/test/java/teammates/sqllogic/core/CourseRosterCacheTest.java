@@ -0,0 +1,215 @@
+package teammates.sqllogic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CourseRosterCache}.
+ */
+public class CourseRosterCacheTest extends BaseTestCase {
+
+    private static final long TTL_MILLIS = 1000L;
+    private static final int MAX_SIZE = 2;
+
+    private final AtomicLong currentTime = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private CourseRosterCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        currentTime.set(0L);
+        loadCount.set(0);
+        cache = new CourseRosterCache(TTL_MILLIS, MAX_SIZE, currentTime::get);
+    }
+
+    private SqlCourseRoster load() {
+        loadCount.incrementAndGet();
+        return new SqlCourseRoster(new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Test
+    public void testGetOrLoad_warmLookup_servedFromCache() {
+        cache.getOrLoad("course", this::load);
+
+        cache.getOrLoad("course", this::load);
+        assertEquals(1, loadCount.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    public void testGetOrLoad_entryExpired_reloads() {
+        cache.getOrLoad("course", this::load);
+
+        currentTime.set(TTL_MILLIS - 1);
+        cache.getOrLoad("course", this::load);
+        assertEquals(1, loadCount.get());
+
+        currentTime.set(TTL_MILLIS);
+        cache.getOrLoad("course", this::load);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testGetOrLoad_exceedMaxSize_evictsLeastRecentlyUsed() {
+        cache.getOrLoad("course1", this::load);
+        cache.getOrLoad("course2", this::load);
+        cache.getOrLoad("course1", this::load);
+        cache.getOrLoad("course3", this::load);
+        assertEquals(3, loadCount.get());
+
+        ______TS("recently used entry is kept");
+
+        cache.getOrLoad("course1", this::load);
+        assertEquals(3, loadCount.get());
+
+        ______TS("least recently used entry is evicted");
+
+        cache.getOrLoad("course2", this::load);
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.getOrLoad("course1", this::load);
+        cache.getOrLoad("course2", this::load);
+
+        ______TS("invalidate single course");
+
+        cache.invalidate("course1");
+        cache.getOrLoad("course1", this::load);
+        cache.getOrLoad("course2", this::load);
+        assertEquals(3, loadCount.get());
+
+        ______TS("null course ID is ignored");
+
+        cache.invalidate(null);
+        cache.getOrLoad("course1", this::load);
+        assertEquals(3, loadCount.get());
+
+        ______TS("invalidate all courses");
+
+        cache.invalidateAll();
+        cache.getOrLoad("course1", this::load);
+        cache.getOrLoad("course2", this::load);
+        assertEquals(5, loadCount.get());
+    }
+
+    @Test
+    public void testGetOrLoad_invalidatedDuringLoad_loadedRosterNotCached() {
+        cache.getOrLoad("course", () -> {
+            cache.invalidate("course");
+            return load();
+        });
+        cache.getOrLoad("course", this::load);
+        assertEquals(2, loadCount.get());
+
+        ______TS("invalidating other courses does not affect the load");
+
+        cache.invalidate("course");
+        cache.getOrLoad("course", () -> {
+            cache.invalidate("other-course");
+            return load();
+        });
+        cache.getOrLoad("course", this::load);
+        assertEquals(3, loadCount.get());
+
+        ______TS("invalidating all courses discards the load");
+
+        cache.invalidate("course");
+        cache.getOrLoad("course", () -> {
+            cache.invalidateAll();
+            return load();
+        });
+        cache.getOrLoad("course", this::load);
+        assertEquals(5, loadCount.get());
+    }
+
+    @Test
+    public void testGetOrLoad_rosterIndexedByEmailTeamAndSection() {
+        Student student = getTypicalStudent();
+        SqlCourseRoster roster = cache.getOrLoad(student.getCourseId(),
+                () -> new SqlCourseRoster(List.of(student), new ArrayList<>()));
+
+        assertSame(student, roster.getStudentForEmail(student.getEmail()));
+        assertEquals(List.of(student), roster.getTeamToMembersTable().get(student.getTeamName()));
+        assertEquals(List.of(student), roster.getStudentsInSection(student.getSectionName()));
+        assertTrue(roster.getStudentsInSection("non-existent-section").isEmpty());
+
+        ______TS("roster cannot be modified");
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> roster.getTeamToMembersTable().get(student.getTeamName()).add(student));
+        assertThrows(UnsupportedOperationException.class,
+                () -> roster.getSectionToMembersTable().remove(student.getSectionName()));
+        assertThrows(UnsupportedOperationException.class, () -> roster.getStudents().add(student));
+        assertThrows(UnsupportedOperationException.class, () -> roster.getInstructors().clear());
+    }
+
+    @Test
+    public void testGetOrLoad_loadedRoster_returnedAsIsAndCopySharedFromCache() {
+        Student student = getTypicalStudent();
+        student.setTeam(getTypicalTeam());
+        student.setAccount(new Account("student-google-id", student.getName(), student.getEmail()));
+        Instructor instructor = getTypicalInstructor();
+        SqlCourseRoster loadedRoster = new SqlCourseRoster(List.of(student), List.of(instructor));
+
+        assertSame(loadedRoster, cache.getOrLoad(student.getCourseId(), () -> loadedRoster));
+
+        ______TS("cached roster is a copy with the same content");
+
+        SqlCourseRoster cachedRoster = cache.getOrLoad(student.getCourseId(), this::load);
+        assertEquals(0, loadCount.get());
+        assertNotSame(loadedRoster, cachedRoster);
+
+        Student studentCopy = cachedRoster.getStudentForEmail(student.getEmail());
+        assertNotSame(student, studentCopy);
+        assertEquals(student.getId(), studentCopy.getId());
+        assertEquals(student.getName(), studentCopy.getName());
+        assertEquals(student.getRegKey(), studentCopy.getRegKey());
+        assertEquals(student.getComments(), studentCopy.getComments());
+        assertEquals(student.getCourseId(), studentCopy.getCourseId());
+        assertEquals("student-google-id", studentCopy.getGoogleId());
+        assertNotSame(student.getAccount(), studentCopy.getAccount());
+        assertEquals(student.getTeam(), studentCopy.getTeam());
+        assertNotSame(student.getTeam(), studentCopy.getTeam());
+        assertEquals(student.getSection(), studentCopy.getSection());
+        assertEquals(student.getSectionName(), studentCopy.getSectionName());
+
+        Instructor instructorCopy = cachedRoster.getInstructorForEmail(instructor.getEmail());
+        assertNotSame(instructor, instructorCopy);
+        assertEquals(instructor.getId(), instructorCopy.getId());
+        assertEquals(instructor.getRole(), instructorCopy.getRole());
+        assertEquals(instructor.getPrivileges(), instructorCopy.getPrivileges());
+        assertNotSame(instructor.getPrivileges(), instructorCopy.getPrivileges());
+        assertSame(studentCopy.getCourse(), instructorCopy.getCourse());
+
+        ______TS("cached roster is shared by lookups");
+
+        assertSame(cachedRoster, cache.getOrLoad(student.getCourseId(), this::load));
+        assertEquals(0, loadCount.get());
+
+        ______TS("loaded roster modified by its caller does not affect the cached roster");
+
+        student.setName("modified name");
+        student.getTeam().setName("modified team");
+        instructor.getPrivileges().updatePrivilege(Const.InstructorPermissions.CAN_MODIFY_COURSE, false);
+
+        assertNotEquals("modified name", studentCopy.getName());
+        assertNotEquals("modified team", studentCopy.getTeamName());
+        assertNotEquals(instructor.getPrivileges(), instructorCopy.getPrivileges());
+    }
+
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
@@ -428,11 +429,9 @@ public class DataBundleLogicTest extends BaseTestCase {
 
         dataBundleLogic.putDocuments(dataBundle);
 
-        verify(usersLogic, times(1)).putStudentDocument(student1);
-        verify(usersLogic, times(1)).putStudentDocument(student2);
-        verify(usersLogic, times(2)).putStudentDocument(any(Student.class));
-        verify(usersLogic, never()).putInstructorDocument(any());
-        verify(accountRequestsLogic, never()).putDocument(any());
+        verify(usersLogic, times(1)).putStudentDocuments(List.of(student1, student2));
+        verify(usersLogic, times(1)).putInstructorDocuments(List.of());
+        verify(accountRequestsLogic, times(1)).putDocuments(List.of());
     }
 
     @Test
@@ -447,11 +446,9 @@ public class DataBundleLogicTest extends BaseTestCase {
 
         dataBundleLogic.putDocuments(dataBundle);
 
-        verify(usersLogic, times(1)).putInstructorDocument(instructor1);
-        verify(usersLogic, times(1)).putInstructorDocument(instructor2);
-        verify(usersLogic, times(2)).putInstructorDocument(any(Instructor.class));
-        verify(usersLogic, never()).putStudentDocument(any());
-        verify(accountRequestsLogic, never()).putDocument(any());
+        verify(usersLogic, times(1)).putInstructorDocuments(List.of(instructor1, instructor2));
+        verify(usersLogic, times(1)).putStudentDocuments(List.of());
+        verify(accountRequestsLogic, times(1)).putDocuments(List.of());
     }
 
     @Test
@@ -464,7 +461,7 @@ public class DataBundleLogicTest extends BaseTestCase {
 
         dataBundleLogic.putDocuments(dataBundle);
 
-        verify(accountRequestsLogic, times(1)).putDocument(accountRequest);
+        verify(accountRequestsLogic, times(1)).putDocuments(List.of(accountRequest));
     }
 
     @Test
@@ -474,9 +471,12 @@ public class DataBundleLogicTest extends BaseTestCase {
         // Should not throw any exception
         dataBundleLogic.putDocuments(emptyBundle);
 
-        verify(usersLogic, times(0)).putStudentDocument(any());
-        verify(usersLogic, times(0)).putInstructorDocument(any());
-        verify(accountRequestsLogic, times(0)).putDocument(any());
+        verify(usersLogic, times(1)).putStudentDocuments(List.of());
+        verify(usersLogic, times(1)).putInstructorDocuments(List.of());
+        verify(accountRequestsLogic, times(1)).putDocuments(List.of());
+        verify(usersLogic, never()).putStudentDocument(any());
+        verify(usersLogic, never()).putInstructorDocument(any());
+        verify(accountRequestsLogic, never()).putDocument(any());
     }
 
     @Test
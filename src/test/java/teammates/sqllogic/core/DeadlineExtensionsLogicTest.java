@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
@@ -391,4 +392,19 @@ public class DeadlineExtensionsLogicTest extends BaseTestCase {
         assertEquals(extendedDeadline2, result2);
         assertTrue(result2.isAfter(result1));
     }
+
+    @Test
+    public void testGetExtendedDeadlinesForSession_loadsAllDeadlinesTogether() {
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        UUID sessionId = UUID.randomUUID();
+        session.setId(sessionId);
+        Map<UUID, Instant> extendedDeadlines = Map.of(UUID.randomUUID(), Instant.now().plusSeconds(86400));
+
+        when(deDb.getExtendedDeadlinesForSession(sessionId)).thenReturn(extendedDeadlines);
+
+        assertEquals(extendedDeadlines, deLogic.getExtendedDeadlinesForSession(session));
+        verify(deDb, times(1)).getExtendedDeadlinesForSession(sessionId);
+        verify(deDb, never()).getDeadlineExtension(any(UUID.class), any(UUID.class));
+    }
 }
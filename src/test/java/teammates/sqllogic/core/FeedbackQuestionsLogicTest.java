@@ -1,24 +1,34 @@
 package teammates.sqllogic.core;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -274,6 +284,86 @@ public class FeedbackQuestionsLogicTest extends BaseTestCase {
 
     }
 
+    @Test
+    public void testGetRecipientsOfQuestion_studentsInSameSection_indexedPerSection() {
+        Course c = getTypicalCourse();
+        FeedbackSession fs = getTypicalFeedbackSessionForCourse(c);
+        FeedbackQuestion fq = getTypicalFeedbackQuestionForSession(fs);
+        fq.setGiverType(FeedbackParticipantType.STUDENTS);
+        fq.setRecipientType(FeedbackParticipantType.STUDENTS_IN_SAME_SECTION);
+
+        Team team1 = new Team(new Section(c, "section-1"), "team-1");
+        Team team2 = new Team(new Section(c, "section-2"), "team-2");
+        Student s1 = createStudent(c, "s1@teammates.tmt", team1);
+        Student s2 = createStudent(c, "s2@teammates.tmt", team1);
+        Student s3 = createStudent(c, "s3@teammates.tmt", team2);
+        SqlCourseRoster courseRoster = spy(new SqlCourseRoster(List.of(s1, s2, s3), new ArrayList<>()));
+
+        ______TS("givers in the same section share the indexed recipients, excluding themselves");
+
+        Map<String, FeedbackQuestionRecipient> recipientsOfS1 = fqLogic.getRecipientsOfQuestion(fq, null, s1, courseRoster);
+        Map<String, FeedbackQuestionRecipient> recipientsOfS2 = fqLogic.getRecipientsOfQuestion(fq, null, s2, courseRoster);
+
+        assertEquals(Set.of(s2.getEmail()), recipientsOfS1.keySet());
+        assertEquals(1, recipientsOfS1.size());
+        assertFalse(recipientsOfS1.containsKey(s1.getEmail()));
+        assertNull(recipientsOfS1.get(s1.getEmail()));
+        assertEquals(Set.of(s1.getEmail()), recipientsOfS2.keySet());
+        assertEquals("section-1", recipientsOfS2.get(s1.getEmail()).getSection());
+        verify(courseRoster, times(1)).getStudentsInSection("section-1");
+
+        ______TS("givers in another section are indexed separately");
+
+        assertTrue(fqLogic.getRecipientsOfQuestion(fq, null, s3, courseRoster).isEmpty());
+        verify(courseRoster, times(1)).getStudentsInSection("section-2");
+
+        ______TS("same recipients without roster");
+
+        when(usersLogic.getStudentsForSection("section-1", c.getId())).thenReturn(List.of(s1, s2));
+        assertEquals(recipientsOfS1, fqLogic.getRecipientsOfQuestion(fq, null, s1, null));
+    }
+
+    @Test
+    public void testGetRecipientsOfQuestion_instructorGiverWithSectionPrivileges_indexedPerAllowedSections() {
+        Course c = getTypicalCourse();
+        FeedbackSession fs = getTypicalFeedbackSessionForCourse(c);
+        FeedbackQuestion fq = getTypicalFeedbackQuestionForSession(fs);
+        fq.setGiverType(FeedbackParticipantType.INSTRUCTORS);
+        fq.setRecipientType(FeedbackParticipantType.TEAMS);
+
+        Team team1 = new Team(new Section(c, "section-1"), "team-1");
+        Team team2 = new Team(new Section(c, "section-2"), "team-2");
+        Student s1 = createStudent(c, "s1@teammates.tmt", team1);
+        Student s2 = createStudent(c, "s2@teammates.tmt", team2);
+        SqlCourseRoster courseRoster = spy(new SqlCourseRoster(List.of(s1, s2), new ArrayList<>()));
+
+        Instructor allSectionsInstructor = getTypicalInstructor();
+        Instructor section1Instructor = getTypicalInstructor();
+        section1Instructor.setEmail("section1@teammates.tmt");
+        section1Instructor.getPrivileges().updatePrivilege("section-2",
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+        Instructor anotherSection1Instructor = getTypicalInstructor();
+        anotherSection1Instructor.setEmail("another-section1@teammates.tmt");
+        anotherSection1Instructor.getPrivileges().updatePrivilege("section-2",
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS, false);
+
+        assertEquals(Set.of("team-1", "team-2"),
+                fqLogic.getRecipientsOfQuestion(fq, allSectionsInstructor, null, courseRoster).keySet());
+        assertEquals(Set.of("team-1"),
+                fqLogic.getRecipientsOfQuestion(fq, section1Instructor, null, courseRoster).keySet());
+        assertEquals(Set.of("team-1"),
+                fqLogic.getRecipientsOfQuestion(fq, anotherSection1Instructor, null, courseRoster).keySet());
+
+        // instructors who can submit for the same sections share the indexed recipients
+        verify(courseRoster, times(2)).getTeamToMembersTable();
+    }
+
+    private Student createStudent(Course course, String email, Team team) {
+        Student student = new Student(course, email, email, "");
+        student.setTeam(team);
+        return student;
+    }
+
     private List<FeedbackQuestion> createQuestionList(FeedbackSession fs, int numOfQuestions) {
         List<FeedbackQuestion> questions = new ArrayList<>();
         for (int i = 1; i <= numOfQuestions; i++) {
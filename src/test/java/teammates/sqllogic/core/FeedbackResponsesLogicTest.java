@@ -1,25 +1,32 @@
 package teammates.sqllogic.core;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.util.Const;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -30,13 +37,15 @@ public class FeedbackResponsesLogicTest extends BaseTestCase {
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
 
     private FeedbackResponsesDb frDb;
+    private UsersLogic usersLogic;
+    private FeedbackResponseCommentsLogic frcLogic;
 
     @BeforeMethod
     public void setUpMethod() {
         frDb = mock(FeedbackResponsesDb.class);
-        UsersLogic usersLogic = mock(UsersLogic.class);
+        usersLogic = mock(UsersLogic.class);
         FeedbackQuestionsLogic fqLogic = mock(FeedbackQuestionsLogic.class);
-        FeedbackResponseCommentsLogic frcLogic = mock(FeedbackResponseCommentsLogic.class);
+        frcLogic = mock(FeedbackResponseCommentsLogic.class);
         frLogic.initLogicDependencies(frDb, usersLogic, fqLogic, frcLogic);
     }
 
@@ -361,6 +370,40 @@ public class FeedbackResponsesLogicTest extends BaseTestCase {
         verify(frDb, times(1)).getFeedbackResponsesFromGiverForQuestion(questionId, studentEmail);
     }
 
+    @Test
+    public void testUpsertFeedbackResponsesCascade_sectionsChanged_commentsOfChangedResponsesUpdated()
+            throws Exception {
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(
+                getTypicalFeedbackSessionForCourse(getTypicalCourse()));
+        FeedbackResponse newResponse = getTypicalFeedbackResponseForQuestion(question);
+        FeedbackResponse oldResponseSameSections = getTypicalFeedbackResponseForQuestion(question);
+        FeedbackResponse oldResponseSectionChanged = getTypicalFeedbackResponseForQuestion(question);
+        FeedbackResponse responseSameSections = FeedbackResponse.updateResponse(oldResponseSameSections, question,
+                oldResponseSameSections.getGiver(), oldResponseSameSections.getGiverSection(),
+                oldResponseSameSections.getRecipient(), oldResponseSameSections.getRecipientSection(),
+                getTypicalFeedbackResponseDetails());
+        FeedbackResponse responseSectionChanged = FeedbackResponse.updateResponse(oldResponseSectionChanged,
+                question, oldResponseSectionChanged.getGiver(), oldResponseSectionChanged.getGiverSection(),
+                oldResponseSectionChanged.getRecipient(), new Section(getTypicalCourse(), "new-section"),
+                getTypicalFeedbackResponseDetails());
+        List<FeedbackResponse> responsesToCreate = List.of(newResponse);
+        List<FeedbackResponse> responsesToUpdate = List.of(responseSameSections, responseSectionChanged);
+        List<FeedbackResponse> upsertedResponses = List.of(newResponse, responseSameSections, responseSectionChanged);
+
+        when(frDb.getFeedbackResponse(oldResponseSameSections.getId())).thenReturn(oldResponseSameSections);
+        when(frDb.getFeedbackResponse(oldResponseSectionChanged.getId())).thenReturn(oldResponseSectionChanged);
+        when(frDb.upsertFeedbackResponses(responsesToCreate, responsesToUpdate)).thenReturn(upsertedResponses);
+
+        List<FeedbackResponse> result = frLogic.upsertFeedbackResponsesCascade(responsesToCreate, responsesToUpdate);
+
+        assertEquals(upsertedResponses, result);
+        verify(frDb, times(1)).upsertFeedbackResponses(responsesToCreate, responsesToUpdate);
+        verify(frDb, never()).createFeedbackResponse(any());
+        verify(frDb, never()).updateFeedbackResponse(any());
+        verify(frcLogic, times(1)).updateFeedbackResponseCommentsForResponse(any());
+        verify(frcLogic, times(1)).updateFeedbackResponseCommentsForResponse(responseSectionChanged);
+    }
+
     @Test
     public void testHasGiverRespondedForSession_hasResponded() {
         Course course = getTypicalCourse();
@@ -388,4 +431,163 @@ public class FeedbackResponsesLogicTest extends BaseTestCase {
 
         assertFalse(result);
     }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingEmail_updatesResponsesInBulk() throws Exception {
+        frLogic.updateFeedbackResponsesForChangingEmail("course-id", "old@email.com", "new@email.com");
+
+        verify(frDb, times(1)).updateGiverOfFeedbackResponsesInCourse("course-id", "old@email.com", "new@email.com");
+        verify(frDb, times(1)).updateRecipientOfFeedbackResponsesInCourse("course-id", "old@email.com", "new@email.com");
+        verify(frDb, never()).getFeedbackResponsesFromGiverForCourse(any(), any());
+        verify(frDb, never()).updateFeedbackResponse(any());
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingSection_updatesResponsesAndCommentsInBulk() throws Exception {
+        Course course = getTypicalCourse();
+        Section section = getTypicalSection();
+
+        frLogic.updateFeedbackResponsesForChangingSection(course, "student@email.com", section);
+
+        verify(frDb, times(1)).updateGiverSectionOfFeedbackResponsesInCourse(course.getId(), "student@email.com", section);
+        verify(frDb, times(1)).updateRecipientSectionOfFeedbackResponsesInCourse(
+                course.getId(), "student@email.com", section);
+        verify(frcLogic, times(1)).updateGiverSectionOfFeedbackResponseCommentsInCourse(
+                course.getId(), "student@email.com", section);
+        verify(frcLogic, times(1)).updateRecipientSectionOfFeedbackResponseCommentsInCourse(
+                course.getId(), "student@email.com", section);
+        verify(frDb, never()).updateFeedbackResponse(any());
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingTeam_oldTeamNotEmpty_noResponsesDeleted() throws Exception {
+        Course course = getTypicalCourse();
+        Team oldTeam = getTypicalTeam();
+        Team newTeam = new Team(getTypicalSection(), "new-team");
+        Student remainingMember = new Student(course, "student-2", "student2@email.com", "");
+        remainingMember.setTeam(oldTeam);
+
+        when(usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId())).thenReturn(List.of(remainingMember));
+
+        frLogic.updateFeedbackResponsesForChangingTeam(course, "student@email.com", newTeam, oldTeam);
+
+        verify(frDb, never()).getFeedbackResponsesFromGiverForCourse(any(), any());
+        verify(frDb, never()).getFeedbackResponsesForRecipientForCourse(any(), any());
+        verify(frDb, never()).deleteFeedbackResponse(any());
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingTeam_oldTeamEmpty_onlyOldTeamResponsesDeleted() throws Exception {
+        Course course = getTypicalCourse();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        Team oldTeam = getTypicalTeam();
+        Team newTeam = new Team(getTypicalSection(), "new-team");
+        FeedbackResponse responseFromOldTeam = getTypicalFeedbackResponseForQuestion(question);
+        responseFromOldTeam.setId(UUID.randomUUID());
+        FeedbackResponse responseToOldTeam = getTypicalFeedbackResponseForQuestion(question);
+        responseToOldTeam.setId(UUID.randomUUID());
+
+        when(usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId())).thenReturn(new ArrayList<>());
+        when(frDb.getFeedbackResponsesFromGiverForCourse(course.getId(), oldTeam.getName()))
+                .thenReturn(List.of(responseFromOldTeam));
+        when(frDb.getFeedbackResponsesForRecipientForCourse(course.getId(), oldTeam.getName()))
+                .thenReturn(List.of(responseToOldTeam));
+
+        frLogic.updateFeedbackResponsesForChangingTeam(course, "student@email.com", newTeam, oldTeam);
+
+        verify(frDb, times(1)).deleteFeedbackResponse(responseFromOldTeam);
+        verify(frDb, times(1)).deleteFeedbackResponse(responseToOldTeam);
+        verify(frDb, times(2)).deleteFeedbackResponse(any());
+        verify(frDb, never()).getFeedbackResponsesFromGiverForCourse(course.getId(), "student@email.com");
+        verify(frDb, never()).getFeedbackResponsesForRecipientForCourse(course.getId(), "student@email.com");
+    }
+
+    @Test
+    public void testGetRecipientSections_studentRecipients_resolvedFromOneRosterSnapshot() {
+        Course course = getTypicalCourse();
+        Section otherSection = new Section(course, "other-section");
+        Student student1 = new Student(course, "student-1", "student1@email.com", "");
+        student1.setTeam(getTypicalTeam());
+        Student student2 = new Student(course, "student-2", "student2@email.com", "");
+        student2.setTeam(new Team(otherSection, "other-team"));
+        Section defaultSection = new Section(course, Const.DEFAULT_SECTION);
+        Section typicalSectionReference = stubSectionReference(student1.getSection());
+        Section otherSectionReference = stubSectionReference(otherSection);
+
+        when(usersLogic.getCourseRoster(course.getId()))
+                .thenReturn(new SqlCourseRoster(List.of(student1, student2), new ArrayList<>()));
+        when(usersLogic.getSectionOrCreate(course.getId(), Const.DEFAULT_SECTION)).thenReturn(defaultSection);
+
+        Map<String, Section> result = frLogic.getRecipientSections(course.getId(), FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS, List.of("student1@email.com", "student2@email.com"));
+
+        assertEquals(2, result.size());
+        assertSame(typicalSectionReference, result.get("student1@email.com"));
+        assertSame(otherSectionReference, result.get("student2@email.com"));
+        verify(usersLogic, times(1)).getCourseRoster(course.getId());
+        verify(usersLogic, never()).getStudentForEmail(any(), any());
+        verify(usersLogic, never()).getSectionOrCreate(any(), any());
+
+        ______TS("self-feedback is resolved with the giver type");
+
+        result = frLogic.getRecipientSections(course.getId(), FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.SELF, List.of("student2@email.com"));
+
+        assertSame(otherSectionReference, result.get("student2@email.com"));
+
+        ______TS("unknown student is placed in the default section");
+
+        result = frLogic.getRecipientSections(course.getId(), FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS_EXCLUDING_SELF, List.of("unknown@email.com", "another@email.com"));
+
+        assertEquals(defaultSection, result.get("unknown@email.com"));
+        assertEquals(defaultSection, result.get("another@email.com"));
+        verify(usersLogic, times(1)).getSectionOrCreate(course.getId(), Const.DEFAULT_SECTION);
+    }
+
+    @Test
+    public void testGetRecipientSections_teamRecipients_resolvedFromTeamMembers() {
+        Course course = getTypicalCourse();
+        Section otherSection = new Section(course, "other-section");
+        Student student1 = new Student(course, "student-1", "student1@email.com", "");
+        student1.setTeam(getTypicalTeam());
+        Student student2 = new Student(course, "student-2", "student2@email.com", "");
+        student2.setTeam(new Team(otherSection, "other-team"));
+        Section typicalSectionReference = stubSectionReference(student1.getSection());
+        Section otherSectionReference = stubSectionReference(otherSection);
+
+        when(usersLogic.getCourseRoster(course.getId()))
+                .thenReturn(new SqlCourseRoster(List.of(student1, student2), new ArrayList<>()));
+
+        Map<String, Section> result = frLogic.getRecipientSections(course.getId(), FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.TEAMS_EXCLUDING_SELF, List.of(student1.getTeamName(), student2.getTeamName()));
+
+        assertSame(typicalSectionReference, result.get(student1.getTeamName()));
+        assertSame(otherSectionReference, result.get(student2.getTeamName()));
+        verify(usersLogic, times(1)).getCourseRoster(course.getId());
+    }
+
+    @Test
+    public void testGetRecipientSections_instructorRecipients_defaultSectionWithoutLoadingRoster() {
+        Course course = getTypicalCourse();
+        Section defaultSection = new Section(course, Const.DEFAULT_SECTION);
+
+        when(usersLogic.getSectionOrCreate(course.getId(), Const.DEFAULT_SECTION)).thenReturn(defaultSection);
+
+        Map<String, Section> result = frLogic.getRecipientSections(course.getId(), FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.INSTRUCTORS, List.of("instructor1@email.com", "instructor2@email.com"));
+
+        assertEquals(defaultSection, result.get("instructor1@email.com"));
+        assertEquals(defaultSection, result.get("instructor2@email.com"));
+        verify(usersLogic, never()).getCourseRoster(any());
+        verify(usersLogic, times(1)).getSectionOrCreate(course.getId(), Const.DEFAULT_SECTION);
+    }
+
+    private Section stubSectionReference(Section section) {
+        Section reference = new Section(section.getCourse(), section.getName());
+        reference.setId(section.getId());
+        when(usersLogic.getSectionReference(section.getId())).thenReturn(reference);
+        return reference;
+    }
 }
@@ -1,6 +1,8 @@
 package teammates.sqllogic.core;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,7 +21,6 @@ import teammates.common.util.Const;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
-import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Student;
@@ -330,13 +331,10 @@ public class FeedbackSessionsLogicTest extends BaseTestCase {
         FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
         FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
         List<FeedbackQuestion> questions = List.of(question);
-        Student student1 = getTypicalStudent();
-        Student student2 = getTypicalStudent();
-        List<Student> students = List.of(student1, student2);
 
         when(fqLogic.getFeedbackQuestionsForSession(session)).thenReturn(questions);
         when(fqLogic.hasFeedbackQuestionsForStudents(questions)).thenReturn(true);
-        when(usersLogic.getStudentsForCourse(courseId)).thenReturn(students);
+        when(usersLogic.getNumStudentsForCourse(courseId)).thenReturn(2L);
         when(fqLogic.hasFeedbackQuestionsForInstructors(questions, true)).thenReturn(false);
 
         int result = fsLogic.getExpectedTotalSubmission(session);
@@ -344,8 +342,9 @@ public class FeedbackSessionsLogicTest extends BaseTestCase {
         assertEquals(2, result);
         verify(fqLogic, times(1)).getFeedbackQuestionsForSession(session);
         verify(fqLogic, times(1)).hasFeedbackQuestionsForStudents(questions);
-        verify(usersLogic, times(1)).getStudentsForCourse(courseId);
+        verify(usersLogic, times(1)).getNumStudentsForCourse(courseId);
         verify(fqLogic, times(1)).hasFeedbackQuestionsForInstructors(questions, true);
+        verify(usersLogic, never()).getStudentsForCourse(courseId);
     }
 
     @Test
@@ -355,69 +354,68 @@ public class FeedbackSessionsLogicTest extends BaseTestCase {
         FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
         FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
         List<FeedbackQuestion> questions = List.of(question);
-        List<Student> students = List.of(getTypicalStudent());
-        Instructor instructor1 = getTypicalInstructor();
-        Instructor instructor2 = getTypicalInstructor();
-        List<Instructor> instructors = List.of(instructor1, instructor2);
 
         when(fqLogic.getFeedbackQuestionsForSession(session)).thenReturn(questions);
         when(fqLogic.hasFeedbackQuestionsForStudents(questions)).thenReturn(true);
-        when(usersLogic.getStudentsForCourse(courseId)).thenReturn(students);
+        when(usersLogic.getNumStudentsForCourse(courseId)).thenReturn(1L);
         when(fqLogic.hasFeedbackQuestionsForInstructors(questions, true)).thenReturn(true);
-        when(usersLogic.getInstructorsForCourse(courseId)).thenReturn(instructors);
+        when(usersLogic.getNumInstructorsForCourse(courseId)).thenReturn(2L);
         when(fqLogic.hasFeedbackQuestionsForInstructors(questions, false)).thenReturn(true);
 
         int result = fsLogic.getExpectedTotalSubmission(session);
 
         assertEquals(3, result); // 1 student + 2 instructors
-        verify(usersLogic, times(1)).getInstructorsForCourse(courseId);
+        verify(usersLogic, times(1)).getNumInstructorsForCourse(courseId);
+        verify(usersLogic, never()).getInstructorsForCourse(courseId);
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_questionsForCreatorOnly_includesCreator() {
+        Course course = getTypicalCourse();
+        String courseId = course.getId();
+        FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
+        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
+        List<FeedbackQuestion> questions = List.of(question);
+        Instructor creator = getTypicalInstructor();
+
+        when(fqLogic.getFeedbackQuestionsForSession(session)).thenReturn(questions);
+        when(fqLogic.hasFeedbackQuestionsForStudents(questions)).thenReturn(false);
+        when(fqLogic.hasFeedbackQuestionsForInstructors(questions, true)).thenReturn(true);
+        when(fqLogic.hasFeedbackQuestionsForInstructors(questions, false)).thenReturn(false);
+        when(usersLogic.getInstructorForEmail(courseId, session.getCreatorEmail())).thenReturn(creator);
+
+        int result = fsLogic.getExpectedTotalSubmission(session);
+
+        assertEquals(1, result);
+        verify(usersLogic, never()).getNumInstructorsForCourse(courseId);
     }
 
     @Test
     public void testGetActualTotalSubmission_sessionWithResponses_success() {
         Course course = getTypicalCourse();
         FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
-        FeedbackQuestion question1 = getTypicalFeedbackQuestionForSession(session);
-        FeedbackQuestion question2 = getTypicalFeedbackQuestionForSession(session);
-        session.setFeedbackQuestions(List.of(question1, question2));
-
-        // Mock responses from different givers
-        FeedbackResponse response1 = getTypicalFeedbackResponseForQuestion(question1);
-        response1.setGiver("student1@email.com");
-        FeedbackResponse response2 = getTypicalFeedbackResponseForQuestion(question1);
-        response2.setGiver("student2@email.com");
-        FeedbackResponse response3 = getTypicalFeedbackResponseForQuestion(question2);
-        response3.setGiver("student1@email.com"); // Same giver as response1
-
-        when(fqLogic.getFeedbackQuestionsForSession(session)).thenReturn(List.of(question1, question2));
-        when(frLogic.getFeedbackResponsesForQuestion(question1.getId()))
-                .thenReturn(List.of(response1, response2));
-        when(frLogic.getFeedbackResponsesForQuestion(question2.getId()))
-                .thenReturn(List.of(response3));
+        session.setId(UUID.randomUUID());
+
+        when(frLogic.getNumOfGiversForSession(session)).thenReturn(2L);
 
         int result = fsLogic.getActualTotalSubmission(session);
 
-        // Should return unique givers: student1@email.com and student2@email.com = 2
         assertEquals(2, result);
-        verify(fqLogic, times(1)).getFeedbackQuestionsForSession(session);
-        verify(frLogic, times(1)).getFeedbackResponsesForQuestion(question1.getId());
-        verify(frLogic, times(1)).getFeedbackResponsesForQuestion(question2.getId());
+        verify(frLogic, times(1)).getNumOfGiversForSession(session);
+        verify(frLogic, never()).getFeedbackResponsesForQuestion(any());
     }
 
     @Test
     public void testGetActualTotalSubmission_noResponses_returnsZero() {
         Course course = getTypicalCourse();
         FeedbackSession session = getTypicalFeedbackSessionForCourse(course);
-        FeedbackQuestion question = getTypicalFeedbackQuestionForSession(session);
-        session.setFeedbackQuestions(List.of(question));
+        session.setId(UUID.randomUUID());
 
-        when(fqLogic.getFeedbackQuestionsForSession(session)).thenReturn(List.of(question));
-        when(frLogic.getFeedbackResponsesForQuestion(question.getId())).thenReturn(new ArrayList<>());
+        when(frLogic.getNumOfGiversForSession(session)).thenReturn(0L);
 
         int result = fsLogic.getActualTotalSubmission(session);
 
         assertEquals(0, result);
-        verify(frLogic, times(1)).getFeedbackResponsesForQuestion(question.getId());
     }
 
     @Test
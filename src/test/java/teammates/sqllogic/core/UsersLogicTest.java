@@ -1,6 +1,10 @@
 package teammates.sqllogic.core;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,11 +14,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlEnrollmentResult;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.InstructorPermissions;
@@ -22,7 +30,9 @@ import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -34,6 +44,8 @@ public class UsersLogicTest extends BaseTestCase {
 
     private AccountsLogic accountsLogic;
 
+    private FeedbackResponsesLogic feedbackResponsesLogic;
+
     private UsersDb usersDb;
 
     private Instructor instructor;
@@ -48,7 +60,7 @@ public class UsersLogicTest extends BaseTestCase {
     public void setUpMethod() {
         usersDb = mock(UsersDb.class);
         accountsLogic = mock(AccountsLogic.class);
-        FeedbackResponsesLogic feedbackResponsesLogic = mock(FeedbackResponsesLogic.class);
+        feedbackResponsesLogic = mock(FeedbackResponsesLogic.class);
         FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = mock(FeedbackResponseCommentsLogic.class);
         DeadlineExtensionsLogic deadlineExtensionsLogic = mock(DeadlineExtensionsLogic.class);
         usersLogic.initLogicDependencies(usersDb, accountsLogic, feedbackResponsesLogic,
@@ -166,4 +178,160 @@ public class UsersLogicTest extends BaseTestCase {
                 Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR));
     }
 
+    @Test
+    public void testEnrollStudents_newChangedAndUnchangedStudents_diffedAgainstRoster() throws Exception {
+        Section existingSection = new Section(course, "Section A");
+        Team existingTeam = new Team(existingSection, "Team 1");
+        existingSection.addTeam(existingTeam);
+        Student unchangedStudent = new Student(course, "unchanged", "unchanged@email.tmt", "", existingTeam);
+        Student movedStudent = new Student(course, "moved", "moved@email.tmt", "", existingTeam);
+
+        when(usersDb.getSectionsWithTeamsForCourse(course.getId())).thenReturn(List.of(existingSection));
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of(unchangedStudent, movedStudent));
+
+        List<Student> studentsToEnroll = List.of(
+                newStudentToEnroll("unchanged", "unchanged@email.tmt", "Team 1", "Section A"),
+                newStudentToEnroll("moved", "moved@email.tmt", "Team 2", "Section B"),
+                newStudentToEnroll("new", "new@email.tmt", "Team 1", "Section A"));
+
+        SqlEnrollmentResult result = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(List.of("unchanged@email.tmt", "moved@email.tmt", "new@email.tmt"),
+                getEmails(result.getEnrolledStudents()));
+        assertEquals(List.of("moved@email.tmt", "new@email.tmt"), getEmails(result.getChangedStudents()));
+        assertTrue(result.getFailedEnrollments().isEmpty());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Section>> newSectionsCaptor = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Team>> newTeamsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(usersDb, times(1)).createSectionsAndTeams(newSectionsCaptor.capture(), newTeamsCaptor.capture());
+        assertEquals(1, newSectionsCaptor.getValue().size());
+        assertEquals("Section B", newSectionsCaptor.getValue().get(0).getName());
+        assertEquals(1, newTeamsCaptor.getValue().size());
+        Team newTeam = newTeamsCaptor.getValue().get(0);
+        assertEquals("Team 2", newTeam.getName());
+        assertSame(newSectionsCaptor.getValue().get(0), newTeam.getSection());
+
+        assertSame(existingTeam, unchangedStudent.getTeam());
+        assertSame(newTeam, movedStudent.getTeam());
+        verify(feedbackResponsesLogic, times(1)).updateFeedbackResponsesForChangingTeam(
+                course, "moved@email.tmt", newTeam, existingTeam);
+        verify(feedbackResponsesLogic, times(1)).updateFeedbackResponsesForChangingSection(
+                course, "moved@email.tmt", newTeam.getSection());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Student>> newStudentsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(usersDb, times(1)).createStudents(newStudentsCaptor.capture());
+        assertEquals(1, newStudentsCaptor.getValue().size());
+        assertSame(existingTeam, newStudentsCaptor.getValue().get(0).getTeam());
+        verify(usersDb, never()).getSectionOrCreate(any(), any());
+        verify(usersDb, never()).getTeamOrCreate(any(), any());
+    }
+
+    @Test
+    public void testEnrollStudents_invalidStudent_recordedAsFailure() throws Exception {
+        when(usersDb.getSectionsWithTeamsForCourse(course.getId())).thenReturn(List.of());
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of());
+
+        List<Student> studentsToEnroll = List.of(
+                newStudentToEnroll("invalid", "invalid-email", "Team 1", "Section A"),
+                newStudentToEnroll("valid", "valid@email.tmt", "Team 1", "Section A"));
+
+        SqlEnrollmentResult result = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(List.of("valid@email.tmt"), getEmails(result.getEnrolledStudents()));
+        assertEquals(1, result.getFailedEnrollments().size());
+        assertTrue(result.getFailedEnrollments().containsKey("invalid-email"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Student>> newStudentsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(usersDb, times(1)).createStudents(newStudentsCaptor.capture());
+        assertEquals(List.of("valid@email.tmt"), getEmails(newStudentsCaptor.getValue()));
+    }
+
+    @Test
+    public void testEnrollStudents_cascadeFails_recordedAsFailure() throws Exception {
+        Section existingSection = new Section(course, "Section A");
+        Team existingTeam = new Team(existingSection, "Team 1");
+        existingSection.addTeam(existingTeam);
+        Student existingStudent = new Student(course, "name", "existing@email.tmt", "", existingTeam);
+
+        when(usersDb.getSectionsWithTeamsForCourse(course.getId())).thenReturn(List.of(existingSection));
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of(existingStudent));
+        doThrow(new EntityDoesNotExistException("error message")).when(feedbackResponsesLogic)
+                .updateFeedbackResponsesForChangingTeam(eq(course), eq("existing@email.tmt"), any(), eq(existingTeam));
+
+        SqlEnrollmentResult result = usersLogic.enrollStudents(course,
+                List.of(newStudentToEnroll("name", "existing@email.tmt", "Team 2", "Section A")));
+
+        assertTrue(result.getEnrolledStudents().isEmpty());
+        assertTrue(result.getChangedStudents().isEmpty());
+        assertEquals("error message", result.getFailedEnrollments().get("existing@email.tmt"));
+        assertEquals("name", existingStudent.getName());
+        assertSame(existingTeam, existingStudent.getTeam());
+        assertEquals("", existingStudent.getComments());
+    }
+
+    @Test
+    public void testEnrollStudents_existingStudentWithoutComments_detailsUpdated() throws Exception {
+        Section existingSection = new Section(course, "Section A");
+        Team existingTeam = new Team(existingSection, "Team 1");
+        existingSection.addTeam(existingTeam);
+        Student existingStudent = new Student(course, "name", "existing@email.tmt", null, existingTeam);
+
+        when(usersDb.getSectionsWithTeamsForCourse(course.getId())).thenReturn(List.of(existingSection));
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of(existingStudent));
+
+        Student studentToEnroll = newStudentToEnroll("name", "existing@email.tmt", "Team 1", "Section A");
+        studentToEnroll.setComments("new comments");
+
+        SqlEnrollmentResult result = usersLogic.enrollStudents(course, List.of(studentToEnroll));
+
+        assertEquals(List.of("existing@email.tmt"), getEmails(result.getChangedStudents()));
+        assertTrue(result.getFailedEnrollments().isEmpty());
+        assertEquals("new comments", existingStudent.getComments());
+        assertSame(existingTeam, existingStudent.getTeam());
+    }
+
+    private Student newStudentToEnroll(String name, String email, String teamName, String sectionName) {
+        Section section = new Section(course, sectionName);
+        return new Student(course, name, email, "", new Team(section, teamName));
+    }
+
+    @Test
+    public void testGetCourseRoster_studentCreated_rosterReloaded() throws Exception {
+        String courseId = student.getCourseId();
+        CourseRosterCache.inst().invalidate(courseId);
+        when(usersDb.getStudentsForCourse(courseId)).thenReturn(new ArrayList<>(List.of(student)));
+        when(usersDb.getInstructorsForCourse(courseId)).thenReturn(new ArrayList<>(List.of(instructor)));
+
+        ______TS("roster is served from cache");
+
+        SqlCourseRoster roster = usersLogic.getCourseRoster(courseId);
+        assertSame(student, roster.getStudentForEmail(student.getEmail()));
+        assertSame(instructor, roster.getInstructorForEmail(instructor.getEmail()));
+        SqlCourseRoster cachedRoster = usersLogic.getCourseRoster(courseId);
+        assertEquals(student, cachedRoster.getStudentForEmail(student.getEmail()));
+        assertEquals(instructor, cachedRoster.getInstructorForEmail(instructor.getEmail()));
+        verify(usersDb, times(1)).getStudentsForCourse(courseId);
+        verify(usersDb, times(1)).getInstructorsForCourse(courseId);
+
+        ______TS("roster is reloaded after a student of the course is created");
+
+        Student newStudent = new Student(student.getCourse(), "new-student", "new-student@teammates.tmt", "",
+                student.getTeam());
+        usersLogic.createStudent(newStudent);
+        when(usersDb.getStudentsForCourse(courseId)).thenReturn(new ArrayList<>(List.of(student, newStudent)));
+
+        SqlCourseRoster reloadedRoster = usersLogic.getCourseRoster(courseId);
+        assertNotSame(roster, reloadedRoster);
+        assertSame(newStudent, reloadedRoster.getStudentForEmail(newStudent.getEmail()));
+        verify(usersDb, times(2)).getStudentsForCourse(courseId);
+    }
+
+    private List<String> getEmails(List<Student> students) {
+        return students.stream().map(Student::getEmail).collect(Collectors.toList());
+    }
+
 }
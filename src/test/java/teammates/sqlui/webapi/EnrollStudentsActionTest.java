@@ -1,8 +1,13 @@
 package teammates.sqlui.webapi;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -14,9 +19,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
+import teammates.common.datatransfer.SqlEnrollmentResult;
+import teammates.common.exception.EnrollException;
 import teammates.common.util.Const;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
@@ -26,6 +30,7 @@ import teammates.storage.sqlentity.Team;
 import teammates.ui.output.EnrollStudentsData;
 import teammates.ui.output.StudentData;
 import teammates.ui.request.StudentsEnrollRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 import teammates.ui.webapi.EnrollStudentsAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -35,7 +40,6 @@ import teammates.ui.webapi.JsonResult;
 public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsAction> {
     private Course course;
     private Team team;
-    private Section section;
 
     @Override
     protected String getActionUri() {
@@ -50,8 +54,9 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
     @BeforeMethod
     void setUp() {
         course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
-        section = new Section(course, "section");
+        Section section = new Section(course, "section");
         team = new Team(section, course.getId());
+        reset(mockLogic);
     }
 
     @Test
@@ -59,15 +64,11 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
         Student newStudent = new Student(course, "name", "email.com", "", team);
+        SqlEnrollmentResult enrollmentResult = new SqlEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(newStudent, true);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>());
-        when(mockLogic.createStudent(
-                argThat(argument -> Objects.equals(argument.getName(), newStudent.getName())
-                        && Objects.equals(argument.getEmail(), newStudent.getEmail())
-                        && Objects.equals(argument.getTeam(), newStudent.getTeam())
-                        && Objects.equals(argument.getSection(), newStudent.getSection())))).thenReturn(newStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course), argThat(students -> students.size() == 1
+                && isSameStudent(students.get(0), newStudent)))).thenReturn(enrollmentResult);
 
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
@@ -87,17 +88,12 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
         Student newStudent = new Student(course, "name", "email.com", "", team);
-        Student existingStudent = new Student(course, "oldName", "email.com", "", team);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>(List.of(existingStudent)));
+        SqlEnrollmentResult enrollmentResult = new SqlEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(newStudent, true);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentForEmail(course.getId(), newStudent.getEmail())).thenReturn(existingStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
-        when(mockLogic.updateStudentCascade(
-                argThat(argument -> Objects.equals(argument.getName(), newStudent.getName())
-                        && Objects.equals(argument.getEmail(), newStudent.getEmail())
-                        && Objects.equals(argument.getTeam(), newStudent.getTeam())
-                        && Objects.equals(argument.getSection(), newStudent.getSection())))).thenReturn(newStudent);
+        when(mockLogic.enrollStudents(eq(course), argThat(students -> students.size() == 1
+                && isSameStudent(students.get(0), newStudent)))).thenReturn(enrollmentResult);
+
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, course.getId(),
@@ -112,45 +108,67 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
     }
 
     @Test
-    public void testExecute_invalidParamsAndNotAlreadyEnrolled_studentAddedToErrorList() throws
-            EntityAlreadyExistsException, InvalidParametersException {
-        doThrow(new InvalidParametersException("")).when(mockLogic).createStudent(any(Student.class));
-
+    public void testExecute_studentAlreadyEnrolledWithSameDetails_noSearchIndexingTask() throws Exception {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
-        Student newStudent = new Student(course, "name", "email.com", "", team);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>());
+        Student existingStudent = new Student(course, "name", "email.com", "", team);
+        SqlEnrollmentResult enrollmentResult = new SqlEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(existingStudent, false);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course), anyList())).thenReturn(enrollmentResult);
 
-        StudentsEnrollRequest req = prepareRequest(newStudent);
+        StudentsEnrollRequest req = prepareRequest(existingStudent);
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, course.getId(),
         };
         EnrollStudentsAction action = getAction(req, params);
         JsonResult result = getJsonResult(action);
+
         List<StudentData> enrolledStudents = ((EnrollStudentsData) result.getOutput()).getStudentsData().getStudents();
-        List<EnrollStudentsData.EnrollErrorResults> errors =
-                ((EnrollStudentsData) result.getOutput()).getUnsuccessfulEnrolls();
-        assertEquals(errors.size(), 1);
-        assertEquals(enrolledStudents.size(), 0);
+        assertEquals(1, enrolledStudents.size());
+        verifyNoTasksAdded();
     }
 
     @Test
-    public void testExecute_invalidParamsAndAlreadyEnrolled_studentAddedToErrorList()
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+    public void testExecute_manyStudentsChanged_oneSearchIndexingTaskForAll() throws Exception {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
+        Student firstStudent = new Student(course, "name 1", "email1.com", "", team);
+        Student secondStudent = new Student(course, "name 2", "email2.com", "", team);
+        Student thirdStudent = new Student(course, "name 3", "email3.com", "", team);
+        SqlEnrollmentResult enrollmentResult = new SqlEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(firstStudent, true);
+        enrollmentResult.addEnrolledStudent(secondStudent, false);
+        enrollmentResult.addEnrolledStudent(thirdStudent, true);
+        when(mockLogic.getCourse(course.getId())).thenReturn(course);
+        when(mockLogic.enrollStudents(eq(course), anyList())).thenReturn(enrollmentResult);
+
+        StudentsEnrollRequest req = prepareRequest(firstStudent, secondStudent, thirdStudent);
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, course.getId(),
+        };
+        EnrollStudentsAction action = getAction(req, params);
+        JsonResult result = getJsonResult(action);
+
+        List<StudentData> enrolledStudents = ((EnrollStudentsData) result.getOutput()).getStudentsData().getStudents();
+        assertEquals(3, enrolledStudents.size());
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
 
-        doThrow(new InvalidParametersException("")).when(mockLogic).updateStudentCascade(any(Student.class));
+        StudentsSearchIndexingRequest indexingRequest =
+                (StudentsSearchIndexingRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        assertEquals(course.getId(), indexingRequest.getCourseId());
+        assertEquals(List.of(firstStudent.getEmail(), thirdStudent.getEmail()), indexingRequest.getStudentEmails());
+    }
 
+    @Test
+    public void testExecute_studentFailedToEnroll_studentAddedToErrorList() throws Exception {
+        Instructor instructor = getTypicalInstructor();
+        loginAsInstructor(instructor.getGoogleId());
         Student newStudent = new Student(course, "name", "email.com", "", team);
+        SqlEnrollmentResult enrollmentResult = new SqlEnrollmentResult();
+        enrollmentResult.addFailedEnrollment(newStudent.getEmail(), "error message");
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>(List.of(newStudent)));
-        when(mockLogic.getStudentForEmail(course.getId(), newStudent.getEmail())).thenReturn(newStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course), anyList())).thenReturn(enrollmentResult);
 
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
@@ -162,7 +180,27 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         List<EnrollStudentsData.EnrollErrorResults> errors =
                 ((EnrollStudentsData) result.getOutput()).getUnsuccessfulEnrolls();
         assertEquals(errors.size(), 1);
+        assertEquals(newStudent.getEmail(), errors.get(0).getStudentEmail());
+        assertEquals("error message", errors.get(0).getErrorMessage());
         assertEquals(enrolledStudents.size(), 0);
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    public void testExecute_invalidSectionsAndTeams_throwsInvalidOperationException() throws Exception {
+        Instructor instructor = getTypicalInstructor();
+        loginAsInstructor(instructor.getGoogleId());
+        Student newStudent = new Student(course, "name", "email.com", "", team);
+        when(mockLogic.getCourse(course.getId())).thenReturn(course);
+        doThrow(new EnrollException("error message"))
+                .when(mockLogic).validateSectionsAndTeams(anyList(), eq(course.getId()));
+
+        StudentsEnrollRequest req = prepareRequest(newStudent);
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, course.getId(),
+        };
+        verifyInvalidOperation(req, params);
+        verify(mockLogic, never()).enrollStudents(any(), anyList());
     }
 
     @Test
@@ -225,6 +263,14 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         verifyCannotAccess(params);
     }
 
+    private boolean isSameStudent(Student student, Student expected) {
+        return Objects.equals(student.getName(), expected.getName())
+                && Objects.equals(student.getEmail(), expected.getEmail())
+                && Objects.equals(student.getComments(), expected.getComments())
+                && Objects.equals(student.getTeamName(), "team")
+                && Objects.equals(student.getSectionName(), "section");
+    }
+
     private StudentsEnrollRequest prepareRequest(Student... studentsToEnroll) {
         List<StudentsEnrollRequest.StudentEnrollRequest> requestList = new ArrayList<>();
         Arrays.stream(studentsToEnroll).forEach(student -> requestList.add(
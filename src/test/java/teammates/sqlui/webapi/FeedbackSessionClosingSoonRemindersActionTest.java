@@ -9,13 +9,16 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlentity.DeadlineExtension;
@@ -57,13 +60,17 @@ public class FeedbackSessionClosingSoonRemindersActionTest
         deadlineExtension2 = mock(DeadlineExtension.class);
         deadlineExtension3 = mock(DeadlineExtension.class);
 
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
+        FeedbackSessionEmailBatch emailBatch = new FeedbackSessionEmailBatch("course-id", "session-name",
+                EmailType.FEEDBACK_CLOSING_SOON, List.of(UUID.randomUUID()), List.of());
+        FeedbackSessionEmailBatch emailBatch2 = new FeedbackSessionEmailBatch("course-id", "session-name-2",
+                EmailType.FEEDBACK_CLOSING_SOON, List.of(UUID.randomUUID()), List.of());
         EmailWrapper mockDeadlineEmail = mock(EmailWrapper.class);
         EmailWrapper mockDeadlineEmail2 = mock(EmailWrapper.class);
 
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session1)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session2)).thenReturn(List.of(mockEmail2));
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON))
+                .thenReturn(emailBatch);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(session2, EmailType.FEEDBACK_CLOSING_SOON))
+                .thenReturn(emailBatch2);
 
         when(deadlineExtension1.getFeedbackSession()).thenReturn(session1);
         when(deadlineExtension2.getFeedbackSession()).thenReturn(session1);
@@ -93,8 +100,10 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
 
             // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session2);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session2, EmailType.FEEDBACK_CLOSING_SOON);
             verify(session1, times(1)).setClosingSoonEmailSent(true);
             verify(session2, times(1)).setClosingSoonEmailSent(true);
 
@@ -121,7 +130,8 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
 
             // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON);
             verify(session1, times(1)).setClosingSoonEmailSent(true);
 
             // Verify deadline extensions grouping
@@ -266,8 +276,10 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(3));
 
             // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session2);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session2, EmailType.FEEDBACK_CLOSING_SOON);
             verify(session1, times(1)).setClosingSoonEmailSent(true);
             verify(session2, times(1)).setClosingSoonEmailSent(true);
 
@@ -304,7 +316,8 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(3));
 
             // Verify regular closing soon emails (only session1)
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
+            verify(mockSqlEmailGenerator, times(1))
+                    .generateFeedbackSessionEmailBatch(session1, EmailType.FEEDBACK_CLOSING_SOON);
             verify(session1, times(1)).setClosingSoonEmailSent(true);
 
             // Verify deadline extensions grouping
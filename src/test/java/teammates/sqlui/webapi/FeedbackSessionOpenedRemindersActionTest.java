@@ -9,14 +9,16 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.util.Const;
-import teammates.common.util.EmailWrapper;
+import teammates.common.util.EmailType;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
@@ -46,11 +48,15 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
         session = mock(FeedbackSession.class);
         session2 = mock(FeedbackSession.class);
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
-
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpenedEmails(session)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpenedEmails(session2)).thenReturn(List.of(mockEmail2));
+        FeedbackSessionEmailBatch emailBatch = new FeedbackSessionEmailBatch("course-id", "session-name",
+                EmailType.FEEDBACK_OPENED, List.of(UUID.randomUUID()), List.of());
+        FeedbackSessionEmailBatch emailBatch2 = new FeedbackSessionEmailBatch("course-id", "session-name-2",
+                EmailType.FEEDBACK_OPENED, List.of(UUID.randomUUID()), List.of());
+
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_OPENED))
+                .thenReturn(emailBatch);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(session2, EmailType.FEEDBACK_OPENED))
+                .thenReturn(emailBatch2);
     }
 
     @Test
@@ -63,8 +69,8 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session2);
+            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_OPENED);
+            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(session2, EmailType.FEEDBACK_OPENED);
             verify(session, times(1)).setOpenedEmailSent(true);
             verify(session2, times(1)).setOpenedEmailSent(true);
 
@@ -84,7 +90,7 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session);
+            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_OPENED);
             verify(session, times(1)).setOpenedEmailSent(true);
 
             verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
@@ -8,12 +8,11 @@ import java.util.List;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
-import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
@@ -90,19 +89,8 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         String courseId = session.getCourse().getId();
         String sessionName = session.getName();
 
-        Course course = session.getCourse();
-
-        EmailWrapper studentEmail = new EmailWrapper();
-        studentEmail.setRecipient(student.getEmail());
-        studentEmail.setType(EmailType.FEEDBACK_PUBLISHED);
-        studentEmail.setSubjectFromType(course.getName(), session.getName());
-
-        EmailWrapper instructorEmail = new EmailWrapper();
-        instructorEmail.setRecipient(instructor.getEmail());
-        instructorEmail.setType(EmailType.FEEDBACK_PUBLISHED);
-        instructorEmail.setSubjectFromType(course.getName(), session.getName());
-
-        List<EmailWrapper> emails = List.of(studentEmail, instructorEmail);
+        FeedbackSessionEmailBatch emailBatch = new FeedbackSessionEmailBatch(courseId, sessionName,
+                EmailType.FEEDBACK_PUBLISHED, List.of(student.getId(), instructor.getId()), List.of());
 
         session.setPublishedEmailSent(false);
 
@@ -115,7 +103,8 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         expectedSession.setPublishedEmailSent(true);
 
         when(mockLogic.getFeedbackSession(sessionName, courseId)).thenReturn(session);
-        when(mockSqlEmailGenerator.generateFeedbackSessionPublishedEmails(session)).thenReturn(emails);
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailBatch(session, EmailType.FEEDBACK_PUBLISHED))
+                .thenReturn(emailBatch);
 
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, courseId,
@@ -128,17 +117,12 @@ public class FeedbackSessionPublishedEmailWorkerActionTest
         assertEquals("Successful", actionOutput.getMessage());
 
         // Checking Task Queue
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
-
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
-                    + String.format(EmailType.FEEDBACK_PUBLISHED.getSubject(),
-                    course.getName(), session.getName());
-            assertEquals(expectedSubject, email.getSubject());
-        }
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        SendEmailRequest requestBody = (SendEmailRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody();
+        assertNull(requestBody.getEmail());
+        assertEquals(EmailType.FEEDBACK_PUBLISHED, requestBody.getEmailBatch().getEmailType());
+        assertEquals(List.of(student.getId(), instructor.getId()), requestBody.getEmailBatch().getUserIds());
     }
 
     @Test
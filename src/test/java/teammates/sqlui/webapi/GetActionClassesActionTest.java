@@ -115,6 +115,7 @@ import teammates.ui.webapi.SendLoginEmailAction;
 import teammates.ui.webapi.SessionLinksRecoveryAction;
 import teammates.ui.webapi.StudentCourseJoinEmailWorkerAction;
 import teammates.ui.webapi.StudentSearchIndexingWorkerAction;
+import teammates.ui.webapi.StudentsSearchIndexingWorkerAction;
 import teammates.ui.webapi.SubmitFeedbackResponsesAction;
 import teammates.ui.webapi.UnpublishFeedbackSessionAction;
 import teammates.ui.webapi.UpdateAccountRequestAction;
@@ -245,6 +246,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
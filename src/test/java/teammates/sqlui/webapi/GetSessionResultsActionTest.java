@@ -71,7 +71,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                 new HashSet<>(), new HashSet<>(), new ArrayList<>(),
                 new ArrayList<>(), new HashMap<>(), new HashMap<>(),
                 new HashMap<>(), new HashMap<>(), new SqlCourseRoster(new ArrayList<>(), new ArrayList<>()));
-        expectedResults = SessionResultsData.initForInstructor(resultsStub);
+        expectedResults = SessionResultsData.initForInstructor(resultsStub, false);
         reset(mockLogic);
     }
 
@@ -297,7 +297,8 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
     private boolean isQuestionOutputEqual(SessionResultsData.QuestionOutput expected,
                                           SessionResultsData.QuestionOutput actual) {
         if (!JsonUtils.toJson(expected.getFeedbackQuestion()).equals(JsonUtils.toJson(actual.getFeedbackQuestion()))
-                || !expected.getQuestionStatistics().equals(actual.getQuestionStatistics())
+                || !JsonUtils.toJson(expected.getQuestionStatistics())
+                        .equals(JsonUtils.toJson(actual.getQuestionStatistics()))
                 || expected.getHasResponseButNotVisibleForPreview() != actual.getHasResponseButNotVisibleForPreview()
                 || expected.getHasCommentNotVisibleForPreview() != actual.getHasCommentNotVisibleForPreview()) {
             return false;
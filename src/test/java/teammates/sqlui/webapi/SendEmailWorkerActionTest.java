@@ -0,0 +1,197 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackSessionEmailBatch;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailRequest;
+import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseActionTest<SendEmailWorkerAction> {
+
+    private FeedbackSession session;
+    private Student student;
+    private Instructor instructor;
+    private FeedbackSessionEmailBatch emailBatch;
+
+    @Override
+    String getActionUri() {
+        return TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUpMethod() {
+        reset(mockLogic, mockSqlEmailGenerator);
+        mockEmailSender.setShouldFail(false);
+        mockEmailSender.setFailingRecipient(null);
+
+        session = getTypicalFeedbackSessionForCourse(getTypicalCourse());
+        student = getTypicalStudent();
+        instructor = getTypicalInstructor();
+        emailBatch = new FeedbackSessionEmailBatch(session.getCourseId(), session.getName(),
+                EmailType.FEEDBACK_OPENED, List.of(student.getId()), List.of(instructor.getId()));
+    }
+
+    @AfterMethod
+    void tearDownMethod() {
+        mockEmailSender.setShouldFail(false);
+        mockEmailSender.setFailingRecipient(null);
+    }
+
+    private EmailWrapper getEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        email.setSenderEmail("sender@teammates.tmt");
+        email.setReplyTo("reply-to@teammates.tmt");
+        email.setType(EmailType.FEEDBACK_OPENED);
+        email.setSubjectFromType(session.getCourse().getName(), session.getName());
+        email.setContent("content");
+        return email;
+    }
+
+    @Test
+    void testExecute_invalidRequestBody_throwsInvalidHttpRequestBodyException() {
+        verifyHttpRequestBodyFailure(new SendEmailRequest((EmailWrapper) null));
+        verifyHttpRequestBodyFailure(new SendEmailRequest(new EmailWrapper()));
+        verifyHttpRequestBodyFailure(new SendEmailRequest(new FeedbackSessionEmailBatch(null, session.getName(),
+                EmailType.FEEDBACK_OPENED, List.of(student.getId()), List.of())));
+        verifyHttpRequestBodyFailure(new SendEmailRequest(new FeedbackSessionEmailBatch(session.getCourseId(),
+                session.getName(), null, List.of(student.getId()), List.of())));
+        verifyHttpRequestBodyFailure(new SendEmailRequest(new FeedbackSessionEmailBatch(session.getCourseId(),
+                session.getName(), EmailType.FEEDBACK_OPENED, List.of(), List.of())));
+    }
+
+    @Test
+    void testExecute_singleEmail_emailSent() {
+        EmailWrapper email = getEmail(student.getEmail());
+
+        JsonResult res = getJsonResult(getAction(new SendEmailRequest(email)));
+
+        assertEquals("Successful", ((MessageOutput) res.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(1);
+        assertEquals(student.getEmail(), getEmailsSent().get(0).getRecipient());
+        assertEquals("content", getEmailsSent().get(0).getContent());
+
+        ______TS("failure to send email is retried by the task queue");
+
+        mockEmailSender.setShouldFail(true);
+        res = getJsonResult(getAction(new SendEmailRequest(email)), HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals("Failure", ((MessageOutput) res.getOutput()).getMessage());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emailBatch_emailsRenderedAndSent() {
+        List<EmailWrapper> emails = List.of(getEmail(student.getEmail()), getEmail(instructor.getEmail()));
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(any(FeedbackSessionEmailBatch.class)))
+                .thenReturn(emails);
+
+        JsonResult res = getJsonResult(getAction(new SendEmailRequest(emailBatch)));
+
+        assertEquals("Successful", ((MessageOutput) res.getOutput()).getMessage());
+        assertEquals(emails, getEmailsSent());
+        verifyNoTasksAdded();
+        verify(mockSqlEmailGenerator).generateFeedbackSessionEmailsWithTransaction(argThat(batch ->
+                batch.getCourseId().equals(session.getCourseId())
+                        && batch.getFeedbackSessionName().equals(session.getName())
+                        && batch.getEmailType() == EmailType.FEEDBACK_OPENED
+                        && batch.getUserIds().equals(List.of(student.getId()))
+                        && batch.getCopyRecipientIds().equals(List.of(instructor.getId()))));
+
+        ______TS("recipient no longer to be sent the email is skipped");
+
+        mockEmailSender.clearEmails();
+        EmailWrapper instructorEmail = getEmail(instructor.getEmail());
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(any(FeedbackSessionEmailBatch.class)))
+                .thenReturn(Arrays.asList(null, instructorEmail));
+
+        res = getJsonResult(getAction(new SendEmailRequest(emailBatch)));
+
+        assertEquals("Successful", ((MessageOutput) res.getOutput()).getMessage());
+        assertEquals(List.of(instructorEmail), getEmailsSent());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emailBatchFailedBeforeAnyEmailSent_retriedByTaskQueue() {
+        List<EmailWrapper> emails = List.of(getEmail(student.getEmail()), getEmail(instructor.getEmail()));
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(any(FeedbackSessionEmailBatch.class)))
+                .thenReturn(emails);
+        mockEmailSender.setFailingRecipient(student.getEmail());
+
+        JsonResult res = getJsonResult(getAction(new SendEmailRequest(emailBatch)), HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals("Failure", ((MessageOutput) res.getOutput()).getMessage());
+        verifyNoEmailsSent();
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emailBatchFailedAfterSomeEmailsSent_remainingEmailsQueued() {
+        List<EmailWrapper> emails = List.of(getEmail(student.getEmail()), getEmail(instructor.getEmail()));
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(any(FeedbackSessionEmailBatch.class)))
+                .thenReturn(emails);
+        mockEmailSender.setFailingRecipient(instructor.getEmail());
+
+        JsonResult res = getJsonResult(getAction(new SendEmailRequest(emailBatch)));
+
+        assertEquals("Partially successful", ((MessageOutput) res.getOutput()).getMessage());
+        assertEquals(List.of(emails.get(0)), getEmailsSent());
+        verifySpecifiedTasksAdded(TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        FeedbackSessionEmailBatch remainingBatch =
+                ((SendEmailRequest) mockTaskQueuer.getTasksAdded().get(0).getRequestBody()).getEmailBatch();
+        assertEquals(session.getCourseId(), remainingBatch.getCourseId());
+        assertEquals(session.getName(), remainingBatch.getFeedbackSessionName());
+        assertEquals(EmailType.FEEDBACK_OPENED, remainingBatch.getEmailType());
+        assertEquals(List.of(), remainingBatch.getUserIds());
+        assertEquals(List.of(instructor.getId()), remainingBatch.getCopyRecipientIds());
+    }
+
+    @Test
+    void testExecute_emailBatchOfNonExistentSession_failure() {
+        when(mockSqlEmailGenerator.generateFeedbackSessionEmailsWithTransaction(any(FeedbackSessionEmailBatch.class)))
+                .thenReturn(null);
+
+        JsonResult res = getJsonResult(getAction(new SendEmailRequest(new FeedbackSessionEmailBatch(
+                session.getCourseId(), session.getName(), EmailType.FEEDBACK_OPENED,
+                List.of(UUID.randomUUID()), List.of()))));
+
+        assertEquals("Failure", ((MessageOutput) res.getOutput()).getMessage());
+        verifyNoEmailsSent();
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testSpecificAccessControl_onlyAdmin_canAccess() {
+        verifyOnlyAdminsCanAccess();
+    }
+}
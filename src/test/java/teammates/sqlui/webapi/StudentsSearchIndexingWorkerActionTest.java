@@ -0,0 +1,110 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const.TaskQueue;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.StudentsSearchIndexingWorkerAction;
+
+/**
+ * SUT: {@link StudentsSearchIndexingWorkerAction}.
+ */
+public class StudentsSearchIndexingWorkerActionTest extends BaseActionTest<StudentsSearchIndexingWorkerAction> {
+
+    private Student typicalStudent;
+    private Student otherStudent;
+
+    @Override
+    String getActionUri() {
+        return TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Override
+    String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUpMethod() {
+        typicalStudent = getTypicalStudent();
+        otherStudent = new Student(typicalStudent.getCourse(), "other student", "other@teammates.tmt", "",
+                typicalStudent.getTeam());
+        reset(mockLogic);
+    }
+
+    @Test
+    void testExecute_invalidRequestBody_throwsInvalidHttpRequestBodyException() {
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(null, List.of(typicalStudent.getEmail())));
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), null));
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), List.of()));
+    }
+
+    @Test
+    void testExecute_typicalCase_allStudentsIndexed() throws Exception {
+        List<String> emails = List.of(typicalStudent.getEmail(), otherStudent.getEmail());
+        StudentsSearchIndexingRequest request = new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), emails);
+
+        when(mockLogic.getStudentsForEmails(typicalStudent.getCourseId(), emails))
+                .thenReturn(List.of(typicalStudent, otherStudent));
+
+        StudentsSearchIndexingWorkerAction action = getAction(request);
+        JsonResult res = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, res.getStatusCode());
+        assertEquals("Successful", ((MessageOutput) res.getOutput()).getMessage());
+
+        verify(mockLogic, times(1)).getStudentsForEmails(typicalStudent.getCourseId(), emails);
+        verify(mockLogic, times(1)).putStudentDocuments(List.of(typicalStudent, otherStudent));
+    }
+
+    @Test
+    void testExecute_putDocument_throwsException() throws Exception {
+        List<String> emails = List.of(typicalStudent.getEmail(), otherStudent.getEmail());
+        StudentsSearchIndexingRequest request = new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), emails);
+
+        when(mockLogic.getStudentsForEmails(typicalStudent.getCourseId(), emails))
+                .thenReturn(List.of(typicalStudent, otherStudent));
+        doThrow(new SearchServiceException("Failure", HttpStatus.SC_BAD_GATEWAY))
+                .when(mockLogic).putStudentDocuments(List.of(typicalStudent, otherStudent));
+
+        StudentsSearchIndexingWorkerAction action = getAction(request);
+        JsonResult res = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, res.getStatusCode());
+        assertEquals("Failure", ((MessageOutput) res.getOutput()).getMessage());
+
+        verify(mockLogic, times(1)).putStudentDocuments(List.of(typicalStudent, otherStudent));
+    }
+
+    @Test
+    void testSpecificAccessControl_onlyAdmin_canAccess() {
+        logoutUser();
+        verifyCannotAccess();
+
+        loginAsUnregistered("unregistered user");
+        verifyCannotAccess();
+
+        loginAsStudent(getTypicalStudent().getGoogleId());
+        verifyCannotAccess();
+
+        loginAsInstructor(getTypicalInstructor().getGoogleId());
+        verifyCannotAccess();
+
+        loginAsAdmin();
+        verifyCanAccess();
+    }
+}
@@ -1,23 +1,30 @@
 package teammates.sqlui.webapi;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -35,6 +42,7 @@ import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.ui.output.FeedbackResponseData;
 import teammates.ui.output.FeedbackResponsesData;
 import teammates.ui.request.FeedbackResponsesRequest;
@@ -107,6 +115,10 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
         when(mockLogic.getFeedbackSession(stubFeedbackSession.getName(), stubFeedbackSession.getCourseId()))
                 .thenReturn(stubFeedbackSession);
         when(mockLogic.getFeedbackQuestion(spyFeedbackQuestion.getId())).thenReturn(spyFeedbackQuestion);
+        when(mockLogic.getRecipientSections(any(FeedbackQuestion.class), anyCollection())).thenAnswer(invocation -> {
+            Collection<String> recipients = invocation.getArgument(1);
+            return recipients.stream().collect(Collectors.toMap(Function.identity(), recipient -> stubSection));
+        });
         when(mockLogic.getDeadlineForUser(any(FeedbackSession.class), any()))
                 .thenAnswer(invocation -> ((FeedbackSession) invocation.getArgument(0)).getEndTime());
     }
@@ -254,12 +266,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        FeedbackResponse createdResponse = FeedbackResponse.makeResponse(
-                spyFeedbackQuestion, stubStudent.getEmail(), stubSection,
-                recipientStudent1.getEmail(), stubSection,
-                new FeedbackTextResponseDetails("Response for " + recipientStudent1.getEmail()));
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenReturn(createdResponse);
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -281,9 +288,9 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
         verify(mockLogic).getRecipientsOfQuestion(spyFeedbackQuestion, null, stubStudent);
         verify(mockLogic).populateFieldsToGenerateInQuestion(
                 spyFeedbackQuestion, stubCourse.getId(), stubStudent.getEmail(), stubStudent.getTeamName());
-        verify(mockLogic).createFeedbackResponse(argThat(response ->
-                response.getGiver().equals(stubStudent.getEmail())
-                        && response.getRecipient().equals(recipientStudent1.getEmail())));
+        verify(mockLogic).upsertFeedbackResponsesCascade(argThat(upserted -> upserted.size() == 1
+                && upserted.get(0).getGiver().equals(stubStudent.getEmail())
+                && upserted.get(0).getRecipient().equals(recipientStudent1.getEmail())), eq(List.of()));
     }
 
     @Test
@@ -306,12 +313,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        FeedbackResponse createdResponse = FeedbackResponse.makeResponse(
-                spyFeedbackQuestion, stubInstructor.getEmail(), stubSection,
-                recipientInstructor1.getEmail(), stubSection,
-                new FeedbackTextResponseDetails("Response for " + recipientInstructor1.getEmail()));
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenReturn(createdResponse);
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -333,9 +335,9 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
         verify(mockLogic).getRecipientsOfQuestion(spyFeedbackQuestion, stubInstructor, null);
         verify(mockLogic).populateFieldsToGenerateInQuestion(
                 spyFeedbackQuestion, stubCourse.getId(), stubInstructor.getEmail(), null);
-        verify(mockLogic).createFeedbackResponse(argThat(response ->
-                response.getGiver().equals(stubInstructor.getEmail())
-                        && response.getRecipient().equals(recipientInstructor1.getEmail())));
+        verify(mockLogic).upsertFeedbackResponsesCascade(argThat(upserted -> upserted.size() == 1
+                && upserted.get(0).getGiver().equals(stubInstructor.getEmail())
+                && upserted.get(0).getRecipient().equals(recipientInstructor1.getEmail())), eq(List.of()));
     }
 
     @Test
@@ -372,12 +374,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        FeedbackResponse updatedResponse = FeedbackResponse.makeResponse(
-                spyFeedbackQuestion, stubStudent.getEmail(), stubSection,
-                recipientStudent1.getEmail(), stubSection,
-                new FeedbackTextResponseDetails("Updated response 1"));
-        when(mockLogic.updateFeedbackResponseCascade(any(FeedbackResponse.class)))
-                .thenReturn(updatedResponse);
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -391,13 +388,13 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
         FeedbackResponsesData result = (FeedbackResponsesData) getJsonResult(action).getOutput();
 
         assertEquals(1, result.getResponses().size());
-        verify(mockLogic).updateFeedbackResponseCascade(any(FeedbackResponse.class));
         verify(mockLogic).deleteFeedbackResponsesAndCommentsCascade(existingResponse2);
         verify(mockLogic).getFeedbackResponsesFromStudentOrTeamForQuestion(spyFeedbackQuestion, stubStudent);
         verify(mockLogic).getRecipientsOfQuestion(spyFeedbackQuestion, null, stubStudent);
-        verify(mockLogic).updateFeedbackResponseCascade(argThat(response ->
-                response.getGiver().equals(stubStudent.getEmail())
-                        && response.getRecipient().equals(recipientStudent1.getEmail())));
+        verify(mockLogic).upsertFeedbackResponsesCascade(eq(List.of()), argThat(upserted -> upserted.size() == 1
+                && upserted.get(0).getId().equals(existingResponse1.getId())
+                && upserted.get(0).getGiver().equals(stubStudent.getEmail())
+                && upserted.get(0).getRecipient().equals(recipientStudent1.getEmail())));
         verify(mockLogic).deleteFeedbackResponsesAndCommentsCascade(existingResponse2);
     }
 
@@ -422,8 +419,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -438,8 +434,8 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         assertEquals(1, result.getResponses().size());
         assertEquals(stubStudent.getTeamName(), result.getResponses().get(0).getGiverIdentifier());
-        verify(mockLogic).createFeedbackResponse(argThat(response ->
-                response.getGiver() != null && response.getGiver().equals(stubStudent.getTeamName())));
+        verify(mockLogic).upsertFeedbackResponsesCascade(argThat(upserted -> upserted.size() == 1
+                && stubStudent.getTeamName().equals(upserted.get(0).getGiver())), eq(List.of()));
     }
 
     @Test
@@ -497,8 +493,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
                 .thenReturn(recipients);
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -539,8 +534,53 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpsertFeedbackResponses();
+
+        List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
+        responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
+                recipientStudent1.getEmail(),
+                new FeedbackTextResponseDetails("Response for " + recipientStudent1.getEmail())));
+        responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
+                recipientStudent2.getEmail(),
+                new FeedbackTextResponseDetails("Response for " + recipientStudent2.getEmail())));
+
+        FeedbackResponsesRequest requestBody = new FeedbackResponsesRequest();
+        requestBody.setResponses(responses);
+
+        SubmitFeedbackResponsesAction action = getAction(requestBody, params);
+        FeedbackResponsesData result = (FeedbackResponsesData) getJsonResult(action).getOutput();
+
+        assertEquals(2, result.getResponses().size());
+    }
+
+    @Test
+    void testExecute_recipientsInDifferentSections_sectionsResolvedInOneCall() throws Exception {
+        loginAsStudent(stubStudent.getGoogleId());
+        spyFeedbackQuestion.setGiverType(FeedbackParticipantType.STUDENTS);
+        spyFeedbackQuestion.setRecipientType(FeedbackParticipantType.STUDENTS);
+        Section otherSection = new Section(stubCourse, "other-section");
+        recipientStudent2.setTeam(new Team(otherSection, "other-team"));
+
+        String[] params = {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, spyFeedbackQuestion.getId().toString(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+
+        when(mockLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(spyFeedbackQuestion, stubStudent))
+                .thenReturn(List.of());
+
+        Map<String, FeedbackQuestionRecipient> recipients = Map.of(
+                recipientStudent1.getEmail(),
+                new FeedbackQuestionRecipient(recipientStudent1.getName(), recipientStudent1.getEmail()),
+                recipientStudent2.getEmail(),
+                new FeedbackQuestionRecipient(recipientStudent2.getName(), recipientStudent2.getEmail()));
+        when(mockLogic.getRecipientsOfQuestion(spyFeedbackQuestion, null, stubStudent))
+                .thenReturn(recipients);
+        when(mockLogic.getRecipientSections(eq(spyFeedbackQuestion), anyCollection()))
+                .thenReturn(Map.of(recipientStudent1.getEmail(), recipientStudent1.getSection(),
+                        recipientStudent2.getEmail(), otherSection));
+
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -557,6 +597,15 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
         FeedbackResponsesData result = (FeedbackResponsesData) getJsonResult(action).getOutput();
 
         assertEquals(2, result.getResponses().size());
+        verify(mockLogic, times(1)).getRecipientSections(eq(spyFeedbackQuestion), argThat(recipientsToResolve ->
+                recipientsToResolve.size() == 2 && recipientsToResolve.contains(recipientStudent1.getEmail())
+                        && recipientsToResolve.contains(recipientStudent2.getEmail())));
+        verify(mockLogic, never()).getStudentsForCourse(anyString());
+        verify(mockLogic, never()).getStudentForEmail(anyString(), anyString());
+        verify(mockLogic, never()).getDefaultSectionOrCreate(anyString());
+        verify(mockLogic).upsertFeedbackResponsesCascade(argThat(responsesToCreate -> responsesToCreate.size() == 2
+                && responsesToCreate.get(0).getRecipientSection().equals(recipientStudent1.getSection())
+                && responsesToCreate.get(1).getRecipientSection().equals(otherSection)), eq(List.of()));
     }
 
     @Test
@@ -581,8 +630,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
 
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -643,8 +691,7 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
                 .thenReturn(recipients);
 
         when(mockLogic.getDefaultSectionOrCreate(stubCourse.getId())).thenReturn(stubSection);
-        when(mockLogic.createFeedbackResponse(any(FeedbackResponse.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        stubUpsertFeedbackResponses();
 
         List<FeedbackResponsesRequest.FeedbackResponseRequest> responses = new ArrayList<>();
         responses.add(new FeedbackResponsesRequest.FeedbackResponseRequest(
@@ -979,4 +1026,12 @@ public class SubmitFeedbackResponsesActionTest extends BaseActionTest<SubmitFeed
 
         verifyCannotAccess(params);
     }
+
+    private void stubUpsertFeedbackResponses() throws Exception {
+        when(mockLogic.upsertFeedbackResponsesCascade(anyList(), anyList())).thenAnswer(invocation -> {
+            List<FeedbackResponse> upsertedResponses = new ArrayList<>(invocation.getArgument(0));
+            upsertedResponses.addAll(invocation.getArgument(1));
+            return upsertedResponses;
+        });
+    }
 }
@@ -152,6 +152,37 @@ public class FeedbackResponsesDbTest extends BaseTestCase {
         mockHibernateUtil.verify(() -> HibernateUtil.merge(fr), never());
     }
 
+    @Test
+    public void testUpsertFeedbackResponses_success() throws InvalidParametersException {
+        FeedbackResponse responseToCreate = getTypicalFeedbackResponse();
+        FeedbackResponse responseToUpdate = getTypicalFeedbackResponse();
+        FeedbackResponse mergedResponse = getTypicalFeedbackResponse();
+
+        mockHibernateUtil.when(() -> HibernateUtil.merge(responseToUpdate)).thenReturn(mergedResponse);
+
+        List<FeedbackResponse> result = feedbackResponsesDb.upsertFeedbackResponses(
+                List.of(responseToCreate), List.of(responseToUpdate));
+
+        assertEquals(List.of(responseToCreate, mergedResponse), result);
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(responseToCreate), times(1));
+        mockHibernateUtil.verify(() -> HibernateUtil.merge(responseToUpdate), times(1));
+        mockHibernateUtil.verify(() -> HibernateUtil.get(any(), any()), never());
+    }
+
+    @Test
+    public void testUpsertFeedbackResponses_invalidFeedbackResponse_nothingWritten() {
+        FeedbackResponse responseToCreate = getTypicalFeedbackResponse();
+        FeedbackResponse spyFr = spy(getInvalidFeedbackResponse());
+        doReturn(List.of("Invalid response")).when(spyFr).getInvalidityInfo();
+
+        InvalidParametersException ipe = assertThrows(InvalidParametersException.class,
+                () -> feedbackResponsesDb.upsertFeedbackResponses(List.of(responseToCreate), List.of(spyFr)));
+
+        assertEquals(spyFr.getInvalidityInfo(), List.of(ipe.getMessage()));
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(any()), never());
+        mockHibernateUtil.verify(() -> HibernateUtil.merge(any()), never());
+    }
+
     @Test
     public void testDeleteFeedbackResponse_success() {
         FeedbackResponse fr = getTypicalFeedbackResponse();
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 
+import java.util.List;
+
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -73,6 +75,30 @@ public class UsersDbTest extends BaseTestCase {
         mockHibernateUtil.verify(() -> HibernateUtil.persist(newStudent), never());
     }
 
+    @Test
+    public void testCreateStudents_allStudentsValid_allPersisted() throws InvalidParametersException {
+        Student firstStudent = getTypicalStudent();
+        Student secondStudent = getTypicalStudent();
+        secondStudent.setEmail("second@teammates.tmt");
+
+        usersDb.createStudents(List.of(firstStudent, secondStudent));
+
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(firstStudent));
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(secondStudent));
+    }
+
+    @Test
+    public void testCreateStudents_oneStudentInvalid_noneIsPersisted() {
+        Student validStudent = getTypicalStudent();
+        Student invalidStudent = getTypicalStudent();
+        invalidStudent.setEmail("invalid-email");
+
+        assertThrows(InvalidParametersException.class,
+                () -> usersDb.createStudents(List.of(validStudent, invalidStudent)));
+
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(any()), never());
+    }
+
     @Test
     public void testGetInstructor_instructorIdPresent_success() {
         Instructor instructor = getTypicalInstructor();
@@ -190,4 +216,15 @@ public class UsersDbTest extends BaseTestCase {
         assertEquals(t, team);
         mockHibernateUtil.verify(() -> HibernateUtil.persist(any()), never());
     }
+
+    @Test
+    public void testCreateSectionsAndTeams_typicalCase_allPersisted() {
+        Section section = getTypicalSection();
+        Team team = getTypicalTeam();
+
+        usersDb.createSectionsAndTeams(List.of(section), List.of(team));
+
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(section));
+        mockHibernateUtil.verify(() -> HibernateUtil.persist(team));
+    }
 }
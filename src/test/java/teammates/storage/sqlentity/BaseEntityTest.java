@@ -0,0 +1,77 @@
+package teammates.storage.sqlentity;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.util.JsonUtils;
+import teammates.storage.sqlentity.BaseEntity.FeedbackQuestionDetailsConverter;
+import teammates.storage.sqlentity.BaseEntity.FeedbackResponseDetailsConverter;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link BaseEntity}.
+ */
+public class BaseEntityTest extends BaseTestCase {
+
+    private final FeedbackQuestionDetailsConverter questionDetailsConverter = new FeedbackQuestionDetailsConverter();
+    private final FeedbackResponseDetailsConverter responseDetailsConverter = new FeedbackResponseDetailsConverter();
+
+    @Test
+    public void testFeedbackResponseDetailsConverter_write_shouldUseCompactJson() {
+        FeedbackMcqResponseDetails details = getMcqResponseDetails();
+
+        String dbData = responseDetailsConverter.convertToDatabaseColumn(details);
+
+        assertEquals(JsonUtils.toCompactJson(details), dbData);
+        assertFalse(dbData.contains("\n"));
+    }
+
+    @Test
+    public void testFeedbackResponseDetailsConverter_read_shouldAcceptCompactAndLegacyJson() {
+        FeedbackMcqResponseDetails details = getMcqResponseDetails();
+        String expectedJson = JsonUtils.toCompactJson(details);
+
+        ______TS("compact JSON");
+        FeedbackResponseDetails actual =
+                responseDetailsConverter.convertToEntityAttribute(responseDetailsConverter.convertToDatabaseColumn(details));
+        assertTrue(actual instanceof FeedbackMcqResponseDetails);
+        assertEquals(expectedJson, JsonUtils.toCompactJson(actual));
+
+        ______TS("legacy pretty-printed JSON");
+        actual = responseDetailsConverter.convertToEntityAttribute(JsonUtils.toJson(details));
+        assertTrue(actual instanceof FeedbackMcqResponseDetails);
+        assertEquals(expectedJson, JsonUtils.toCompactJson(actual));
+    }
+
+    @Test
+    public void testFeedbackQuestionDetailsConverter_writeAndRead_shouldRoundTripCompactAndLegacyJson() {
+        FeedbackMcqQuestionDetails details = new FeedbackMcqQuestionDetails("What is your favourite colour?");
+        details.setMcqChoices(List.of("Red", "Green", "Blue"));
+        String expectedJson = JsonUtils.toCompactJson(details);
+
+        ______TS("compact JSON");
+        String dbData = questionDetailsConverter.convertToDatabaseColumn(details);
+        assertEquals(expectedJson, dbData);
+        FeedbackQuestionDetails actual = questionDetailsConverter.convertToEntityAttribute(dbData);
+        assertTrue(actual instanceof FeedbackMcqQuestionDetails);
+        assertEquals(expectedJson, JsonUtils.toCompactJson(actual));
+
+        ______TS("legacy pretty-printed JSON");
+        actual = questionDetailsConverter.convertToEntityAttribute(JsonUtils.toJson(details));
+        assertTrue(actual instanceof FeedbackMcqQuestionDetails);
+        assertEquals(expectedJson, JsonUtils.toCompactJson(actual));
+    }
+
+    private FeedbackMcqResponseDetails getMcqResponseDetails() {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer("Other");
+        details.setOther(true);
+        details.setOtherFieldContent("Contains \"questionType\": \"TEXT\"\nacross lines");
+        return details;
+    }
+}
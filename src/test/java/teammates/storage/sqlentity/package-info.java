@@ -0,0 +1,4 @@
+/**
+ * Contains test cases for {@link teammates.storage.sqlentity} package.
+ */
+package teammates.storage.sqlentity;
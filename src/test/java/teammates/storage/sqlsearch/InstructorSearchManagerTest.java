@@ -1,18 +1,22 @@
 package teammates.storage.sqlsearch;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.solr.client.solrj.SolrQuery;
@@ -112,7 +116,8 @@ public class InstructorSearchManagerTest extends BaseTestCase {
 
         when(mockClient.query(eq("instructors"), any(SolrQuery.class))).thenReturn(mockResponse);
         when(mockResponse.getResults()).thenReturn(mockResults);
-        when(mockUsersDb.getInstructorForEmail(course.getId(), instructor.getEmail())).thenReturn(instructor);
+        when(mockUsersDb.getInstructorsForCourseEmails(Map.of(course.getId(), List.of(instructor.getEmail()))))
+                .thenReturn(new ArrayList<>(List.of(instructor)));
 
         List<Instructor> results = managerWithMock.searchInstructors("instructor");
 
@@ -121,6 +126,41 @@ public class InstructorSearchManagerTest extends BaseTestCase {
         assertEquals(results.get(0), instructor);
     }
 
+    @Test
+    public void testSearchInstructors_multipleHits_hydratesInSingleQuery() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        CoursesDb mockCoursesDb = mock(CoursesDb.class);
+        UsersDb mockUsersDb = mock(UsersDb.class);
+        InstructorSearchManager managerWithMock =
+                new InstructorSearchManager(mockClient, mockCoursesDb, mockUsersDb, false);
+
+        Course course = createTestCourse();
+        Instructor instructor1 = createTestInstructor(course, "instructor1@example.com", "Instructor One");
+        Instructor instructor2 = createTestInstructor(course, "instructor2@example.com", "Instructor Two");
+
+        SolrDocumentList mockResults = new SolrDocumentList();
+        for (Instructor instructor : List.of(instructor2, instructor1)) {
+            SolrDocument mockDoc = new SolrDocument();
+            mockDoc.addField("courseId", instructor.getCourseId());
+            mockDoc.addField("email", instructor.getEmail());
+            mockResults.add(mockDoc);
+        }
+
+        QueryResponse mockResponse = mock(QueryResponse.class);
+        when(mockClient.query(eq("instructors"), any(SolrQuery.class))).thenReturn(mockResponse);
+        when(mockResponse.getResults()).thenReturn(mockResults);
+        Map<String, List<String>> expectedEmailsByCourseId =
+                Map.of(course.getId(), List.of("instructor2@example.com", "instructor1@example.com"));
+        when(mockUsersDb.getInstructorsForCourseEmails(expectedEmailsByCourseId))
+                .thenReturn(new ArrayList<>(List.of(instructor2, instructor1)));
+
+        List<Instructor> results = managerWithMock.searchInstructors("instructor");
+
+        assertEquals(results, List.of(instructor1, instructor2));
+        verify(mockUsersDb, times(1)).getInstructorsForCourseEmails(expectedEmailsByCourseId);
+        verify(mockUsersDb, never()).getInstructorForEmail(anyString(), anyString());
+    }
+
     @Test
     public void testPutDocument_withMockedClient_success() throws Exception {
         HttpSolrClient mockClient = mock(HttpSolrClient.class);
@@ -139,8 +179,8 @@ public class InstructorSearchManagerTest extends BaseTestCase {
         @SuppressWarnings("unchecked")
         ArgumentCaptor<Collection<SolrInputDocument>> collectionCaptor =
                 ArgumentCaptor.forClass(Collection.class);
-        verify(mockClient).add(eq("instructors"), collectionCaptor.capture());
-        verify(mockClient).commit(eq("instructors"));
+        verify(mockClient).add(eq("instructors"), collectionCaptor.capture(), eq(SearchManager.COMMIT_WITHIN_MS));
+        verify(mockClient, never()).commit(anyString());
 
         Collection<SolrInputDocument> capturedCollection = collectionCaptor.getValue();
         assertNotNull(capturedCollection);
@@ -154,6 +194,43 @@ public class InstructorSearchManagerTest extends BaseTestCase {
         assertNotNull(document.getFieldValue("_text_"));
     }
 
+    @Test
+    public void testPutDocuments_withMockedClient_allDocumentsSentInOneRequest() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        CoursesDb mockCoursesDb = mock(CoursesDb.class);
+        UsersDb mockUsersDb = mock(UsersDb.class);
+        InstructorSearchManager managerWithMock =
+                new InstructorSearchManager(mockClient, mockCoursesDb, mockUsersDb, false);
+
+        Course course = createTestCourse();
+        Instructor firstInstructor = createTestInstructor(course);
+        Instructor secondInstructor = createTestInstructor(course);
+        secondInstructor.setEmail("second-instructor@example.com");
+
+        when(mockCoursesDb.getCourse(course.getId())).thenReturn(course);
+
+        managerWithMock.putDocuments(Arrays.asList(firstInstructor, null, secondInstructor));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SolrInputDocument>> collectionCaptor =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(mockClient).add(eq("instructors"), collectionCaptor.capture(), eq(SearchManager.COMMIT_WITHIN_MS));
+        verify(mockClient, never()).commit(anyString());
+
+        Collection<SolrInputDocument> capturedCollection = collectionCaptor.getValue();
+        assertEquals(capturedCollection.size(), 2);
+    }
+
+    @Test
+    public void testPutDocuments_withEmptyList_doesNothing() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        InstructorSearchManager managerWithMock = new InstructorSearchManager(mockClient, false);
+
+        managerWithMock.putDocuments(new ArrayList<>());
+
+        verifyNoInteractions(mockClient);
+    }
+
     @Test
     public void testDeleteDocuments_withMockedClient_success() throws Exception {
         HttpSolrClient mockClient = mock(HttpSolrClient.class);
@@ -165,8 +242,8 @@ public class InstructorSearchManagerTest extends BaseTestCase {
 
         managerWithMock.deleteDocuments(keys);
 
-        verify(mockClient).deleteById("instructors", keys);
-        verify(mockClient).commit("instructors");
+        verify(mockClient).deleteById("instructors", keys, SearchManager.COMMIT_WITHIN_MS);
+        verify(mockClient, never()).commit(anyString());
     }
 
     @Test
@@ -176,7 +253,7 @@ public class InstructorSearchManagerTest extends BaseTestCase {
 
         managerWithMock.deleteDocuments(new ArrayList<>());
 
-        verify(mockClient, never()).deleteById(anyString(), anyList());
+        verify(mockClient, never()).deleteById(anyString(), anyList(), anyInt());
         verify(mockClient, never()).commit(anyString());
     }
 
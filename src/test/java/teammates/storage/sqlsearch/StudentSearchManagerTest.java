@@ -4,6 +4,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -12,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.solr.client.solrj.SolrQuery;
@@ -116,7 +119,8 @@ public class StudentSearchManagerTest extends BaseTestCase {
 
         when(mockClient.query(eq("students"), any(SolrQuery.class))).thenReturn(mockResponse);
         when(mockResponse.getResults()).thenReturn(mockResults);
-        when(mockStudentsDb.getStudentForEmail(course.getId(), "student@example.com")).thenReturn(student);
+        when(mockStudentsDb.getStudentsForCourseEmails(Map.of(course.getId(), List.of("student@example.com"))))
+                .thenReturn(new ArrayList<>(List.of(student)));
 
         List<Student> results = managerWithMock.searchStudents("student", null);
 
@@ -125,6 +129,49 @@ public class StudentSearchManagerTest extends BaseTestCase {
         assertEquals(results.get(0), student);
     }
 
+    @Test
+    public void testSearchStudents_multipleHits_hydratesInSingleQuery() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        CoursesDb mockCoursesDb = mock(CoursesDb.class);
+        UsersDb mockStudentsDb = mock(UsersDb.class);
+        StudentSearchManager managerWithMock =
+                new StudentSearchManager(mockClient, mockCoursesDb, mockStudentsDb, false);
+
+        Course course = createTestCourse();
+        Course otherCourse = new Course("other-course", "Other Course", "UTC", "Test Institute");
+        Student student1 = createTestStudent(course, "student1@example.com", "Student One", "Team 1", "Section 1");
+        Student student2 = createTestStudent(course, "student2@example.com", "Student Two", "Team 1", "Section 1");
+        Student student3 = createTestStudent(otherCourse, "student3@example.com", "Student Three", "Team 1", "Section 1");
+
+        SolrDocumentList mockResults = new SolrDocumentList();
+        for (Student student : List.of(student3, student1, student2)) {
+            SolrDocument mockDoc = new SolrDocument();
+            mockDoc.addField("courseId", student.getCourseId());
+            mockDoc.addField("email", student.getEmail());
+            mockResults.add(mockDoc);
+        }
+        // stale document without a corresponding student in the database
+        SolrDocument staleDoc = new SolrDocument();
+        staleDoc.addField("courseId", course.getId());
+        staleDoc.addField("email", "stale@example.com");
+        mockResults.add(staleDoc);
+
+        QueryResponse mockResponse = mock(QueryResponse.class);
+        when(mockClient.query(eq("students"), any(SolrQuery.class))).thenReturn(mockResponse);
+        when(mockResponse.getResults()).thenReturn(mockResults);
+        Map<String, List<String>> expectedEmailsByCourseId = Map.of(
+                course.getId(), List.of("student1@example.com", "student2@example.com", "stale@example.com"),
+                otherCourse.getId(), List.of("student3@example.com"));
+        when(mockStudentsDb.getStudentsForCourseEmails(expectedEmailsByCourseId))
+                .thenReturn(new ArrayList<>(List.of(student2, student3, student1)));
+
+        List<Student> results = managerWithMock.searchStudents("student", null);
+
+        assertEquals(results, List.of(student3, student1, student2));
+        verify(mockStudentsDb, times(1)).getStudentsForCourseEmails(expectedEmailsByCourseId);
+        verify(mockStudentsDb, never()).getStudentForEmail(anyString(), anyString());
+    }
+
     @Test
     public void testSearchStudents_withInstructorFilter_appliesFilter() throws Exception {
         HttpSolrClient mockClient = mock(HttpSolrClient.class);
@@ -148,7 +195,8 @@ public class StudentSearchManagerTest extends BaseTestCase {
 
         when(mockClient.query(eq("students"), any(SolrQuery.class))).thenReturn(mockResponse);
         when(mockResponse.getResults()).thenReturn(mockResults);
-        when(mockStudentsDb.getStudentForEmail(course.getId(), "student@example.com")).thenReturn(student);
+        when(mockStudentsDb.getStudentsForCourseEmails(Map.of(course.getId(), List.of("student@example.com"))))
+                .thenReturn(new ArrayList<>(List.of(student)));
 
         List<Student> results = managerWithMock.searchStudents("student", Arrays.asList(instructor));
 
@@ -193,8 +241,8 @@ public class StudentSearchManagerTest extends BaseTestCase {
         @SuppressWarnings("unchecked")
         ArgumentCaptor<Collection<SolrInputDocument>> collectionCaptor =
                 ArgumentCaptor.forClass(Collection.class);
-        verify(mockClient).add(eq("students"), collectionCaptor.capture());
-        verify(mockClient).commit(eq("students"));
+        verify(mockClient).add(eq("students"), collectionCaptor.capture(), eq(SearchManager.COMMIT_WITHIN_MS));
+        verify(mockClient, never()).commit(anyString());
 
         Collection<SolrInputDocument> capturedCollection = collectionCaptor.getValue();
         assertNotNull(capturedCollection);
@@ -208,6 +256,43 @@ public class StudentSearchManagerTest extends BaseTestCase {
         assertNotNull(document.getFieldValue("_text_"));
     }
 
+    @Test
+    public void testPutDocuments_withMockedClient_allDocumentsSentInOneRequest() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        CoursesDb mockCoursesDb = mock(CoursesDb.class);
+        UsersDb mockUsersDb = mock(UsersDb.class);
+        StudentSearchManager managerWithMock =
+                new StudentSearchManager(mockClient, mockCoursesDb, mockUsersDb, false);
+
+        Course course = createTestCourse();
+        Student firstStudent = createTestStudent(course);
+        Student secondStudent = createTestStudent(course);
+        secondStudent.setEmail("second-student@example.com");
+
+        when(mockCoursesDb.getCourse(course.getId())).thenReturn(course);
+
+        managerWithMock.putDocuments(Arrays.asList(firstStudent, null, secondStudent));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<SolrInputDocument>> collectionCaptor =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(mockClient).add(eq("students"), collectionCaptor.capture(), eq(SearchManager.COMMIT_WITHIN_MS));
+        verify(mockClient, never()).commit(anyString());
+
+        Collection<SolrInputDocument> capturedCollection = collectionCaptor.getValue();
+        assertEquals(capturedCollection.size(), 2);
+    }
+
+    @Test
+    public void testPutDocuments_withEmptyList_doesNothing() throws Exception {
+        HttpSolrClient mockClient = mock(HttpSolrClient.class);
+        StudentSearchManager managerWithMock = new StudentSearchManager(mockClient, false);
+
+        managerWithMock.putDocuments(new ArrayList<>());
+
+        verifyNoInteractions(mockClient);
+    }
+
     @Test
     public void testDeleteDocuments_withMockedClient_success() throws Exception {
         HttpSolrClient mockClient = mock(HttpSolrClient.class);
@@ -219,8 +304,8 @@ public class StudentSearchManagerTest extends BaseTestCase {
 
         managerWithMock.deleteDocuments(keys);
 
-        verify(mockClient).deleteById("students", keys);
-        verify(mockClient).commit("students");
+        verify(mockClient).deleteById("students", keys, SearchManager.COMMIT_WITHIN_MS);
+        verify(mockClient, never()).commit(anyString());
     }
 
     private Course createTestCourse() {
@@ -128,6 +128,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
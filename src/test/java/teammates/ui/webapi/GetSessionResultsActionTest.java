@@ -44,6 +44,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                 Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
                 Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
                 Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_INCLUDE_STATISTICS, "true",
         };
 
         GetSessionResultsAction a = getAction(submissionParams);
@@ -55,7 +56,8 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                 logic.getSessionResultsForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
                         accessibleFeedbackSession.getCourseId(),
                         instructorAttributes.getEmail(),
-                        null, null, FeedbackResultFetchType.BOTH));
+                        null, null, FeedbackResultFetchType.BOTH),
+                true);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
@@ -86,7 +88,8 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                         logic.getSessionResultsForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
                                 accessibleFeedbackSession.getCourseId(),
                                 instructorAttributes.getEmail(),
-                                null, section, fetchType));
+                                null, section, fetchType),
+                        false);
 
                 assertTrue(isSessionResultsDataEqual(expectedResults, output));
             }
@@ -101,6 +104,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                 Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
                 Const.ParamsNames.INTENT, Intent.STUDENT_RESULT.name(),
                 Const.ParamsNames.PREVIEWAS, studentAttributes.getEmail(),
+                Const.ParamsNames.FEEDBACK_RESULTS_INCLUDE_STATISTICS, "true",
         };
 
         a = getAction(submissionParams);
@@ -112,7 +116,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                         accessibleFeedbackSession.getCourseId(),
                         studentAttributes.getEmail(),
                         false, null, true),
-                studentAttributes);
+                studentAttributes, true);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
@@ -136,7 +140,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
                         accessibleFeedbackSession.getCourseId(),
                         studentAttributes.getEmail(),
                         false, null, false),
-                studentAttributes);
+                studentAttributes, false);
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
     }
@@ -218,7 +222,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
     private boolean isQuestionOutputEqual(SessionResultsData.QuestionOutput self,
                                           SessionResultsData.QuestionOutput other) {
         if (!JsonUtils.toJson(self.getFeedbackQuestion()).equals(JsonUtils.toJson(other.getFeedbackQuestion()))
-                || !self.getQuestionStatistics().equals(other.getQuestionStatistics())
+                || !JsonUtils.toJson(self.getQuestionStatistics()).equals(JsonUtils.toJson(other.getQuestionStatistics()))
                 || self.getHasResponseButNotVisibleForPreview() != other.getHasResponseButNotVisibleForPreview()
                 || self.getHasCommentNotVisibleForPreview() != other.getHasCommentNotVisibleForPreview()) {
             return false;
@@ -183,7 +183,6 @@ describe('QuestionResponsePanelComponent', () => {
 
   const testFeedbackQuestionModel: FeedbackQuestionModel = {
     feedbackQuestion: testQuestion1,
-    questionStatistics: '',
     allResponses: [],
     responsesToSelf: [],
     responsesFromSelf: [],
@@ -228,7 +227,6 @@ describe('QuestionResponsePanelComponent', () => {
     component.questions = [
       {
         feedbackQuestion: testQuestion1,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [],
         responsesFromSelf: [
@@ -258,7 +256,6 @@ describe('QuestionResponsePanelComponent', () => {
       },
       {
         feedbackQuestion: testQuestion2,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [
           {
@@ -315,7 +312,6 @@ describe('QuestionResponsePanelComponent', () => {
       },
       {
         feedbackQuestion: testQuestion3,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [],
         responsesFromSelf: [
@@ -364,7 +360,6 @@ describe('QuestionResponsePanelComponent', () => {
     component.questions = [
       {
         feedbackQuestion: testQuestionAnonymousResponse1,
-        questionStatistics: '',
         allResponses: [
           {
             isMissingResponse: false,
@@ -463,7 +458,6 @@ describe('QuestionResponsePanelComponent', () => {
       },
       {
         feedbackQuestion: testQuestionAnonymousResponse2,
-        questionStatistics: '',
         allResponses: [
           {
             isMissingResponse: false,
@@ -515,7 +509,6 @@ describe('QuestionResponsePanelComponent', () => {
     component.questions = [
       {
         feedbackQuestion: testQuestion1,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [],
         responsesFromSelf: [],
@@ -528,7 +521,6 @@ describe('QuestionResponsePanelComponent', () => {
       },
       {
         feedbackQuestion: testQuestion3,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [],
         responsesFromSelf: [
@@ -568,7 +560,6 @@ describe('QuestionResponsePanelComponent', () => {
       },
       {
         feedbackQuestion: testQuestion4,
-        questionStatistics: '',
         allResponses: [],
         responsesToSelf: [],
         responsesFromSelf: [
@@ -608,7 +599,6 @@ describe('QuestionResponsePanelComponent', () => {
       questions: [
         {
           feedbackQuestion: testQuestion1,
-          questionStatistics: '',
           allResponses: [],
           hasResponseButNotVisibleForPreview: false,
           hasCommentNotVisibleForPreview: false,
@@ -631,6 +621,7 @@ describe('QuestionResponsePanelComponent', () => {
       questionId: testQuestion1.feedbackQuestionId,
       key: '',
       previewAs: '',
+      includeStatistics: true,
     });
     expect(testFeedbackQuestionModel.isLoading).toBe(false);
     expect(testFeedbackQuestionModel.isLoaded).toBe(true);
@@ -110,6 +110,7 @@ export class QuestionResponsePanelComponent {
       intent: this.intent,
       key: this.regKey,
       previewAs: this.previewAsPerson,
+      includeStatistics: true,
     }).subscribe({
       next: (sessionResults: SessionResults) => {
         const responses: QuestionOutput = sessionResults.questions[0];
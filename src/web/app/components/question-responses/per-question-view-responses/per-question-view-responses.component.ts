@@ -4,6 +4,7 @@ import { NgbModal, NgbModalRef } from '@ng-bootstrap/ng-bootstrap';
 import { FeedbackResponsesService } from '../../../../services/feedback-responses.service';
 import { TableComparatorService } from '../../../../services/table-comparator.service';
 import {
+  FeedbackQuestionResultStatistics,
   FeedbackSession, FeedbackSessionPublishStatus, FeedbackSessionSubmissionStatus,
   ResponseOutput, ResponseVisibleSetting, SessionVisibleSetting,
 } from '../../../../types/api-output';
@@ -65,7 +66,7 @@ export class PerQuestionViewResponsesComponent extends InstructorResponsesViewBa
     instructorDeadlines: {},
   };
   @Input() isDisplayOnly: boolean = false;
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
 
   responsesToShow: ResponseOutput[] = [];
   sortBy: SortBy = SortBy.NONE;
@@ -2,6 +2,7 @@ import { NgIf } from '@angular/common';
 import { Component, Input } from '@angular/core';
 import {
   FeedbackQuestionDetails,
+  FeedbackQuestionResultStatistics,
   FeedbackQuestionType,
   FeedbackResponseDetails,
 } from '../../../../types/api-output';
@@ -47,7 +48,7 @@ export class SingleResponseComponent {
   };
 
   @Input() isStudentPage: boolean = false;
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
   @Input() giverEmail: string = '';
   @Input() recipientEmail: string = '';
 
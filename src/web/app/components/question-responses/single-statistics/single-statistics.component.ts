@@ -4,6 +4,7 @@ import { FeedbackResponsesService } from '../../../../services/feedback-response
 import {
   FeedbackParticipantType,
   FeedbackQuestionDetails,
+  FeedbackQuestionResultStatistics,
   FeedbackQuestionType,
   ResponseOutput,
 } from '../../../../types/api-output';
@@ -51,7 +52,7 @@ export class SingleStatisticsComponent implements OnInit, OnChanges {
   };
   @Input() recipientType: FeedbackParticipantType = FeedbackParticipantType.NONE;
   @Input() isStudent: boolean = false;
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
   @Input() displayContributionStats: boolean = true;
   @Input() section: string = '';
   @Input() sectionType: InstructorSessionResultSectionType = InstructorSessionResultSectionType.EITHER;
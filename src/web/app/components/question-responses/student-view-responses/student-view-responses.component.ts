@@ -3,6 +3,7 @@ import { Component, Input, OnInit } from '@angular/core';
 import {
   FeedbackParticipantType,
   FeedbackQuestion,
+  FeedbackQuestionResultStatistics,
   FeedbackQuestionType, NumberOfEntitiesToGiveFeedbackToSetting,
   ResponseOutput,
 } from '../../../../types/api-output';
@@ -54,7 +55,7 @@ export class StudentViewResponsesComponent implements OnInit {
     showRecipientNameTo: [],
   };
   @Input() responses: ResponseOutput[] = [];
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
   @Input() isSelfResponses: boolean = false;
   @Input() timezone: string = 'UTC';
 
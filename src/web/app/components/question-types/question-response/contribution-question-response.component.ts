@@ -5,6 +5,7 @@ import {
   ContributionStatistics,
   FeedbackContributionQuestionDetails,
   FeedbackContributionResponseDetails,
+  FeedbackQuestionResultStatistics,
 } from '../../../../types/api-output';
 import {
   DEFAULT_CONTRIBUTION_QUESTION_DETAILS,
@@ -30,7 +31,7 @@ export class ContributionQuestionResponseComponent
     extends QuestionResponse<FeedbackContributionResponseDetails, FeedbackContributionQuestionDetails>
     implements OnInit {
 
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
   @Input() giverEmail: string = '';
   @Input() recipientEmail: string = '';
 
@@ -48,7 +49,7 @@ export class ContributionQuestionResponseComponent
   ngOnInit(): void {
     this.answer = this.responseDetails.answer;
     if (this.statistics) {
-      const statisticsObject: ContributionStatistics = JSON.parse(this.statistics);
+      const statisticsObject: ContributionStatistics = this.statistics as ContributionStatistics;
       if (this.giverEmail === this.recipientEmail) {
         this.answer = statisticsObject.results[this.giverEmail].claimed;
       } else {
@@ -4,6 +4,7 @@ import {
   ContributionStatisticsEntry,
   FeedbackContributionQuestionDetails,
   FeedbackContributionResponseDetails,
+  FeedbackQuestionResultStatistics,
 } from '../../../../../types/api-output';
 import { CONTRIBUTION_POINT_NOT_SUBMITTED } from '../../../../../types/feedback-response-details';
 import { QuestionStatistics } from '../question-statistics';
@@ -20,7 +21,7 @@ interface ContributionStatisticsEntryExt extends ContributionStatisticsEntry {
 export class ContributionQuestionStatisticsCalculation
     extends QuestionStatistics<FeedbackContributionQuestionDetails, FeedbackContributionResponseDetails> {
 
-  @Input() statistics: string = '';
+  @Input() statistics?: FeedbackQuestionResultStatistics;
 
   emailToTeamName: Record<string, string> = {};
   emailToName: Record<string, string> = {};
@@ -49,7 +50,7 @@ export class ContributionQuestionStatisticsCalculation
     };
 
     if (this.statistics) {
-      const statisticsObject: ContributionStatistics = JSON.parse(this.statistics);
+      const statisticsObject: ContributionStatistics = this.statistics as ContributionStatistics;
       if (this.isStudent) {
         const results: ContributionStatisticsEntry[] = Object.values(statisticsObject.results);
         if (results.length) {
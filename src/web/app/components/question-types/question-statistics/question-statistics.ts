@@ -3,6 +3,7 @@ import {
   ContributionStatistics, ContributionStatisticsEntry,
   FeedbackParticipantType,
   FeedbackQuestionDetails,
+  FeedbackQuestionResultStatistics,
   FeedbackResponseDetails,
 } from '../../../../types/api-output';
 
@@ -41,30 +42,34 @@ export class QuestionStatistics<Q extends FeedbackQuestionDetails, R extends Fee
     this.question = question;
   }
 
-  static appendStats = (prevStats: string, newStats: string): string => {
+  static appendStats = (prevStats?: FeedbackQuestionResultStatistics,
+                        newStats?: FeedbackQuestionResultStatistics): FeedbackQuestionResultStatistics | undefined => {
 
-    if (prevStats === '') {
+    if (!prevStats) {
       return newStats;
     }
-    if (newStats === '') {
+    if (!newStats) {
       return prevStats;
     }
 
-    // Stats not being empty means it belongs to contribution question
-    const prevStatsJSON: ContributionStatistics = JSON.parse(prevStats);
-    const newStatsJSON: ContributionStatistics = JSON.parse(newStats);
-    for (const email of Object.keys(newStatsJSON.results)) {
-      const newStatsEntryForEmail: ContributionStatisticsEntry = newStatsJSON.results[email];
+    // Stats being present means it belongs to contribution question
+    const prevContributionStats: ContributionStatistics = prevStats as ContributionStatistics;
+    const newContributionStats: ContributionStatistics = newStats as ContributionStatistics;
+    const appendedStats: ContributionStatistics = {
+      results: { ...prevContributionStats.results },
+    };
+    for (const email of Object.keys(newContributionStats.results)) {
+      const newStatsEntryForEmail: ContributionStatisticsEntry = newContributionStats.results[email];
       const { claimed }: { claimed: number } = newStatsEntryForEmail;
       const { perceived }: { perceived: number } = newStatsEntryForEmail;
       if (claimed < 0 && perceived < 0) {
         continue;
       }
       // If new entry has submitted stats, overwrite the old data
-      prevStatsJSON.results[email] = newStatsEntryForEmail;
+      appendedStats.results[email] = newStatsEntryForEmail;
     }
 
-    return JSON.stringify(prevStatsJSON);
+    return appendedStats;
   };
 
 }
@@ -368,7 +368,6 @@ export const EXAMPLE_NUMERICAL_SCALE_RESPONSE_OUTPUT: ResponseOutput[] = [
 export const EXAMPLE_NUMERICAL_SCALE_QUESTION_TAB_MODEL: QuestionTabModel = {
   question: EXAMPLE_NUMERICAL_SCALE_QUESTION_MODEL,
   responses: EXAMPLE_NUMERICAL_SCALE_RESPONSE_OUTPUT,
-  statistics: '',
   hasPopulated: true,
   isTabExpanded: true,
 };
@@ -726,7 +725,6 @@ export const EXAMPLE_DISTRIBUTE_POINT_OPTION_RESPONSE_OUTPUT: ResponseOutput[] =
 export const EXAMPLE_DISTRIBUTE_POINT_OPTION_QUESTION_TAB_MODEL: QuestionTabModel = {
   question: EXAMPLE_DISTRIBUTED_POINT_OPTION_MODEL,
   responses: EXAMPLE_DISTRIBUTE_POINT_OPTION_RESPONSE_OUTPUT,
-  statistics: '',
   hasPopulated: true,
   isTabExpanded: true,
 };
@@ -1194,7 +1192,6 @@ export const EXAMPLE_RUBRIC_QUESTION_RESPONSE_OUTPUT: ResponseOutput[] = [
 export const EXAMPLE_RUBRIC_QUESTION_QUESTION_TAB_MODEL: QuestionTabModel = {
   question: EXAMPLE_RUBRIC_QUESTION_MODEL,
   responses: EXAMPLE_RUBRIC_QUESTION_RESPONSE_OUTPUT,
-  statistics: '',
   hasPopulated: true,
   isTabExpanded: true,
 };
@@ -1383,7 +1380,6 @@ export const EXAMPLE_RANK_RECIPIENT_RESPONSE_OUTPUT: ResponseOutput[] = [
 export const EXAMPLE_RANK_RECIPIENT_QUESTION_TAB_MODEL: QuestionTabModel = {
   question: EXAMPLE_RANK_RECIPIENT_QUESTION_MODEL,
   responses: EXAMPLE_RANK_RECIPIENT_RESPONSE_OUTPUT,
-  statistics: '',
   hasPopulated: true,
   isTabExpanded: true,
 };
@@ -277,7 +277,6 @@ export const EXAMPLE_GRQ_RESPONSES: Record<string, SectionTabModel> = {
           showRecipientNameTo: [],
           customNumberOfEntitiesToGiveFeedbackTo: 0,
         },
-        questionStatistics: '',
         allResponses: [
           {
             responseId: 'feedbackQuestionId%bob@example.com%bob@example.com',
@@ -357,7 +356,6 @@ export const EXAMPLE_QUESTIONS_WITH_RESPONSES: FeedbackQuestionModel[] = [{
     showRecipientNameTo: [],
     customNumberOfEntitiesToGiveFeedbackTo: 0,
   },
-  questionStatistics: '',
   allResponses: [EXAMPLE_RESPONSE_WITH_COMMENT],
   responsesToSelf: [
     {
@@ -250,7 +250,6 @@ export class InstructorSessionResultPageComponent extends InstructorCommentsComp
               this.questionsModel[question.feedbackQuestionId] = {
                 question,
                 responses: [],
-                statistics: '',
                 hasPopulated: false,
                 isTabExpanded: false,
               };
@@ -386,6 +385,7 @@ export class InstructorSessionResultPageComponent extends InstructorCommentsComp
             intent: Intent.FULL_DETAIL,
             groupBySection: sectionName,
             sectionByGiverReceiver: 'both',
+            includeStatistics: true,
           });
         }),
     ).subscribe(
@@ -444,6 +444,7 @@ export class InstructorSessionResultPageComponent extends InstructorCommentsComp
       feedbackSessionName: this.session.feedbackSessionName,
       intent: Intent.FULL_DETAIL,
       groupBySection: sectionName,
+      includeStatistics: true,
     })
     .subscribe(
       {
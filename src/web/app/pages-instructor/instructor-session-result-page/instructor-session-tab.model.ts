@@ -1,4 +1,9 @@
-import { FeedbackQuestion, QuestionOutput, ResponseOutput } from 'src/web/types/api-output';
+import {
+  FeedbackQuestion,
+  FeedbackQuestionResultStatistics,
+  QuestionOutput,
+  ResponseOutput,
+} from 'src/web/types/api-output';
 
 /**
  * Per section view tab model.
@@ -16,7 +21,7 @@ export interface SectionTabModel {
 export interface QuestionTabModel {
   question: FeedbackQuestion;
   responses: ResponseOutput[];
-  statistics: string; // TODO will define types later
+  statistics?: FeedbackQuestionResultStatistics;
   hasPopulated: boolean;
   errorMessage?: string;
   isTabExpanded: boolean;
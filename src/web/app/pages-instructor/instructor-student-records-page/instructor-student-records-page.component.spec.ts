@@ -3,7 +3,10 @@ import { provideHttpClientTesting } from '@angular/common/http/testing';
 import { ComponentFixture, TestBed, waitForAsync } from '@angular/core/testing';
 import { ActivatedRoute, provideRouter } from '@angular/router';
 import { of } from 'rxjs';
+import SpyInstance = jest.SpyInstance;
 import { InstructorStudentRecordsPageComponent } from './instructor-student-records-page.component';
+import { FeedbackSessionsService } from '../../../services/feedback-sessions.service';
+import { FeedbackSession, SessionResults } from '../../../types/api-output';
 
 describe('InstructorStudentRecordsPageComponent', () => {
   let component: InstructorStudentRecordsPageComponent;
@@ -59,4 +62,23 @@ describe('InstructorStudentRecordsPageComponent', () => {
     expect(fixture).toMatchSnapshot();
   });
 
+  it('should request question statistics when loading student results', () => {
+    const feedbackSessionsService: FeedbackSessionsService = TestBed.inject(FeedbackSessionsService);
+    jest.spyOn(feedbackSessionsService, 'getFeedbackSessionsForInstructor').mockReturnValue(of({
+      feedbackSessions: [{ courseId: 'su1337', feedbackSessionName: 'First Session' } as FeedbackSession],
+    }));
+    const getResultsSpy: SpyInstance = jest.spyOn(feedbackSessionsService, 'getFeedbackSessionResults')
+        .mockReturnValue(of({ questions: [] } as SessionResults));
+
+    component.courseId = 'su1337';
+    component.loadStudentResults();
+
+    expect(getResultsSpy).toHaveBeenCalledWith(expect.objectContaining({
+      courseId: 'su1337',
+      feedbackSessionName: 'First Session',
+      includeStatistics: true,
+    }));
+    expect(component.sessionTabs.length).toBe(1);
+  });
+
 });
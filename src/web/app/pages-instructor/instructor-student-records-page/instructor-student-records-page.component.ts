@@ -145,6 +145,7 @@ export class InstructorStudentRecordsPageComponent extends InstructorCommentsCom
             feedbackSessionName: feedbackSession.feedbackSessionName,
             groupBySection: this.studentSection,
             intent: Intent.FULL_DETAIL,
+            includeStatistics: true,
           }).pipe(map((results: SessionResults) => {
             // sort questions by question number
             results.questions.sort((a: QuestionOutput, b: QuestionOutput) =>
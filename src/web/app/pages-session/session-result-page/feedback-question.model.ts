@@ -1,11 +1,11 @@
-import { FeedbackQuestion, ResponseOutput } from 'src/web/types/api-output';
+import { FeedbackQuestion, FeedbackQuestionResultStatistics, ResponseOutput } from 'src/web/types/api-output';
 
 /**
  * Feedback question model.
  */
 export interface FeedbackQuestionModel {
   feedbackQuestion: FeedbackQuestion;
-  questionStatistics: string;
+  questionStatistics?: FeedbackQuestionResultStatistics;
   allResponses: ResponseOutput[];
   responsesToSelf: ResponseOutput[];
   responsesFromSelf: ResponseOutput[];
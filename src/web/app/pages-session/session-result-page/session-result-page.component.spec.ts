@@ -364,7 +364,6 @@ describe('SessionResultPageComponent', () => {
     };
     const testFeedbackQuestionModel: FeedbackQuestionModel = {
       feedbackQuestion: testFeedbackQuestion,
-      questionStatistics: '',
       allResponses: [],
       responsesToSelf: [],
       responsesFromSelf: [],
@@ -314,7 +314,6 @@ export class SessionResultPageComponent implements OnInit {
                 for (const question of feedbackQuestions.questions) {
                   this.questions.push({
                     feedbackQuestion: question,
-                    questionStatistics: '',
                     allResponses: [],
                     responsesToSelf: [],
                     responsesFromSelf: [],
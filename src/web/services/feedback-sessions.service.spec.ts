@@ -134,6 +134,23 @@ describe('FeedbackSessionsService', () => {
     expect(spyHttpRequestService.get).toHaveBeenCalledWith(ResourceEndpoints.RESULT, paramMap);
   });
 
+  it('should request statistics only when asked to when retrieving feedback session results', () => {
+    const paramMap: Record<string, string> = {
+      courseid: 'CS3281',
+      fsname: 'test feedback session',
+      intent: Intent.FULL_DETAIL,
+      frincludestatistics: 'true',
+    };
+
+    service.getFeedbackSessionResults({
+      courseId: paramMap['courseid'],
+      feedbackSessionName: paramMap['fsname'],
+      intent: Intent.FULL_DETAIL,
+      includeStatistics: true,
+    });
+    expect(spyHttpRequestService.get).toHaveBeenCalledWith(ResourceEndpoints.RESULT, paramMap);
+  });
+
   it('should call put when moving session to recycle bin', () => {
     const paramMap: Record<string, string> = {
       courseid: 'CS3281',
@@ -352,6 +352,7 @@ export class FeedbackSessionsService {
       intent,
       questionId,
       groupBySection,
+      includeStatistics: showStatistics,
     }).pipe(
         map((results: SessionResults) =>
             this.sessionResultCsvService.getCsvForSessionResult(
@@ -374,6 +375,7 @@ export class FeedbackSessionsService {
     key?: string,
     sectionByGiverReceiver?: string,
     previewAs?: string,
+    includeStatistics?: boolean,
   }): Observable<SessionResults> {
     const paramMap: Record<string, string> = {
       courseid: queryParams.courseId,
@@ -401,6 +403,10 @@ export class FeedbackSessionsService {
       paramMap['previewas'] = queryParams.previewAs;
     }
 
+    if (queryParams.includeStatistics) {
+      paramMap['frincludestatistics'] = 'true';
+    }
+
     return this.httpRequestService.get(ResourceEndpoints.RESULT, paramMap);
   }
 